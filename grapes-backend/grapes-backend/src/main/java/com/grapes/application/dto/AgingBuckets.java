@@ -0,0 +1,18 @@
+package com.grapes.application.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Saldo pendente em faixas de idade.
+ * Positivo = a contraparte me deve; negativo = eu devo.
+ */
+public record AgingBuckets(
+        BigDecimal days0To30,
+        BigDecimal days31To60,
+        BigDecimal days61To90,
+        BigDecimal over90Days,
+        BigDecimal total
+) {
+    public static final AgingBuckets EMPTY =
+            new AgingBuckets(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+}
@@ -0,0 +1,14 @@
+package com.grapes.application.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO do relatório de envelhecimento de dívidas (GET /battles/aging).
+ * As idades são contadas em dias inteiros até asOf.
+ */
+public record AgingReportResponse(
+        LocalDate asOf,
+        AgingBuckets totals,
+        List<CounterpartyAgingResponse> counterparties   // Da dívida mais antiga para a mais nova
+) {}
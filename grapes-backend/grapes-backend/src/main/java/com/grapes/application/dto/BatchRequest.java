@@ -0,0 +1,42 @@
+package com.grapes.application.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO para requisição em lote (POST /batch)
+ *
+ * Exemplo:
+ * {
+ *   "atomic": true,
+ *   "operations": [
+ *     { "method": "POST", "path": "/friends/{id}/accept" },
+ *     { "method": "POST", "path": "/battles", "body": { "opponentNickname": "Ana", ... } }
+ *   ]
+ * }
+ */
+public record BatchRequest(
+        boolean atomic,             // true = tudo ou nada (uma transação só)
+
+        @NotEmpty(message = "Informe ao menos uma operação")
+        @Size(max = 50, message = "Máximo de 50 operações por lote")
+        List<@Valid Operation> operations
+) {
+    /**
+     * Uma sub-requisição do lote
+     */
+    public record Operation(
+            @NotBlank(message = "Método é obrigatório")
+            String method,          // GET, POST, DELETE
+
+            @NotBlank(message = "Caminho é obrigatório")
+            String path,            // Ex: /battles/{id}/pay
+
+            Map<String, Object> body
+    ) {}
+}
@@ -0,0 +1,24 @@
+package com.grapes.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO para resposta de requisição em lote
+ *
+ * - committed: false se o lote era atômico e alguma operação falhou
+ *   (nesse caso NADA foi gravado, mesmo as operações com status 2xx)
+ */
+public record BatchResponse(
+        boolean atomic,
+        boolean committed,
+        List<Item> results
+) {
+    /**
+     * Resultado de uma sub-requisição (mesmo status e corpo do endpoint original)
+     */
+    public record Item(
+            int index,
+            int status,
+            Object body
+    ) {}
+}
@@ -0,0 +1,19 @@
+package com.grapes.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.grapes.domain.model.BattleStatus;
+
+/**
+ * Filtros de GET /battles/query. Todos opcionais e combináveis.
+ */
+public record BattleFilter(
+        String counterpartyNickname,   // Batalhas com esse jogador
+        String category,               // Batalhas dessa categoria
+        BattleStatus status,
+        LocalDateTime from,            // createdAt >= from
+        LocalDateTime to,              // createdAt < to
+        BigDecimal minAmount,          // amount >= minAmount
+        BigDecimal maxAmount           // amount <= maxAmount
+) {}
@@ -0,0 +1,31 @@
+package com.grapes.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.UUID;
+
+import com.grapes.infrastructure.audit.AuditAction;
+import com.grapes.infrastructure.audit.AuditRecord;
+
+/**
+ * DTO de um registro do histórico de auditoria de uma batalha
+ */
+public record BattleHistoryEntryResponse(
+        long sequence,
+        AuditAction action,
+        String actorNickname,         // Quem fez (null se o jogador não existe mais)
+        BigDecimal remainingAmount,   // Saldo depois da ação (null se não registrado)
+        String at
+) {
+    public static BattleHistoryEntryResponse from(AuditRecord record, Map<UUID, String> nicknames) {
+        return new BattleHistoryEntryResponse(
+                record.sequence(),
+                record.entry().action(),
+                nicknames.get(record.entry().actorId()),
+                record.entry().remainingAmount(),
+                LocalDateTime.ofInstant(record.at(), ZoneId.systemDefault()).toString()
+        );
+    }
+}
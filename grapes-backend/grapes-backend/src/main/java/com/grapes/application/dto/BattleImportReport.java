@@ -0,0 +1,26 @@
+package com.grapes.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO para o resultado da importação de batalhas (POST /battles/import)
+ *
+ * Linhas com erro não são importadas; as demais sim.
+ * No modo dryRun nada é gravado: "imported" diz quantas SERIAM importadas.
+ */
+public record BattleImportReport(
+        boolean dryRun,
+        long rows,              // Linhas de dados lidas (sem o cabeçalho)
+        long imported,
+        long failed,
+        List<RowError> errors,  // Limitado a MAX_ERRORS (failed tem o total)
+        long elapsedMs,
+        long rowsPerSecond
+) {
+    public static final int MAX_ERRORS = 1000;
+
+    /**
+     * Erro de uma linha do arquivo (line = número da linha, 1 = cabeçalho)
+     */
+    public record RowError(long line, String message) {}
+}
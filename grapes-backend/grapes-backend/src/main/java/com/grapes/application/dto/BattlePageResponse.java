@@ -0,0 +1,12 @@
+package com.grapes.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO de uma página de batalhas (paginação por cursor).
+ * nextCursor null = não há mais páginas.
+ */
+public record BattlePageResponse(
+        List<BattleResponse> battles,
+        String nextCursor
+) {}
@@ -0,0 +1,29 @@
+package com.grapes.application.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.grapes.domain.model.BattlePayment;
+
+/**
+ * DTO para resposta de pagamento de batalha
+ */
+public record BattlePaymentResponse(
+        UUID id,
+        String recordedByNickname,  // Quem registrou o pagamento
+        BigDecimal amount,
+        BigDecimal remainingAfter,  // Quanto faltava depois dele
+        String note,
+        String paidAt
+) {
+    public static BattlePaymentResponse from(BattlePayment payment) {
+        return new BattlePaymentResponse(
+                payment.getId(),
+                payment.getRecordedBy().getNickname(),
+                payment.getAmount(),
+                payment.getRemainingAfter(),
+                payment.getNote(),
+                payment.getPaidAt().toString()
+        );
+    }
+}
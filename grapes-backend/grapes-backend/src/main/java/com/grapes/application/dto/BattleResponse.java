@@ -14,11 +14,13 @@ public record BattleResponse(
         String opponentName,        // Nome do oponente
         String opponentNickname,    // Nickname (null se externo)
         BigDecimal amount,          // Valor da batalha
+        BigDecimal remainingAmount, // Quanto ainda falta pagar
         boolean isCreditor,         // EU sou o credor?
         String category,
         String description,
         String status,
-        String createdAt
+        String createdAt,
+        String dueDate              // null se não tiver vencimento
 ) {
     /**
      * Cria resposta do ponto de vista do player
@@ -40,11 +42,13 @@ public record BattleResponse(
                 battle.getOpponentName(viewer),
                 opponentNickname,
                 battle.getAmount(),
+                battle.getRemainingAmount(),
                 battle.isCreditor(viewer),
-                battle.getCategory(),
+                battle.getCategory().getName(),
                 battle.getDescription(),
                 battle.getStatus().name(),
-                battle.getCreatedAt().toString()
+                battle.getCreatedAt().toString(),
+                battle.getDueDate() != null ? battle.getDueDate().toString() : null
         );
     }
 }
@@ -0,0 +1,28 @@
+package com.grapes.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO para quitar/remover várias batalhas de uma vez
+ *
+ * Informe os IDs, um filtro, ou os dois (os critérios se somam):
+ * - { "ids": [...] }
+ * - { "counterpartyNickname": "Ana" }        → todas com a Ana
+ * - { "category": "Comida" }                 → todas da categoria
+ */
+public record BulkBattleActionRequest(
+        @Size(max = 1000, message = "Máximo de 1000 IDs por requisição")
+        List<UUID> ids,
+
+        String counterpartyNickname,   // Filtro: batalhas com esse jogador
+        String category                // Filtro: batalhas dessa categoria
+) {
+    public boolean hasCriteria() {
+        return (ids != null && !ids.isEmpty())
+                || (counterpartyNickname != null && !counterpartyNickname.isBlank())
+                || (category != null && !category.isBlank());
+    }
+}
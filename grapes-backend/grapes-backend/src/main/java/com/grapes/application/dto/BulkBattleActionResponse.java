@@ -0,0 +1,12 @@
+package com.grapes.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO para resposta de operação em massa (quantas e quais batalhas foram afetadas)
+ */
+public record BulkBattleActionResponse(
+        int affected,
+        List<UUID> ids
+) {}
@@ -0,0 +1,19 @@
+package com.grapes.application.dto;
+
+/**
+ * DTO para o resultado de cada item de uma operação em massa de batalhas
+ */
+public record BulkBattleResult(
+        int index,              // Posição do item na requisição
+        boolean created,
+        BattleResponse battle,  // Preenchido se created = true
+        String error            // Preenchido se created = false
+) {
+    public static BulkBattleResult created(int index, BattleResponse battle) {
+        return new BulkBattleResult(index, true, battle, null);
+    }
+
+    public static BulkBattleResult failed(int index, String error) {
+        return new BulkBattleResult(index, false, null, error);
+    }
+}
@@ -0,0 +1,18 @@
+package com.grapes.application.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO para criação de várias batalhas de uma vez (POST /battles/bulk)
+ *
+ * Cada item segue as regras do CreateBattleRequest, mas é validado
+ * individualmente: um item inválido não derruba os outros.
+ */
+public record BulkCreateBattleRequest(
+        @NotEmpty(message = "Informe ao menos uma batalha")
+        @Size(max = 200, message = "Máximo de 200 batalhas por requisição")
+        List<CreateBattleRequest> battles
+) {}
@@ -0,0 +1,25 @@
+package com.grapes.application.dto;
+
+import java.time.LocalDateTime;
+
+import com.grapes.domain.model.Category;
+import com.grapes.domain.model.PlayerCategoryStat;
+
+/**
+ * DTO de categoria usada pelo jogador (para o seletor de categorias)
+ */
+public record CategoryResponse(
+        Integer id,
+        String name,
+        long battleCount,
+        LocalDateTime lastUsedAt
+) {
+    public static CategoryResponse from(PlayerCategoryStat stat, Category category) {
+        return new CategoryResponse(
+                category.getId(),
+                category.getName(),
+                stat.getBattleCount(),
+                stat.getLastUsedAt()
+        );
+    }
+}
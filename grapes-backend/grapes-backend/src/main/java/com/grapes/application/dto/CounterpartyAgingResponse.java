@@ -0,0 +1,15 @@
+package com.grapes.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Linha do relatório de envelhecimento: uma contraparte
+ */
+public record CounterpartyAgingResponse(
+        UUID playerId,              // null se for pessoa externa
+        String name,                // Nickname ou nome externo
+        long pendingBattles,
+        LocalDateTime oldestSince,  // Batalha pendente mais antiga
+        AgingBuckets buckets
+) {}
@@ -1,6 +1,7 @@
 package com.grapes.application.dto;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -23,5 +24,7 @@ public record CreateBattleRequest(
         String description,
         
         @NotNull(message = "Informe quem é o credor")
-        Boolean iAmCreditor          // true = eu vou receber, false = eu devo
+        Boolean iAmCreditor,         // true = eu vou receber, false = eu devo
+
+        LocalDate dueDate            // Vencimento (opcional): gera um lembrete no dia
 ) {}
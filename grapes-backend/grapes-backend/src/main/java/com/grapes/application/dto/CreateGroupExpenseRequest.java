@@ -0,0 +1,50 @@
+package com.grapes.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.grapes.domain.model.SplitMode;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO para criação de despesa em grupo (POST /groups/expenses)
+ *
+ * Exemplo (conta de R$ 100,00 para 3 pessoas, partes iguais):
+ * {
+ *   "totalAmount": 100.00, "category": "Comida", "splitMode": "EQUAL",
+ *   "participants": [ { "nickname": "Eu" }, { "nickname": "Ana" }, { "externalName": "Tio" } ]
+ * }
+ * → 33,34 + 33,33 + 33,33 (o centavo extra vai para o primeiro)
+ */
+public record CreateGroupExpenseRequest(
+        @NotNull(message = "Valor total é obrigatório")
+        @Positive(message = "Valor total deve ser positivo")
+        BigDecimal totalAmount,
+
+        @NotBlank(message = "Categoria é obrigatória")
+        String category,
+
+        String description,
+
+        @NotNull(message = "Informe o modo de divisão")
+        SplitMode splitMode,
+
+        @NotEmpty(message = "Informe os participantes")
+        @Size(max = 100, message = "Máximo de 100 participantes")
+        List<@Valid Participant> participants
+) {
+    /**
+     * Participante da divisão
+     */
+    public record Participant(
+            String nickname,        // Jogador do sistema (opcional se externalName)
+            String externalName,    // Pessoa externa (opcional se nickname)
+            BigDecimal weight       // Porcentagem (PERCENTAGE) ou valor (EXACT); ignorado em EQUAL
+    ) {}
+}
@@ -0,0 +1,17 @@
+package com.grapes.application.dto;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * DTO para registrar um pagamento de batalha (POST /battles/{id}/payments)
+ */
+public record CreatePaymentRequest(
+        @NotNull(message = "Valor é obrigatório")
+        @Positive(message = "Valor deve ser positivo")
+        BigDecimal amount,
+
+        String note     // Ex: "Pix de metade"
+) {}
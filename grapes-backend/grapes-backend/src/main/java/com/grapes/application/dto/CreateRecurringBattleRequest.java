@@ -0,0 +1,40 @@
+package com.grapes.application.dto;
+
+import java.math.BigDecimal;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * DTO para criação de batalha recorrente (POST /recurring-battles)
+ *
+ * Exemplo (aluguel todo dia 5, vence 10 dias depois):
+ * {
+ *   "opponentNickname": "Ana", "amount": 800.00, "category": "Aluguel",
+ *   "iAmCreditor": true, "schedule": "0 0 9 5 * *", "dueInDays": 10
+ * }
+ */
+public record CreateRecurringBattleRequest(
+        String opponentNickname,    // Nickname do amigo (opcional se externalName)
+        String externalName,        // Nome externo (opcional se opponentNickname)
+
+        @NotNull(message = "Valor é obrigatório")
+        @Positive(message = "Valor deve ser positivo")
+        BigDecimal amount,
+
+        @NotBlank(message = "Categoria é obrigatória")
+        String category,
+
+        String description,
+
+        @NotNull(message = "Informe quem é o credor")
+        Boolean iAmCreditor,        // true = eu vou receber, false = eu devo
+
+        @NotBlank(message = "Informe a regra de repetição")
+        String schedule,            // Cron (seg min hora dia mês dia-da-semana) ou @daily/@weekly/@monthly/@yearly
+
+        @PositiveOrZero(message = "dueInDays não pode ser negativo")
+        Integer dueInDays           // Vencimento N dias após cada ocorrência (opcional)
+) {}
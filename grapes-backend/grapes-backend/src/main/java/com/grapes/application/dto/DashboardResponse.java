@@ -0,0 +1,18 @@
+package com.grapes.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO para o painel inicial do app (GET /me/dashboard)
+ *
+ * Junta em uma resposta o que antes exigia 5 chamadas.
+ * Seções que demoraram demais vêm como null e aparecem em "incompleteSections".
+ */
+public record DashboardResponse(
+        PlayerPrivateResponse player,
+        List<BattleResponse> pendingBattles,
+        List<BattleResponse> battles,
+        List<FriendResponse> friends,
+        List<FriendshipResponse> friendRequests,
+        List<String> incompleteSections   // Ex: ["battles"] se estourou o tempo
+) {}
@@ -0,0 +1,29 @@
+package com.grapes.application.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.grapes.domain.model.ExpenseShare;
+
+/**
+ * DTO para resposta de uma parte de despesa em grupo
+ */
+public record ExpenseShareResponse(
+        UUID id,
+        String participantName,
+        String participantNickname,   // null se externo
+        BigDecimal amount,
+        String status,
+        String paidAt
+) {
+    public static ExpenseShareResponse from(ExpenseShare share) {
+        return new ExpenseShareResponse(
+                share.getId(),
+                share.getParticipantName(),
+                share.getParticipant() != null ? share.getParticipant().getNickname() : null,
+                share.getAmount(),
+                share.getStatus().name(),
+                share.getPaidAt() != null ? share.getPaidAt().toString() : null
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.grapes.application.dto;
+
+import com.grapes.infrastructure.feed.FeedItem;
+
+/**
+ * DTO de uma atividade do feed
+ */
+public record FeedItemResponse(
+        long id,
+        String type,                    // LEVEL_UP, BATTLE_SETTLED, NEW_FRIENDSHIP
+        String actorNickname,           // Amigo que fez a atividade
+        String counterpartNickname,     // Outro jogador envolvido (null se não houver)
+        int value,                      // Nível novo, batalhas quitadas...
+        String createdAt
+) {
+    public static FeedItemResponse from(FeedItem item) {
+        return new FeedItemResponse(
+                item.id(),
+                item.type().name(),
+                item.actorNickname(),
+                item.counterpartNickname(),
+                item.value(),
+                item.createdAt().toString()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.grapes.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO de uma página do feed (paginação por cursor).
+ * nextCursor null = não há mais páginas.
+ */
+public record FeedPageResponse(
+        List<FeedItemResponse> items,
+        String nextCursor
+) {}
@@ -0,0 +1,53 @@
+package com.grapes.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import com.grapes.domain.model.GroupExpense;
+
+/**
+ * DTO para resposta de despesa em grupo
+ *
+ * O resumo (partes pendentes, valor pago/pendente) vem de agregados
+ * calculados no banco sobre as partes.
+ * "shares" só vem preenchido no detalhe (GET /groups/expenses/{id}).
+ */
+public record GroupExpenseResponse(
+        UUID id,
+        String creatorNickname,     // Quem pagou a conta
+        BigDecimal totalAmount,
+        String category,
+        String description,
+        String splitMode,
+        String createdAt,
+        long shareCount,
+        long pendingShareCount,
+        BigDecimal paidAmount,
+        BigDecimal pendingAmount,
+        List<ExpenseShareResponse> shares
+) {
+    public static GroupExpenseResponse from(
+            GroupExpense expense,
+            long shareCount,
+            long pendingShareCount,
+            BigDecimal paidAmount,
+            BigDecimal pendingAmount,
+            List<ExpenseShareResponse> shares
+    ) {
+        return new GroupExpenseResponse(
+                expense.getId(),
+                expense.getCreator().getNickname(),
+                expense.getTotalAmount(),
+                expense.getCategory(),
+                expense.getDescription(),
+                expense.getSplitMode().name(),
+                expense.getCreatedAt().toString(),
+                shareCount,
+                pendingShareCount,
+                paidAmount,
+                pendingAmount,
+                shares
+        );
+    }
+}
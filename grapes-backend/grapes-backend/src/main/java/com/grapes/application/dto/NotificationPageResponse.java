@@ -0,0 +1,13 @@
+package com.grapes.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO de uma página da caixa de entrada (paginação por cursor).
+ * nextCursor null = não há mais páginas.
+ */
+public record NotificationPageResponse(
+        List<NotificationResponse> notifications,
+        String nextCursor,
+        long unreadCount
+) {}
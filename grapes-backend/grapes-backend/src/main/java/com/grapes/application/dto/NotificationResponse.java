@@ -0,0 +1,25 @@
+package com.grapes.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.grapes.domain.model.Notification;
+
+/**
+ * DTO de notificação da caixa de entrada
+ */
+public record NotificationResponse(
+        Long id,
+        String type,
+        @JsonRawValue String payload,   // JSON do tipo (ex: battleId, creatorNickname...)
+        boolean read,
+        String createdAt
+) {
+    public static NotificationResponse from(Notification notification) {
+        return new NotificationResponse(
+                notification.getId(),
+                notification.getType().name(),
+                notification.getPayload(),
+                notification.getReadAt() != null,
+                notification.getCreatedAt().toString()
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package com.grapes.application.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.RecurringBattle;
+
+/**
+ * DTO de batalha recorrente (do ponto de vista do player)
+ */
+public record RecurringBattleResponse(
+        UUID id,
+        String opponentName,        // Nome do oponente
+        String opponentNickname,    // Nickname (null se externo)
+        BigDecimal amount,
+        boolean isCreditor,         // EU sou o credor?
+        String category,
+        String description,
+        String schedule,
+        Integer dueInDays,
+        String nextRunAt,
+        String lastRunAt            // null se ainda não gerou nenhuma
+) {
+    public static RecurringBattleResponse from(RecurringBattle recurring, Player viewer) {
+        boolean viewerIsCreator = recurring.getCreator().getId().equals(viewer.getId());
+
+        String opponentNickname;
+        String opponentName;
+        if (!viewerIsCreator) {
+            opponentNickname = recurring.getCreator().getNickname();
+            opponentName = opponentNickname;
+        } else if (recurring.getOpponent() != null) {
+            opponentNickname = recurring.getOpponent().getNickname();
+            opponentName = opponentNickname;
+        } else {
+            opponentNickname = null;
+            opponentName = recurring.getExternalName();
+        }
+
+        return new RecurringBattleResponse(
+                recurring.getId(),
+                opponentName,
+                opponentNickname,
+                recurring.getAmount(),
+                viewerIsCreator == recurring.isCreatorIsCreditor(),
+                recurring.getCategory().getName(),
+                recurring.getDescription(),
+                recurring.getSchedule(),
+                recurring.getDueInDays(),
+                recurring.getNextRunAt().toString(),
+                recurring.getLastRunAt() != null ? recurring.getLastRunAt().toString() : null
+        );
+    }
+}
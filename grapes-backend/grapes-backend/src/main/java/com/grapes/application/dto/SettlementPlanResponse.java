@@ -0,0 +1,16 @@
+package com.grapes.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO para resposta do acerto de contas em grupo
+ *
+ * Exemplo: 12 batalhas pendentes com 3 amigos viram 3 pagamentos
+ * (um por amigo, sempre com o player de um dos lados).
+ */
+public record SettlementPlanResponse(
+        int players,                // Jogadores no grupo
+        int pendingBattles,         // Batalhas pendentes entre eles
+        boolean applied,            // true = batalhas quitadas e pagamentos criados
+        List<SettlementTransferResponse> transfers
+) {}
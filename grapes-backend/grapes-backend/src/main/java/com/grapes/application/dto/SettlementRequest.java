@@ -0,0 +1,18 @@
+package com.grapes.application.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO para acerto de contas em grupo (POST /settlements/plan e /settlements/apply)
+ *
+ * O grupo é o player logado + os amigos informados.
+ * Exemplo: { "nicknames": ["Ana", "Bia", "Caio"] }
+ */
+public record SettlementRequest(
+        @NotEmpty(message = "Informe os amigos do grupo")
+        @Size(max = 1000, message = "Máximo de 1000 jogadores por grupo")
+        List<String> nicknames
+) {}
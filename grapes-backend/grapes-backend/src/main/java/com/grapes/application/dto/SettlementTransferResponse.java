@@ -0,0 +1,14 @@
+package com.grapes.application.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO para um pagamento do plano de acerto
+ */
+public record SettlementTransferResponse(
+        String fromNickname,    // Quem paga
+        String toNickname,      // Quem recebe
+        BigDecimal amount,
+        UUID battleId           // Batalha criada (só quando o plano é aplicado)
+) {}
@@ -0,0 +1,28 @@
+package com.grapes.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO para resposta de sincronização incremental (GET /sync?since=X)
+ *
+ * - version: guarde e envie como "since" na próxima chamada
+ * - hasMore: true se ainda há mudanças (chame de novo com a nova versão)
+ * - resetRequired: o servidor não reconhece a versão do cliente → refazer tudo com since=0
+ */
+public record SyncResponse(
+        long version,
+        boolean hasMore,
+        boolean resetRequired,
+        List<BattleResponse> battles,           // Criadas ou alteradas
+        List<FriendshipResponse> friendships,   // Criadas ou alteradas
+        List<UUID> deletedBattleIds,            // Tombstones
+        List<UUID> deletedFriendshipIds         // Tombstones
+) {
+    /**
+     * Resposta vazia (cliente já está atualizado)
+     */
+    public static SyncResponse upToDate(long version, boolean resetRequired) {
+        return new SyncResponse(version, false, resetRequired, List.of(), List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,8 @@
+package com.grapes.application.dto;
+
+/**
+ * DTO do badge de notificações não lidas
+ */
+public record UnreadCountResponse(
+        long unread
+) {}
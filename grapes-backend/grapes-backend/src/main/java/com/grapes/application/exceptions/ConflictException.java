@@ -0,0 +1,12 @@
+package com.grapes.application.exceptions;
+
+/**
+ * A operação perdeu a corrida para outra requisição (ex: dois cliques em
+ * "pagar" ao mesmo tempo). Os controllers respondem 409 (Conflict).
+ */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,144 @@
+package com.grapes.application.services;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.grapes.application.dto.AgingBuckets;
+import com.grapes.application.dto.AgingReportResponse;
+import com.grapes.application.dto.CounterpartyAgingResponse;
+import com.grapes.domain.model.Player;
+import com.grapes.infrastructure.persistence.BattleRepository;
+
+/**
+ * Service do relatório de envelhecimento de dívidas (aging).
+ *
+ * 📚 COMO FUNCIONA:
+ * - O relatório sai de UMA consulta agregada (BattleRepository.agingByCounterparty):
+ *   nenhuma Battle é carregada
+ * - O resultado fica guardado por player junto com a versão de sync dele
+ *   e o dia do cálculo
+ * - Enquanto nenhuma batalha/amizade do player mudar (versão igual) e o dia
+ *   não virar, o relatório guardado é devolvido sem tocar no banco; qualquer
+ *   mudança faz o próximo pedido recalcular
+ */
+@Service
+public class AgingReportService {
+
+    private final BattleRepository battleRepository;
+    private final SyncService syncService;
+    private final Map<UUID, Snapshot> snapshots;
+
+    public AgingReportService(
+            BattleRepository battleRepository,
+            SyncService syncService,
+            @Value("${grapes.aging.cache-size:10000}") int cacheSize
+    ) {
+        this.battleRepository = battleRepository;
+        this.syncService = syncService;
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Snapshot> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Relatório do player (do cache, se ainda estiver válido)
+     */
+    @Transactional(readOnly = true)
+    public AgingReportResponse getReport(Player player) {
+        LocalDate today = LocalDate.now();
+        // Lida ANTES do cálculo: se algo mudar no meio, a versão guardada já nasce velha
+        long version = syncService.currentVersion(player.getId());
+
+        Snapshot snapshot;
+        synchronized (snapshots) {
+            snapshot = snapshots.get(player.getId());
+        }
+        if (snapshot != null && snapshot.version() == version && snapshot.report().asOf().equals(today)) {
+            return snapshot.report();
+        }
+
+        AgingReportResponse report = compute(player.getId(), today);
+        synchronized (snapshots) {
+            snapshots.put(player.getId(), new Snapshot(version, report));
+        }
+        return report;
+    }
+
+    /**
+     * Roda a consulta agregada e monta o relatório
+     */
+    private AgingReportResponse compute(UUID playerId, LocalDate today) {
+        List<Object[]> rows = battleRepository.agingByCounterparty(
+                playerId,
+                today.minusDays(30).atStartOfDay(),
+                today.minusDays(60).atStartOfDay(),
+                today.minusDays(90).atStartOfDay());
+
+        List<CounterpartyAgingResponse> counterparties = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            counterparties.add(new CounterpartyAgingResponse(
+                    uuid(row[0]),
+                    (String) row[1],
+                    ((Number) row[2]).longValue(),
+                    dateTime(row[3]),
+                    buckets(row, 4)));
+        }
+
+        // Os totais gerais vêm repetidos em toda linha (SUM ... OVER ())
+        AgingBuckets totals = rows.isEmpty() ? AgingBuckets.EMPTY : buckets(rows.get(0), 9);
+        return new AgingReportResponse(today, totals, counterparties);
+    }
+
+    private static AgingBuckets buckets(Object[] row, int first) {
+        return new AgingBuckets(
+                money(row[first]),
+                money(row[first + 1]),
+                money(row[first + 2]),
+                money(row[first + 3]),
+                money(row[first + 4]));
+    }
+
+    private static BigDecimal money(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal amount = value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
+        return amount.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Consulta nativa: o H2 devolve a coluna UUID como os 16 bytes crus
+     */
+    private static UUID uuid(Object value) {
+        if (value instanceof byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong());
+        }
+        return (UUID) value;
+    }
+
+    private static LocalDateTime dateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+
+    private record Snapshot(long version, AgingReportResponse report) {}
+}
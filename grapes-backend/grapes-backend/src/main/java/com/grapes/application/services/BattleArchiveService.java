@@ -0,0 +1,158 @@
+package com.grapes.application.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.grapes.domain.model.ArchivedBattle;
+import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.BattleStatus;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.SyncEntityType;
+import com.grapes.infrastructure.persistence.ArchivedBattleRepository;
+import com.grapes.infrastructure.persistence.BattleParties;
+import com.grapes.infrastructure.persistence.BattleRepository;
+import com.grapes.infrastructure.search.BattleSearchIndex;
+
+/**
+ * Service de arquivamento de batalhas (armazenamento quente/frio).
+ *
+ * 📚 COMO FUNCIONA:
+ * - Um job agendado procura batalhas PAGAS há mais de N dias
+ * - Em lotes, cada um na sua transação:
+ *   1. INSERT ... SELECT copia o lote para battles_archive
+ *   2. DELETE remove o lote da tabela battles
+ *   3. O log de sync ganha tombstones (a batalha saiu da lista normal)
+ *      e a batalha sai do índice de busca
+ * - As listas normais continuam lendo só a tabela quente;
+ *   o histórico é lido por GET /battles/archive
+ * - O livro-caixa (battle_payments) não é movido: GET /battles/{id}/payments
+ *   encontra a batalha no arquivo e continua listando os pagamentos
+ *
+ * Ao final, o job imprime quantas linhas a tabela quente tinha antes e
+ * depois e o tempo de uma consulta sobre ela.
+ */
+@Service
+public class BattleArchiveService {
+
+    private final BattleRepository battleRepository;
+    private final ArchivedBattleRepository archivedBattleRepository;
+    private final SyncService syncService;
+    private final BattleSearchIndex searchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${grapes.archive.paid-older-than-days:90}")
+    private long paidOlderThanDays;
+
+    @Value("${grapes.archive.batch-size:1000}")
+    private int batchSize;
+
+    public BattleArchiveService(
+            BattleRepository battleRepository,
+            ArchivedBattleRepository archivedBattleRepository,
+            SyncService syncService,
+            BattleSearchIndex searchIndex,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.battleRepository = battleRepository;
+        this.archivedBattleRepository = archivedBattleRepository;
+        this.syncService = syncService;
+        this.searchIndex = searchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Job agendado (padrão: todo dia às 03:30)
+     */
+    @Scheduled(cron = "${grapes.archive.cron:0 30 3 * * *}")
+    public void archiveSettledBattles() {
+        archive(LocalDateTime.now().minusDays(paidOlderThanDays));
+    }
+
+    /**
+     * Move para o arquivo as batalhas pagas antes do corte
+     *
+     * @return quantas batalhas foram arquivadas
+     */
+    public int archive(LocalDateTime cutoff) {
+        long rowsBefore = battleRepository.count();
+        double latencyBefore = hotQueryMillis();
+
+        int archived = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            archived += moved;
+        } while (moved == batchSize);
+
+        long rowsAfter = battleRepository.count();
+        double latencyAfter = hotQueryMillis();
+
+        System.out.printf("🍇 GRAPES: Arquivamento: %d batalhas movidas | tabela quente: %d → %d linhas | "
+                + "consulta de pendentes: %.2f ms → %.2f ms%n",
+                archived, rowsBefore, rowsAfter, latencyBefore, latencyAfter);
+        return archived;
+    }
+
+    /**
+     * Histórico arquivado do player (paginado)
+     */
+    @Transactional(readOnly = true)
+    public List<Battle> getArchivedBattles(Player player, int page, int size) {
+        return archivedBattleRepository.findByPlayer(player, PageRequest.of(page, size)).stream()
+                .map(ArchivedBattle::toBattle)
+                .toList();
+    }
+
+    /**
+     * Um lote: copia, remove e registra os tombstones (mesma transação)
+     */
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<BattleParties> batch = battleRepository.findArchivable(cutoff, Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> ids = batch.stream().map(BattleParties::battleId).toList();
+        int copied = archivedBattleRepository.copyFromBattles(ids, LocalDateTime.now());
+        int deleted = battleRepository.deleteArchived(ids);
+        if (copied != deleted) {
+            // Alguma linha mudou no meio do lote: desfaz e tenta de novo na próxima execução
+            throw new IllegalStateException("Lote de arquivamento inconsistente: " + copied + " copiadas, " + deleted + " removidas");
+        }
+
+        Map<UUID, List<UUID>> battleIdsByPlayer = new HashMap<>();
+        for (BattleParties battle : batch) {
+            battle.playerIds().forEach(playerId ->
+                    battleIdsByPlayer.computeIfAbsent(playerId, id -> new ArrayList<>()).add(battle.battleId()));
+        }
+        syncService.recordChanges(SyncEntityType.BATTLE, battleIdsByPlayer, true);
+        batch.forEach(searchIndex::remove);
+        return batch.size();
+    }
+
+    /**
+     * Tempo (melhor de 5) de uma consulta que varre a tabela quente
+     */
+    private double hotQueryMillis() {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            battleRepository.countByStatus(BattleStatus.PENDING);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+}
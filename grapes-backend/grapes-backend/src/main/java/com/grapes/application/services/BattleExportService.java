@@ -0,0 +1,148 @@
+package com.grapes.application.services;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.grapes.application.dto.BattleResponse;
+import com.grapes.domain.model.ArchivedBattle;
+import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.Player;
+import com.grapes.infrastructure.persistence.ArchivedBattleRepository;
+import com.grapes.infrastructure.persistence.BattleRepository;
+
+import jakarta.persistence.EntityManager;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Service de exportação do histórico de batalhas (CSV ou NDJSON).
+ *
+ * 📚 POR QUE STREAM?
+ * Um usuário com 100 mil batalhas não pode virar uma List<BattleResponse>
+ * de 100 mil itens na memória. Aqui:
+ * - A consulta devolve um Stream<Battle> (o JDBC busca 500 linhas por vez)
+ * - Cada batalha é escrita direto na resposta e sai do contexto do
+ *   Hibernate (detach), então a memória usada não cresce com o histórico
+ * - Tabela quente + arquivo: o histórico sai completo
+ */
+@Service
+public class BattleExportService {
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    private static final String CSV_HEADER =
+            "id,oponente,nickname_oponente,valor,restante,sou_credor,categoria,descricao,status,criada_em,paga_em";
+
+    private final BattleRepository battleRepository;
+    private final ArchivedBattleRepository archivedBattleRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public BattleExportService(
+            BattleRepository battleRepository,
+            ArchivedBattleRepository archivedBattleRepository,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.battleRepository = battleRepository;
+        this.archivedBattleRepository = archivedBattleRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Escreve todo o histórico do player no stream de saída.
+     * Roda fora da thread da requisição (StreamingResponseBody), então
+     * abre a própria transação somente-leitura.
+     */
+    public void export(Player player, Format format, boolean gzip, OutputStream out) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 64 * 1024);
+
+        try {
+            if (format == Format.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Battle> battles = battleRepository.streamByPlayer(player)) {
+                    battles.forEach(battle -> {
+                        writeRow(writer, battle, player, format);
+                        entityManager.detach(battle);
+                    });
+                }
+                try (Stream<ArchivedBattle> archived = archivedBattleRepository.streamByPlayer(player)) {
+                    archived.forEach(battle -> {
+                        writeRow(writer, battle.toBattle(), player, format);
+                        entityManager.detach(battle);
+                    });
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Cliente desconectou no meio do download
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        out.flush();
+    }
+
+    private void writeRow(Writer writer, Battle battle, Player player, Format format) {
+        try {
+            BattleResponse row = BattleResponse.from(battle, player);
+            if (format == Format.NDJSON) {
+                writer.write(objectMapper.writeValueAsString(row));
+            } else {
+                writer.write(String.join(",",
+                        row.id().toString(),
+                        csv(row.opponentName()),
+                        csv(row.opponentNickname()),
+                        row.amount().toPlainString(),
+                        row.remainingAmount().toPlainString(),
+                        Boolean.toString(row.isCreditor()),
+                        csv(row.category()),
+                        csv(row.description()),
+                        row.status(),
+                        row.createdAt(),
+                        battle.getPaidAt() != null ? battle.getPaidAt().toString() : ""));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Campo CSV (RFC 4180): aspas quando tem vírgula, aspas ou quebra de linha
+     */
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,306 @@
+package com.grapes.application.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.grapes.application.dto.BattleImportReport;
+import com.grapes.application.dto.CreateBattleRequest;
+import com.grapes.domain.model.Player;
+import com.grapes.infrastructure.csv.CsvReader;
+import com.grapes.infrastructure.persistence.PlayerRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Service de importação de batalhas a partir de CSV (migração de planilhas).
+ *
+ * 📚 COMO FUNCIONA:
+ * - O arquivo é lido em STREAMING, um registro por vez (nunca inteiro na memória)
+ * - Cada linha vira um CreateBattleRequest e passa pelas MESMAS validações
+ *   do POST /battles
+ * - As linhas válidas se acumulam em lotes (grapes.import.batch-size):
+ *   os nicknames do lote que ainda não estão no cache são resolvidos com
+ *   UMA consulta (IN), e o lote é gravado em uma transação com INSERTs
+ *   em lote JDBC
+ * - dryRun = true faz tudo isso menos gravar
+ *
+ * Colunas (cabeçalho obrigatório, em qualquer ordem, "," ou ";"):
+ * opponentNickname, externalName, amount, category, description, iAmCreditor
+ * e, opcional, dueDate (AAAA-MM-DD)
+ */
+@Service
+public class BattleImportService {
+
+    private static final Set<String> TRUE_VALUES = Set.of("true", "sim", "s", "yes", "y", "1");
+    private static final Set<String> FALSE_VALUES = Set.of("false", "nao", "não", "n", "no", "0");
+
+    private final BattleService battleService;
+    private final PlayerRepository playerRepository;
+    private final Validator validator;
+
+    @Value("${grapes.import.batch-size:1000}")
+    private int batchSize;
+
+    public BattleImportService(
+            BattleService battleService,
+            PlayerRepository playerRepository,
+            Validator validator
+    ) {
+        this.battleService = battleService;
+        this.playerRepository = playerRepository;
+        this.validator = validator;
+    }
+
+    /**
+     * Importa as batalhas do CSV como criadas pelo player
+     */
+    public BattleImportReport importCsv(Player creator, InputStream input, boolean dryRun) throws IOException {
+        long start = System.nanoTime();
+        Import state = new Import(creator, dryRun);
+
+        try (CsvReader csv = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> header = csv.readHeader();
+            if (header == null) {
+                throw new IllegalArgumentException("Arquivo vazio");
+            }
+            Columns columns = Columns.of(header);
+
+            List<String> record;
+            while ((record = csv.readRecord()) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;   // Linha em branco
+                }
+                state.rows++;
+                long line = csv.recordLine();
+
+                try {
+                    CreateBattleRequest request = columns.toRequest(record);
+                    String error = validate(request);
+                    if (error != null) {
+                        state.fail(line, error);
+                        continue;
+                    }
+                    state.pending.add(new PendingRow(line, request));
+                } catch (IllegalArgumentException e) {
+                    state.fail(line, e.getMessage());
+                }
+
+                if (state.pending.size() >= batchSize) {
+                    flush(state);
+                }
+            }
+            flush(state);
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        return new BattleImportReport(
+                dryRun,
+                state.rows,
+                state.imported,
+                state.failed,
+                state.errors,
+                elapsedMs,
+                state.rows * 1000 / elapsedMs);
+    }
+
+    /**
+     * Resolve os oponentes do lote (cache + uma consulta) e grava o lote
+     */
+    private void flush(Import state) {
+        if (state.pending.isEmpty()) {
+            return;
+        }
+
+        // Só vai ao banco o que ainda não está no cache (inclusive "não existe")
+        Set<String> missing = state.pending.stream()
+                .map(row -> row.request().opponentNickname())
+                .filter(n -> hasText(n) && !state.players.containsKey(n))
+                .collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            playerRepository.findByNicknameIn(missing)
+                    .forEach(p -> state.players.put(p.getNickname(), Optional.of(p)));
+            missing.forEach(n -> state.players.putIfAbsent(n, Optional.empty()));
+        }
+
+        List<CreateBattleRequest> valid = new ArrayList<>();
+        Map<String, Player> opponents = new HashMap<>();
+        for (PendingRow row : state.pending) {
+            String nickname = row.request().opponentNickname();
+            if (hasText(nickname)) {
+                Optional<Player> opponent = state.players.get(nickname);
+                if (opponent.isEmpty()) {
+                    state.fail(row.line(), "Jogador não encontrado: " + nickname);
+                    continue;
+                }
+                if (opponent.get().getId().equals(state.creator.getId())) {
+                    state.fail(row.line(), "Você não pode criar uma batalha consigo mesmo");
+                    continue;
+                }
+                opponents.put(nickname, opponent.get());
+            }
+            valid.add(row.request());
+        }
+
+        if (!state.dryRun && !valid.isEmpty()) {
+            // Uma transação por lote (@Transactional do BattleService):
+            // a memória do Hibernate é liberada a cada lote
+            battleService.importBattles(state.creator, valid, opponents);
+        }
+        state.imported += valid.size();
+        state.pending.clear();
+    }
+
+    /**
+     * Mesmas validações do POST /battles
+     */
+    private String validate(CreateBattleRequest request) {
+        Set<ConstraintViolation<CreateBattleRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.iterator().next().getMessage();
+        }
+        if (!hasText(request.opponentNickname()) && !hasText(request.externalName())) {
+            return "Informe o nickname do amigo ou nome externo";
+        }
+        return null;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * Posição de cada coluna conhecida no cabeçalho
+     */
+    private record Columns(
+            int opponentNickname,
+            int externalName,
+            int amount,
+            int category,
+            int description,
+            int iAmCreditor,
+            int dueDate
+    ) {
+        static Columns of(List<String> header) {
+            Map<String, Integer> index = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                index.put(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+            }
+            Columns columns = new Columns(
+                    index.getOrDefault("opponentnickname", -1),
+                    index.getOrDefault("externalname", -1),
+                    index.getOrDefault("amount", -1),
+                    index.getOrDefault("category", -1),
+                    index.getOrDefault("description", -1),
+                    index.getOrDefault("iamcreditor", -1),
+                    index.getOrDefault("duedate", -1));
+            if (columns.amount() < 0 || columns.category() < 0 || columns.iAmCreditor() < 0) {
+                throw new IllegalArgumentException("Cabeçalho deve ter as colunas amount, category e iAmCreditor");
+            }
+            if (columns.opponentNickname() < 0 && columns.externalName() < 0) {
+                throw new IllegalArgumentException("Cabeçalho deve ter opponentNickname e/ou externalName");
+            }
+            return columns;
+        }
+
+        CreateBattleRequest toRequest(List<String> record) {
+            return new CreateBattleRequest(
+                    text(record, opponentNickname),
+                    text(record, externalName),
+                    amount(text(record, amount)),
+                    text(record, category),
+                    text(record, description),
+                    bool(text(record, iAmCreditor)),
+                    date(text(record, dueDate)));
+        }
+
+        private static String text(List<String> record, int column) {
+            if (column < 0 || column >= record.size()) {
+                return null;
+            }
+            String value = record.get(column).strip();
+            return value.isEmpty() ? null : value;
+        }
+
+        private static BigDecimal amount(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                // Aceita "1234.50" e "1234,50"
+                return new BigDecimal(value.replace(',', '.'));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Valor inválido: " + value);
+            }
+        }
+
+        private static LocalDate date(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return LocalDate.parse(value);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("dueDate inválido: " + value);
+            }
+        }
+
+        private static Boolean bool(String value) {
+            if (value == null) {
+                return null;
+            }
+            String normalized = value.toLowerCase(Locale.ROOT);
+            if (TRUE_VALUES.contains(normalized)) {
+                return true;
+            }
+            if (FALSE_VALUES.contains(normalized)) {
+                return false;
+            }
+            throw new IllegalArgumentException("iAmCreditor inválido: " + value);
+        }
+    }
+
+    private record PendingRow(long line, CreateBattleRequest request) {}
+
+    /**
+     * Estado de uma importação em andamento
+     */
+    private static class Import {
+        final Player creator;
+        final boolean dryRun;
+        final List<PendingRow> pending = new ArrayList<>();
+        final Map<String, Optional<Player>> players = new HashMap<>();
+        final List<BattleImportReport.RowError> errors = new ArrayList<>();
+        long rows;
+        long imported;
+        long failed;
+
+        Import(Player creator, boolean dryRun) {
+            this.creator = creator;
+            this.dryRun = dryRun;
+        }
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < BattleImportReport.MAX_ERRORS) {
+                errors.add(new BattleImportReport.RowError(line, message));
+            }
+        }
+    }
+}
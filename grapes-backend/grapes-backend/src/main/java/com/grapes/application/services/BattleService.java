@@ -1,16 +1,66 @@
 package com.grapes.application.services;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.grapes.application.dto.BattleFilter;
+import com.grapes.application.dto.BattleHistoryEntryResponse;
+import com.grapes.application.dto.BattlePageResponse;
+import com.grapes.application.dto.BattleResponse;
+import com.grapes.application.dto.BulkBattleActionRequest;
+import com.grapes.application.dto.BulkBattleActionResponse;
+import com.grapes.application.dto.BulkBattleResult;
+import com.grapes.application.dto.CreateBattleRequest;
+import com.grapes.application.exceptions.ConflictException;
+import com.grapes.domain.events.BattleCreated;
+import com.grapes.domain.events.BattlePaid;
+import com.grapes.domain.model.ArchivedBattle;
 import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.BattlePayment;
+import com.grapes.domain.model.BattleStatus;
+import com.grapes.domain.model.Category;
+import com.grapes.domain.model.NotificationType;
+import com.grapes.domain.model.OutboxMessage;
 import com.grapes.domain.model.Player;
+import com.grapes.domain.model.RecurringBattle;
+import com.grapes.domain.model.SyncEntityType;
+import com.grapes.domain.settlement.Transfer;
+import com.grapes.infrastructure.audit.AuditAction;
+import com.grapes.infrastructure.audit.AuditEntry;
+import com.grapes.infrastructure.audit.AuditJournal;
+import com.grapes.infrastructure.audit.AuditRecord;
+import com.grapes.infrastructure.events.DomainEventBus;
+import com.grapes.infrastructure.notifications.NotificationOutbox;
+import com.grapes.infrastructure.persistence.ArchivedBattleRepository;
+import com.grapes.infrastructure.persistence.BattleCursor;
+import com.grapes.infrastructure.persistence.BattleParties;
+import com.grapes.infrastructure.persistence.BattlePaymentRepository;
 import com.grapes.infrastructure.persistence.BattleRepository;
+import com.grapes.infrastructure.persistence.BattleSpecifications;
 import com.grapes.infrastructure.persistence.PlayerRepository;
+import com.grapes.infrastructure.realtime.EventStreamService;
+import com.grapes.infrastructure.realtime.StreamEventType;
+import com.grapes.infrastructure.search.BattleSearchIndex;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 /**
  * Service para gerenciamento de batalhas.
@@ -18,12 +68,62 @@ import com.grapes.infrastructure.persistence.PlayerRepository;
 @Service
 public class BattleService {
 
+    /**
+     * Categoria das batalhas criadas pelo acerto de contas em grupo
+     */
+    public static final String SETTLEMENT_CATEGORY = "Acerto";
+
+    private static final int NO_CATEGORY_ID = -1;
+
+    /**
+     * Mesma ordem do ORDER BY das consultas com filtro (createdAt DESC, id DESC).
+     * UUID comparado sem sinal, como o banco compara (UUID.compareTo usa sinal).
+     */
+    private static final Comparator<Battle> NEWEST_FIRST = Comparator.comparing(Battle::getCreatedAt)
+            .thenComparing(Battle::getId, (a, b) -> a.getMostSignificantBits() != b.getMostSignificantBits()
+                    ? Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits())
+                    : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits()))
+            .reversed();
+
     private final BattleRepository battleRepository;
+    private final ArchivedBattleRepository archivedBattleRepository;
+    private final BattlePaymentRepository battlePaymentRepository;
     private final PlayerRepository playerRepository;
+    private final CategoryService categoryService;
+    private final EventStreamService eventStreamService;
+    private final SyncService syncService;
+    private final NotificationOutbox notificationOutbox;
+    private final DomainEventBus eventBus;
+    private final AuditJournal auditJournal;
+    private final BattleSearchIndex searchIndex;
+    private final Validator validator;
 
-    public BattleService(BattleRepository battleRepository, PlayerRepository playerRepository) {
+    public BattleService(
+            BattleRepository battleRepository,
+            ArchivedBattleRepository archivedBattleRepository,
+            BattlePaymentRepository battlePaymentRepository,
+            PlayerRepository playerRepository,
+            CategoryService categoryService,
+            EventStreamService eventStreamService,
+            SyncService syncService,
+            NotificationOutbox notificationOutbox,
+            DomainEventBus eventBus,
+            AuditJournal auditJournal,
+            BattleSearchIndex searchIndex,
+            Validator validator
+    ) {
         this.battleRepository = battleRepository;
+        this.archivedBattleRepository = archivedBattleRepository;
+        this.battlePaymentRepository = battlePaymentRepository;
         this.playerRepository = playerRepository;
+        this.categoryService = categoryService;
+        this.eventStreamService = eventStreamService;
+        this.syncService = syncService;
+        this.notificationOutbox = notificationOutbox;
+        this.eventBus = eventBus;
+        this.auditJournal = auditJournal;
+        this.searchIndex = searchIndex;
+        this.validator = validator;
     }
 
     /**
@@ -36,7 +136,8 @@ public class BattleService {
             BigDecimal amount,
             String category,
             String description,
-            boolean creatorIsCreditor
+            boolean creatorIsCreditor,
+            LocalDate dueDate
     ) {
         Player opponent = playerRepository.findByNickname(opponentNickname)
                 .orElseThrow(() -> new RuntimeException("Jogador não encontrado: " + opponentNickname));
@@ -45,15 +146,13 @@ public class BattleService {
             throw new IllegalArgumentException("Você não pode criar uma batalha consigo mesmo");
         }
 
-        Battle battle = new Battle();
-        battle.setCreator(creator);
-        battle.setOpponent(opponent);
-        battle.setAmount(amount);
-        battle.setCategory(category);
-        battle.setDescription(description);
-        battle.setCreatorIsCreditor(creatorIsCreditor);
-
-        return battleRepository.save(battle);
+        Battle battle = battleRepository.save(newBattle(
+                creator, opponent, null, amount, categoryService.resolve(category), description, creatorIsCreditor, dueDate));
+        categoryService.countCreated(List.of(battle));
+        eventBus.publish(BattleCreated.of(List.of(battle)));
+        publishChange(StreamEventType.BATTLE_CREATED, battle, creator);
+        notifyCreated(List.of(battle), creator);
+        return battle;
     }
 
     /**
@@ -66,21 +165,180 @@ public class BattleService {
             BigDecimal amount,
             String category,
             String description,
-            boolean creatorIsCreditor
+            boolean creatorIsCreditor,
+            LocalDate dueDate
     ) {
-        Battle battle = new Battle();
-        battle.setCreator(creator);
-        battle.setExternalName(externalName);
-        battle.setAmount(amount);
-        battle.setCategory(category);
-        battle.setDescription(description);
-        battle.setCreatorIsCreditor(creatorIsCreditor);
+        Battle battle = battleRepository.save(newBattle(
+                creator, null, externalName, amount, categoryService.resolve(category), description, creatorIsCreditor, dueDate));
+        categoryService.countCreated(List.of(battle));
+        eventBus.publish(BattleCreated.of(List.of(battle)));
+        publishChange(StreamEventType.BATTLE_CREATED, battle, creator);
+        return battle;
+    }
+
+    /**
+     * Cria várias batalhas de uma vez (ex: dividir a conta do jantar).
+     *
+     * 📚 POR QUE É MAIS RÁPIDO?
+     * - Todos os nicknames são resolvidos em UMA consulta (IN)
+     * - Todos os INSERTs vão em lotes JDBC (hibernate.jdbc.batch_size)
+     * - O log de sync é gravado em lote
+     *
+     * Cada item é validado com as mesmas regras do POST /battles.
+     * Itens inválidos voltam com erro; os válidos são criados.
+     *
+     * @return um resultado por item, na mesma ordem da entrada
+     */
+    @Transactional
+    public List<BulkBattleResult> createBulk(Player creator, List<CreateBattleRequest> requests) {
+        // Passo 1: Resolve todos os oponentes em uma única consulta
+        Set<String> nicknames = requests.stream()
+                .filter(r -> r != null && hasText(r.opponentNickname()))
+                .map(CreateBattleRequest::opponentNickname)
+                .collect(Collectors.toSet());
+        Map<String, Player> opponents = nicknames.isEmpty()
+                ? Map.of()
+                : playerRepository.findByNicknameIn(nicknames).stream()
+                        .collect(Collectors.toMap(Player::getNickname, Function.identity()));
 
-        return battleRepository.save(battle);
+        // Passo 2: Valida e monta cada batalha (sem tocar no banco)
+        BulkBattleResult[] results = new BulkBattleResult[requests.size()];
+        List<Battle> battles = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateBattleRequest request = requests.get(i);
+            String error = validate(request);
+
+            Player opponent = null;
+            if (error == null && hasText(request.opponentNickname())) {
+                opponent = opponents.get(request.opponentNickname());
+                if (opponent == null) {
+                    error = "Jogador não encontrado: " + request.opponentNickname();
+                } else if (opponent.getId().equals(creator.getId())) {
+                    error = "Você não pode criar uma batalha consigo mesmo";
+                }
+            } else if (error == null && !hasText(request.externalName())) {
+                error = "Informe o nickname do amigo ou nome externo";
+            }
+
+            if (error != null) {
+                results[i] = BulkBattleResult.failed(i, error);
+                continue;
+            }
+
+            battles.add(newBattle(
+                    creator,
+                    opponent,
+                    opponent == null ? request.externalName() : null,
+                    request.amount(),
+                    categoryService.resolve(request.category()),
+                    request.description(),
+                    request.iAmCreditor(),
+                    request.dueDate()));
+            positions.add(i);
+        }
+
+        // Passo 3: INSERTs em lote + log de sync em lote
+        battleRepository.saveAll(battles);
+        categoryService.countCreated(battles);
+        eventBus.publish(BattleCreated.of(battles));
+        auditCreated(battles, creator);
+        battles.forEach(searchIndex::index);
+        publishChanges(StreamEventType.BATTLE_CREATED, battles.stream().map(BattleParties::of).toList(), creator);
+        notifyCreated(battles, creator);
+
+        for (int i = 0; i < battles.size(); i++) {
+            int position = positions.get(i);
+            results[position] = BulkBattleResult.created(position, BattleResponse.from(battles.get(i), creator));
+        }
+        return List.of(results);
+    }
+
+    /**
+     * Grava um lote da importação de CSV (já validado e com oponentes resolvidos).
+     *
+     * Mesmo caminho do createRecurring: sync e eventos SSE saem pelo
+     * publishChanges (um UPDATE de versão por jogador no lote) e cada
+     * oponente cadastrado recebe a notificação de batalha nova.
+     *
+     * @param opponents oponentes do lote, por nickname
+     */
+    @Transactional
+    public void importBattles(Player creator, List<CreateBattleRequest> requests, Map<String, Player> opponents) {
+        List<Battle> battles = requests.stream()
+                .map(r -> {
+                    Player opponent = hasText(r.opponentNickname()) ? opponents.get(r.opponentNickname()) : null;
+                    return newBattle(
+                            creator,
+                            opponent,
+                            opponent == null ? r.externalName() : null,
+                            r.amount(),
+                            categoryService.resolve(r.category()),
+                            r.description(),
+                            r.iAmCreditor(),
+                            r.dueDate());
+                })
+                .toList();
+        battleRepository.saveAll(battles);
+        categoryService.countCreated(battles);
+        eventBus.publish(BattleCreated.of(battles));
+        auditCreated(battles, null);
+        battles.forEach(searchIndex::index);
+        publishChanges(StreamEventType.BATTLE_CREATED, battles.stream().map(BattleParties::of).toList(), creator);
+        notifyCreated(battles, creator);
+    }
+
+    /**
+     * Gera as batalhas das ocorrências de modelos recorrentes (job do RecurringBattleService).
+     *
+     * Todas vão em INSERTs em lote; o lote mistura criadores, então o sync e
+     * os eventos SSE saem agrupados por criador. (recurringId, occurrence) é
+     * único na tabela: uma ocorrência repetida derruba a transação inteira.
+     *
+     * @param occurrences ocorrências a gerar, por modelo
+     */
+    @Transactional
+    public List<Battle> createRecurring(Map<RecurringBattle, List<LocalDateTime>> occurrences) {
+        List<Battle> battles = new ArrayList<>();
+        occurrences.forEach((recurring, times) -> times.forEach(time -> {
+            Battle battle = newBattle(
+                    recurring.getCreator(),
+                    recurring.getOpponent(),
+                    recurring.getExternalName(),
+                    recurring.getAmount(),
+                    recurring.getCategory(),
+                    recurring.getDescription(),
+                    recurring.isCreatorIsCreditor(),
+                    recurring.getDueInDays() != null ? time.toLocalDate().plusDays(recurring.getDueInDays()) : null);
+            battle.setRecurringId(recurring.getId());
+            battle.setOccurrence(time);
+            battles.add(battle);
+        }));
+        if (battles.isEmpty()) {
+            return battles;
+        }
+
+        battleRepository.saveAll(battles);
+        categoryService.countCreated(battles);
+        eventBus.publish(BattleCreated.of(battles));
+        auditCreated(battles, null);
+        battles.forEach(searchIndex::index);
+
+        Map<UUID, List<Battle>> battlesByCreator = battles.stream()
+                .collect(Collectors.groupingBy(b -> b.getCreator().getId(), LinkedHashMap::new, Collectors.toList()));
+        battlesByCreator.values().forEach(created -> publishChanges(
+                StreamEventType.BATTLE_CREATED,
+                created.stream().map(BattleParties::of).toList(),
+                created.get(0).getCreator()));
+        notifyCreated(battles, null);
+        return battles;
     }
 
     /**
      * Marca batalha como paga
+     *
+     * @throws ConflictException se ela já estava paga (ex: clique duplo)
      */
     @Transactional
     public Battle markAsPaid(UUID battleId, Player player) {
@@ -91,8 +349,96 @@ public class BattleService {
             throw new IllegalArgumentException("Você não faz parte dessa batalha");
         }
 
-        battle.markAsPaid();
-        return battleRepository.save(battle);
+        // UPDATE condicional: se outra requisição quitou antes, 0 linhas
+        if (battleRepository.markPaidIfPending(battleId, LocalDateTime.now()) == 0) {
+            throw new ConflictException("Essa batalha já foi paga");
+        }
+
+        battle = findById(battleId);
+        publishChange(StreamEventType.BATTLE_PAID, battle, player);
+        return battle;
+    }
+
+    /**
+     * Registra um pagamento parcial (ou o restante) de uma batalha.
+     *
+     * 📚 COMO FUNCIONA:
+     * - Um único UPDATE condicional abate o valor do remainingAmount
+     *   (e vira PAID se zerar): dois pagamentos simultâneos nunca
+     *   deixam o saldo negativo
+     * - O pagamento vai para o livro-caixa (battle_payments), só INSERT
+     *
+     * @throws ConflictException se a batalha já foi quitada (inclusive por
+     *                           outra requisição ao mesmo tempo)
+     */
+    @Transactional
+    public Battle addPayment(UUID battleId, Player player, BigDecimal amount, String note) {
+        Battle battle = battleRepository.findById(battleId)
+                .orElseThrow(() -> new RuntimeException("Batalha não encontrada"));
+
+        if (!battle.involves(player)) {
+            throw new IllegalArgumentException("Você não faz parte dessa batalha");
+        }
+        if (amount.stripTrailingZeros().scale() > 2) {
+            throw new IllegalArgumentException("Valor deve ter no máximo 2 casas decimais");
+        }
+
+        int updated = battleRepository.applyPayment(battleId, amount, LocalDateTime.now());
+        if (updated == 0) {
+            Battle current = findById(battleId);
+            if (current.getStatus() != BattleStatus.PENDING) {
+                throw new ConflictException("Essa batalha já foi paga");
+            }
+            throw new IllegalArgumentException("Valor maior que o saldo restante (" + current.getRemainingAmount() + ")");
+        }
+
+        // O UPDATE limpou o contexto: relê a batalha com o saldo novo
+        battle = findById(battleId);
+        battlePaymentRepository.save(new BattlePayment(battleId, player, amount, battle.getRemainingAmount(), note));
+
+        publishChange(battle.getStatus() == BattleStatus.PAID
+                ? StreamEventType.BATTLE_PAID
+                : StreamEventType.BATTLE_PAYMENT_RECEIVED, battle, player);
+        return battle;
+    }
+
+    /**
+     * Lista os pagamentos de uma batalha.
+     * O livro-caixa fica onde está quando a batalha é arquivada: se ela não
+     * estiver mais na tabela quente, procura no arquivo.
+     */
+    @Transactional(readOnly = true)
+    public List<BattlePayment> getPayments(UUID battleId, Player player) {
+        Battle battle = battleRepository.findById(battleId)
+                .or(() -> archivedBattleRepository.findById(battleId).map(ArchivedBattle::toBattle))
+                .orElseThrow(() -> new RuntimeException("Batalha não encontrada"));
+        if (!battle.involves(player)) {
+            throw new IllegalArgumentException("Você não faz parte dessa batalha");
+        }
+        return battlePaymentRepository.findByBattleIdOrderByPaidAtAsc(battleId);
+    }
+
+    /**
+     * Histórico de auditoria da batalha (criação, pagamentos, quitação,
+     * remoção), mais antigo primeiro. Vale também para batalhas removidas.
+     */
+    @Transactional(readOnly = true)
+    public List<BattleHistoryEntryResponse> getHistory(UUID battleId, Player player) {
+        List<AuditRecord> history = auditJournal.history(battleId);
+        if (history.isEmpty()) {
+            throw new RuntimeException("Batalha não encontrada");
+        }
+        AuditEntry first = history.get(0).entry();
+        if (!player.getId().equals(first.creatorId()) && !player.getId().equals(first.opponentId())) {
+            throw new IllegalArgumentException("Você não faz parte dessa batalha");
+        }
+
+        Set<UUID> actorIds = history.stream().map(record -> record.entry().actorId()).collect(Collectors.toSet());
+        Map<UUID, String> nicknames = playerRepository.findAllById(actorIds).stream()
+                .collect(Collectors.toMap(Player::getId, Player::getNickname));
+        return history.stream()
+                .map(record -> BattleHistoryEntryResponse.from(record, nicknames))
+                .toList();
     }
 
     /**
@@ -108,7 +454,137 @@ public class BattleService {
             throw new IllegalArgumentException("Apenas o criador pode remover a batalha");
         }
 
+        // O livro-caixa é só de inserção: batalha com pagamentos não some
+        if (battlePaymentRepository.existsByBattleId(battleId)) {
+            throw new IllegalArgumentException("Batalha com pagamentos registrados não pode ser removida");
+        }
+
         battleRepository.delete(battle);
+        categoryService.countDeleted(
+                List.of(BattleParties.of(battle)), Map.of(battle.getId(), battle.getCategory().getId()));
+        publishChange(StreamEventType.BATTLE_DELETED, battle, player);
+    }
+
+    /**
+     * Quita várias batalhas de uma vez (ex: acertar tudo com um amigo).
+     *
+     * 📚 COMO FUNCIONA:
+     * - Um SELECT leve encontra os IDs que batem com os filtros
+     * - Um único UPDATE quita todos, com a autorização (player envolvido)
+     *   e o status PENDING no próprio WHERE
+     *
+     * @return quantas e quais batalhas foram quitadas
+     */
+    @Transactional
+    public BulkBattleActionResponse markAllAsPaid(Player player, BulkBattleActionRequest request) {
+        BulkFilter filter = resolveFilter(request);
+        List<BattleParties> targets = battleRepository.findPayable(
+                player.getId(), filter.filterIds(), filter.ids(), filter.counterpartyId(), filter.categoryId());
+        if (targets.isEmpty()) {
+            return new BulkBattleActionResponse(0, List.of());
+        }
+
+        // O instante do UPDATE também serve para saber exatamente quais linhas ele quitou
+        LocalDateTime paidAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<UUID> ids = targets.stream().map(BattleParties::battleId).toList();
+        int affected = battleRepository.markAllAsPaid(ids, player, paidAt);
+
+        List<BattleParties> paid = targets;
+        if (affected < ids.size()) {
+            // Alguma foi quitada por outra requisição entre o SELECT e o UPDATE
+            Set<UUID> paidIds = Set.copyOf(battleRepository.findIdsPaidAt(ids, paidAt));
+            paid = targets.stream().filter(t -> paidIds.contains(t.battleId())).toList();
+        }
+
+        publishChanges(StreamEventType.BATTLE_PAID, paid, player);
+        return new BulkBattleActionResponse(affected, paid.stream().map(BattleParties::battleId).toList());
+    }
+
+    /**
+     * Remove várias batalhas de uma vez (apenas as criadas pelo player)
+     * em um único DELETE.
+     *
+     * @return quantas e quais batalhas foram removidas
+     */
+    @Transactional
+    public BulkBattleActionResponse deleteAll(Player player, BulkBattleActionRequest request) {
+        BulkFilter filter = resolveFilter(request);
+        List<BattleParties> targets = battleRepository.findDeletable(
+                player.getId(), filter.filterIds(), filter.ids(), filter.counterpartyId(), filter.categoryId());
+        if (targets.isEmpty()) {
+            return new BulkBattleActionResponse(0, List.of());
+        }
+
+        List<UUID> ids = targets.stream().map(BattleParties::battleId).toList();
+        // Lida antes do DELETE: depois as linhas não existem mais
+        Map<UUID, Integer> categoryIds = new HashMap<>();
+        for (Object[] row : battleRepository.findCategoryIds(ids)) {
+            categoryIds.put((UUID) row[0], (Integer) row[1]);
+        }
+        int affected = battleRepository.deleteAllCreatedBy(ids, player);
+
+        List<BattleParties> deleted = targets;
+        if (affected < ids.size()) {
+            // Alguma foi removida por outra requisição entre o SELECT e o DELETE
+            Set<UUID> remaining = Set.copyOf(battleRepository.findExistingIds(ids));
+            deleted = targets.stream().filter(t -> !remaining.contains(t.battleId())).toList();
+        }
+
+        categoryService.countDeleted(deleted, categoryIds);
+        publishChanges(StreamEventType.BATTLE_DELETED, deleted, player);
+        return new BulkBattleActionResponse(affected, deleted.stream().map(BattleParties::battleId).toList());
+    }
+
+    /**
+     * Troca as batalhas pendentes de um grupo pelos pagamentos do plano de acerto.
+     *
+     * 📚 COMO FUNCIONA:
+     * - Um único UPDATE quita todas as batalhas do grupo
+     * - Cada pagamento do plano vira uma batalha nova (devedor → credor)
+     * - Se alguma batalha mudou desde o cálculo do plano, nada é gravado
+     *
+     * @param settled   batalhas que entraram no plano
+     * @param transfers pagamentos do plano (em centavos)
+     * @param players   jogadores do grupo, por ID
+     * @return as batalhas criadas, na ordem dos pagamentos
+     */
+    @Transactional
+    public List<Battle> settleGroup(
+            Player actor,
+            List<BattleParties> settled,
+            List<Transfer> transfers,
+            Map<UUID, Player> players
+    ) {
+        if (!settled.isEmpty()) {
+            List<UUID> ids = settled.stream().map(BattleParties::battleId).toList();
+            int affected = battleRepository.settleAll(ids, actor, LocalDateTime.now());
+            if (affected != ids.size()) {
+                // A exceção desfaz o UPDATE: o plano já não bate com o banco
+                throw new IllegalArgumentException("As batalhas do grupo mudaram durante o acerto. Tente novamente");
+            }
+        }
+
+        Category settlementCategory = categoryService.resolve(SETTLEMENT_CATEGORY);
+        List<Battle> created = transfers.stream()
+                .map(t -> newBattle(
+                        players.get(t.from()),
+                        players.get(t.to()),
+                        null,
+                        BigDecimal.valueOf(t.cents(), 2),
+                        settlementCategory,
+                        "Acerto de contas do grupo",
+                        false,
+                        null))
+                .toList();
+        battleRepository.saveAll(created);
+        categoryService.countCreated(created);
+        auditCreated(created, actor);
+        created.forEach(searchIndex::index);
+
+        publishChanges(StreamEventType.BATTLE_PAID, settled, actor);
+        publishChanges(StreamEventType.BATTLE_CREATED, created.stream().map(BattleParties::of).toList(), actor);
+        notifyCreated(created, actor);
+        return created;
     }
 
     /**
@@ -127,6 +603,128 @@ public class BattleService {
         return battleRepository.findPendingByPlayer(player);
     }
 
+    /**
+     * Batalhas do player com filtros combináveis, paginadas por cursor.
+     *
+     * 📚 COMO FUNCIONA:
+     * - Os filtros viram Specifications (BattleSpecifications)
+     * - Em vez de "criador OU oponente", roda uma consulta por lado, cada
+     *   uma no seu índice composto e já limitada a limit + 1 linhas
+     * - As duas listas (já ordenadas) são intercaladas; a linha extra só
+     *   diz se existe próxima página
+     * - Próxima página: "depois do cursor" (keyset), sem OFFSET, então a
+     *   página 1.000 custa o mesmo que a primeira
+     *
+     * @param cursor nextCursor da página anterior (null = primeira página)
+     */
+    @Transactional(readOnly = true)
+    public BattlePageResponse query(Player player, BattleFilter filter, String cursor, int limit) {
+        if (filter.from() != null && filter.to() != null && !filter.from().isBefore(filter.to())) {
+            throw new IllegalArgumentException("Período inválido: 'from' deve ser anterior a 'to'");
+        }
+        if (filter.minAmount() != null && filter.maxAmount() != null
+                && filter.minAmount().compareTo(filter.maxAmount()) > 0) {
+            throw new IllegalArgumentException("Faixa de valor inválida: 'minAmount' maior que 'maxAmount'");
+        }
+
+        List<Specification<Battle>> common = new ArrayList<>();
+        common.add(BattleSpecifications.fetchDetails());
+        if (hasText(filter.category())) {
+            Category category = categoryService.find(filter.category()).orElse(null);
+            if (category == null) {
+                // Categoria que ninguém usou: nenhuma batalha bate
+                return new BattlePageResponse(List.of(), null);
+            }
+            common.add(BattleSpecifications.hasCategory(category.getId()));
+        }
+        if (filter.status() != null) {
+            common.add(BattleSpecifications.hasStatus(filter.status()));
+        }
+        if (filter.from() != null) {
+            common.add(BattleSpecifications.createdFrom(filter.from()));
+        }
+        if (filter.to() != null) {
+            common.add(BattleSpecifications.createdBefore(filter.to()));
+        }
+        if (filter.minAmount() != null) {
+            common.add(BattleSpecifications.amountAtLeast(filter.minAmount()));
+        }
+        if (filter.maxAmount() != null) {
+            common.add(BattleSpecifications.amountAtMost(filter.maxAmount()));
+        }
+        if (cursor != null) {
+            common.add(BattleSpecifications.after(BattleCursor.decode(cursor)));
+        }
+
+        UUID counterpartyId = null;
+        if (hasText(filter.counterpartyNickname())) {
+            counterpartyId = playerRepository.findByNickname(filter.counterpartyNickname())
+                    .orElseThrow(() -> new RuntimeException("Jogador não encontrado: " + filter.counterpartyNickname()))
+                    .getId();
+        }
+
+        // Lado 1: batalhas que o player criou
+        List<Specification<Battle>> asCreator = new ArrayList<>(common);
+        asCreator.add(BattleSpecifications.createdBy(player.getId()));
+        // Lado 2: batalhas em que o player é o oponente
+        List<Specification<Battle>> asOpponent = new ArrayList<>(common);
+        asOpponent.add(BattleSpecifications.opponentIs(player.getId()));
+        if (counterpartyId != null) {
+            asCreator.add(BattleSpecifications.opponentIs(counterpartyId));
+            asOpponent.add(BattleSpecifications.createdBy(counterpartyId));
+        }
+
+        List<Battle> merged = merge(fetchPage(asCreator, limit + 1), fetchPage(asOpponent, limit + 1), limit + 1);
+        boolean hasMore = merged.size() > limit;
+        List<Battle> page = hasMore ? merged.subList(0, limit) : merged;
+
+        return new BattlePageResponse(
+                page.stream().map(b -> BattleResponse.from(b, player)).toList(),
+                hasMore ? BattleCursor.of(page.get(page.size() - 1)).encode() : null);
+    }
+
+    /**
+     * Busca textual nas batalhas do player (descrição, categoria, nomes).
+     *
+     * 📚 COMO FUNCIONA:
+     * - O BattleSearchIndex devolve os IDs por relevância, já filtrados
+     *   por status e data (na primeira busca do player, o índice dele é
+     *   montado a partir do banco)
+     * - Um único SELECT por ID carrega as batalhas, mantendo a ordem
+     *
+     * @param from início do período (inclusive), opcional
+     * @param to   fim do período (exclusive), opcional
+     */
+    @Transactional(readOnly = true)
+    public List<Battle> search(
+            Player player,
+            String query,
+            BattleStatus status,
+            LocalDateTime from,
+            LocalDateTime to,
+            int limit
+    ) {
+        if (!hasText(query)) {
+            throw new IllegalArgumentException("Informe o texto da busca");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("Período inválido: 'from' deve ser anterior a 'to'");
+        }
+
+        List<UUID> ids = searchIndex.search(player.getId(), query, status, from, to, limit,
+                        () -> battleRepository.findByPlayerWithParties(player)).stream()
+                .map(BattleSearchIndex.Hit::battleId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Battle> byId = battleRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Battle::getId, Function.identity()));
+        // Removida entre a busca e o SELECT: simplesmente some do resultado
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
     /**
      * Busca batalha por ID
      */
@@ -135,4 +733,226 @@ public class BattleService {
         return battleRepository.findById(battleId)
                 .orElseThrow(() -> new RuntimeException("Batalha não encontrada"));
     }
+
+    /**
+     * Registra a mudança no log de sync (mesma transação) e, após o
+     * commit, no diário de auditoria e via SSE para os jogadores envolvidos.
+     * Quitação também vira BattlePaid no DomainEventBus.
+     */
+    private void publishChange(StreamEventType type, Battle battle, Player actor) {
+        List<UUID> playerIds = BattleParties.of(battle).playerIds();
+        boolean deleted = type == StreamEventType.BATTLE_DELETED;
+        syncService.recordChange(playerIds, SyncEntityType.BATTLE, battle.getId(), deleted);
+        auditJournal.appendAfterCommit(
+                AuditEntry.of(auditAction(type), BattleParties.of(battle), actor.getId(), battle.getRemainingAmount()));
+        if (deleted) {
+            searchIndex.remove(BattleParties.of(battle));
+        } else {
+            searchIndex.index(battle);
+        }
+        eventStreamService.publishAfterCommit(type, battle.getId(), actor.getNickname(), playerIds);
+
+        if (type == StreamEventType.BATTLE_PAID) {
+            // Contraparte só vai no evento se for jogador (nome externo é privado)
+            Player counterpart = battle.getCreator().getId().equals(actor.getId()) ? battle.getOpponent() : battle.getCreator();
+            eventBus.publish(new BattlePaid(actor.getId(), actor.getNickname(),
+                    counterpart != null ? counterpart.getNickname() : null, List.of(battle.getId())));
+        }
+    }
+
+    /**
+     * Notificação BATTLE_CREATED para o oponente de cada batalha, gravada
+     * com um único enqueueAll (outbox: mesmo commit, entregue em segundo plano).
+     * Batalhas com pessoa externa não notificam ninguém, e quem fez a ação
+     * não é notificado da própria batalha.
+     *
+     * @param actor quem criou (null = job do sistema)
+     */
+    private void notifyCreated(List<Battle> battles, Player actor) {
+        List<OutboxMessage> messages = new ArrayList<>();
+        for (Battle battle : battles) {
+            Player opponent = battle.getOpponent();
+            if (opponent == null || (actor != null && opponent.getId().equals(actor.getId()))) {
+                continue;
+            }
+            messages.add(notificationOutbox.message(
+                    NotificationType.BATTLE_CREATED,
+                    opponent.getId(),
+                    new BattleCreatedPayload(battle.getId(), battle.getCreator().getNickname(), battle.getAmount(),
+                            battle.isCreditor(opponent), battle.getCategory().getName()),
+                    "battle-created:" + battle.getId()));
+        }
+        if (!messages.isEmpty()) {
+            notificationOutbox.enqueueAll(messages);
+        }
+    }
+
+    /**
+     * Versão em lote de publishChange: um registro de sync por player
+     * (com todas as batalhas dele) e um evento SSE por batalha
+     */
+    private void publishChanges(StreamEventType type, List<BattleParties> battles, Player actor) {
+        Map<UUID, List<UUID>> battleIdsByPlayer = new HashMap<>();
+        for (BattleParties battle : battles) {
+            battle.playerIds().forEach(playerId ->
+                    battleIdsByPlayer.computeIfAbsent(playerId, id -> new ArrayList<>()).add(battle.battleId()));
+        }
+        syncService.recordChanges(SyncEntityType.BATTLE, battleIdsByPlayer, type == StreamEventType.BATTLE_DELETED);
+        if (type != StreamEventType.BATTLE_CREATED) {
+            // Criações são auditadas em auditCreated(), com o valor da batalha
+            BigDecimal remaining = type == StreamEventType.BATTLE_PAID ? BigDecimal.ZERO : null;
+            auditJournal.appendAfterCommit(battles.stream()
+                    .map(battle -> AuditEntry.of(auditAction(type), battle, actor.getId(), remaining))
+                    .toList());
+        }
+
+        for (BattleParties battle : battles) {
+            // Batalhas criadas já foram indexadas com a entidade completa
+            if (type == StreamEventType.BATTLE_PAID) {
+                searchIndex.markPaid(battle);
+            } else if (type == StreamEventType.BATTLE_DELETED) {
+                searchIndex.remove(battle);
+            }
+            eventStreamService.publishAfterCommit(type, battle.battleId(), actor.getNickname(), battle.playerIds());
+        }
+
+        if (type == StreamEventType.BATTLE_PAID && !battles.isEmpty()) {
+            // Um evento para o lote inteiro (não um por batalha)
+            eventBus.publish(new BattlePaid(actor.getId(), actor.getNickname(), null,
+                    battles.stream().map(BattleParties::battleId).toList()));
+        }
+    }
+
+    /**
+     * Auditoria das batalhas criadas em lote (com a entidade, para guardar o valor)
+     *
+     * @param actor quem criou (null = o próprio criador de cada batalha)
+     */
+    private void auditCreated(List<Battle> battles, Player actor) {
+        auditJournal.appendAfterCommit(battles.stream()
+                .map(battle -> AuditEntry.of(AuditAction.CREATED, BattleParties.of(battle),
+                        (actor != null ? actor : battle.getCreator()).getId(), battle.getRemainingAmount()))
+                .toList());
+    }
+
+    private static AuditAction auditAction(StreamEventType type) {
+        return switch (type) {
+            case BATTLE_CREATED -> AuditAction.CREATED;
+            case BATTLE_PAYMENT_RECEIVED -> AuditAction.PAYMENT;
+            case BATTLE_PAID -> AuditAction.PAID;
+            case BATTLE_DELETED -> AuditAction.DELETED;
+            default -> throw new IllegalArgumentException("Evento sem ação de auditoria: " + type);
+        };
+    }
+
+    /**
+     * Primeiras linhas (na ordem do keyset) que batem com todos os filtros
+     */
+    private List<Battle> fetchPage(List<Specification<Battle>> filters, int limit) {
+        return battleRepository.findBy(Specification.allOf(filters),
+                query -> query.sortBy(BattleSpecifications.KEYSET_ORDER).limit(limit).all());
+    }
+
+    /**
+     * Intercala duas listas já ordenadas (mais nova primeiro), até o limite
+     */
+    private static List<Battle> merge(List<Battle> first, List<Battle> second, int limit) {
+        List<Battle> merged = new ArrayList<>(Math.min(limit, first.size() + second.size()));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < first.size() || j < second.size())) {
+            if (j >= second.size() || (i < first.size() && NEWEST_FIRST.compare(first.get(i), second.get(j)) <= 0)) {
+                merged.add(first.get(i++));
+            } else {
+                merged.add(second.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Traduz os filtros da requisição em massa para os parâmetros das consultas
+     */
+    private BulkFilter resolveFilter(BulkBattleActionRequest request) {
+        if (!request.hasCriteria()) {
+            throw new IllegalArgumentException("Informe os IDs ou ao menos um filtro");
+        }
+
+        boolean filterIds = request.ids() != null && !request.ids().isEmpty();
+        UUID counterpartyId = null;
+        if (hasText(request.counterpartyNickname())) {
+            counterpartyId = playerRepository.findByNickname(request.counterpartyNickname())
+                    .orElseThrow(() -> new RuntimeException("Jogador não encontrado: " + request.counterpartyNickname()))
+                    .getId();
+        }
+
+        Integer categoryId = null;
+        if (hasText(request.category())) {
+            // Categoria que ninguém usou ainda: nenhuma batalha bate, usa um ID que nunca existe
+            categoryId = categoryService.find(request.category()).map(Category::getId).orElse(NO_CATEGORY_ID);
+        }
+
+        return new BulkFilter(
+                filterIds,
+                // Lista vazia em "IN ()" não é SQL válido: usa um ID que nunca existe
+                filterIds ? request.ids() : List.of(new UUID(0, 0)),
+                counterpartyId,
+                categoryId);
+    }
+
+    /**
+     * Monta uma batalha nova (ainda não salva)
+     */
+    private Battle newBattle(
+            Player creator,
+            Player opponent,
+            String externalName,
+            BigDecimal amount,
+            Category category,
+            String description,
+            boolean creatorIsCreditor,
+            LocalDate dueDate
+    ) {
+        Battle battle = new Battle();
+        battle.setCreator(creator);
+        battle.setOpponent(opponent);
+        battle.setExternalName(externalName);
+        battle.setAmount(amount);
+        battle.setRemainingAmount(amount);
+        battle.setCategory(category);
+        battle.setDescription(description);
+        battle.setCreatorIsCreditor(creatorIsCreditor);
+        battle.setDueDate(dueDate);
+        return battle;
+    }
+
+    /**
+     * Aplica as validações do CreateBattleRequest (@NotNull, @Positive...)
+     *
+     * @return a primeira mensagem de erro, ou null se estiver válido
+     */
+    private String validate(CreateBattleRequest request) {
+        if (request == null) {
+            return "Item vazio";
+        }
+        Set<ConstraintViolation<CreateBattleRequest>> violations = validator.validate(request);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private record BulkFilter(boolean filterIds, List<UUID> ids, UUID counterpartyId, Integer categoryId) {}
+
+    /**
+     * Conteúdo da notificação BATTLE_CREATED (do ponto de vista do oponente)
+     */
+    private record BattleCreatedPayload(
+            UUID battleId,
+            String creatorNickname,
+            BigDecimal amount,
+            boolean isCreditor,
+            String category
+    ) {}
 }
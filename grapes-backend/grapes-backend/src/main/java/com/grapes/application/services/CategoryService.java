@@ -0,0 +1,220 @@
+package com.grapes.application.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.Category;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.PlayerCategoryStat;
+import com.grapes.infrastructure.persistence.BattleParties;
+import com.grapes.infrastructure.persistence.CategoryRepository;
+import com.grapes.infrastructure.persistence.IdempotentInsert;
+import com.grapes.infrastructure.persistence.PlayerCategoryStatRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Service de categorias: tradução texto → categoria e contadores por jogador.
+ *
+ * 📚 CACHE (interning):
+ * - Cada texto normalizado aponta sempre para a MESMA Category
+ * - Na memória: nenhuma consulta para as categorias já vistas
+ * - Categoria nova: INSERT em transação própria; se outra requisição
+ *   criou a mesma ao mesmo tempo, a chave única barra e relemos a dela
+ *
+ * 📚 CONTADORES:
+ * - Atualizados na mesma transação da batalha (soma/subtrai, nunca recontam)
+ * - Primeira batalha do jogador na categoria: a linha é criada em 0 e
+ *   recebe o UPDATE como as outras (criação idempotente: duas primeiras
+ *   batalhas ao mesmo tempo não violam uk_player_category)
+ * - GET /categories lê só os contadores
+ */
+@Service
+public class CategoryService {
+
+    private static final String INSERT_STAT_IF_ABSENT =
+            "INSERT INTO player_category_stats (id, player_id, category_id, battle_count, last_used_at) " +
+            "SELECT ?, ?, ?, 0, ? WHERE NOT EXISTS " +
+            "(SELECT 1 FROM player_category_stats WHERE player_id = ? AND category_id = ?)";
+
+    private final CategoryRepository categoryRepository;
+    private final PlayerCategoryStatRepository statRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate newTransaction;
+
+    // Categorias são imutáveis: o cache nunca precisa ser invalidado
+    private final Map<String, Category> byNormalizedName = new ConcurrentHashMap<>();
+    private final Map<Integer, Category> byId = new ConcurrentHashMap<>();
+
+    @Value("${grapes.categories.cache-size:10000}")
+    private int cacheSize;
+
+    public CategoryService(
+            CategoryRepository categoryRepository,
+            PlayerCategoryStatRepository statRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.categoryRepository = categoryRepository;
+        this.statRepository = statRepository;
+        this.entityManager = entityManager;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Categoria do texto informado, criando se ainda não existir
+     *
+     * @throws IllegalArgumentException se o texto estiver vazio
+     */
+    public Category resolve(String name) {
+        String key = Category.normalize(name);
+        Category cached = byNormalizedName.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Category category = categoryRepository.findByNormalizedName(key)
+                .orElseGet(() -> create(name, key));
+        return remember(category);
+    }
+
+    /**
+     * Categoria do texto informado, sem criar (para filtros)
+     */
+    public Optional<Category> find(String name) {
+        String key = Category.normalize(name);
+        Category cached = byNormalizedName.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return categoryRepository.findByNormalizedName(key).map(this::remember);
+    }
+
+    /**
+     * Categoria pelo ID (normalmente direto do cache)
+     */
+    public Category getById(Integer id) {
+        Category cached = byId.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Categoria não encontrada"));
+        return remember(category);
+    }
+
+    // ========== CONTADORES POR JOGADOR ==========
+
+    /**
+     * Categorias usadas pelo player, das mais usadas para as menos
+     */
+    @Transactional(readOnly = true)
+    public List<PlayerCategoryStat> getPlayerCategories(Player player) {
+        return statRepository.findUsedByPlayer(player.getId());
+    }
+
+    /**
+     * Soma as batalhas novas nos contadores dos jogadores envolvidos
+     */
+    @Transactional
+    public void countCreated(List<Battle> battles) {
+        Map<UUID, Map<Integer, Long>> deltas = new HashMap<>();
+        for (Battle battle : battles) {
+            Integer categoryId = battle.getCategory().getId();
+            BattleParties.of(battle).playerIds().forEach(playerId ->
+                    deltas.computeIfAbsent(playerId, id -> new HashMap<>()).merge(categoryId, 1L, Long::sum));
+        }
+        applyDeltas(deltas);
+    }
+
+    /**
+     * Subtrai as batalhas removidas dos contadores dos jogadores envolvidos
+     *
+     * @param categoryIds categoria de cada batalha, por ID da batalha
+     */
+    @Transactional
+    public void countDeleted(List<BattleParties> battles, Map<UUID, Integer> categoryIds) {
+        Map<UUID, Map<Integer, Long>> deltas = new HashMap<>();
+        for (BattleParties battle : battles) {
+            Integer categoryId = categoryIds.get(battle.battleId());
+            battle.playerIds().forEach(playerId ->
+                    deltas.computeIfAbsent(playerId, id -> new HashMap<>()).merge(categoryId, -1L, Long::sum));
+        }
+        applyDeltas(deltas);
+    }
+
+    /**
+     * Um UPDATE por (jogador, valor do incremento). Antes, as linhas que
+     * ainda não existem são criadas em 0, então o UPDATE sempre as encontra
+     * (mesma ideia das versões de sync)
+     */
+    private void applyDeltas(Map<UUID, Map<Integer, Long>> deltas) {
+        LocalDateTime now = LocalDateTime.now();
+
+        deltas.forEach((playerId, byCategory) -> {
+            // Só contador positivo pode ser novo (remoção sempre tem linha)
+            List<Integer> added = byCategory.entrySet().stream()
+                    .filter(e -> e.getValue() > 0)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (!added.isEmpty()) {
+                List<Integer> existing = statRepository.findExistingCategoryIds(playerId, added);
+                added.stream()
+                        .filter(categoryId -> !existing.contains(categoryId))
+                        .forEach(categoryId -> IdempotentInsert.execute(entityManager, INSERT_STAT_IF_ABSENT,
+                                UUID.randomUUID(), playerId, categoryId, now, playerId, categoryId));
+            }
+
+            Map<Long, List<Integer>> categoriesByDelta = new TreeMap<>();
+            byCategory.forEach((categoryId, delta) ->
+                    categoriesByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(categoryId));
+            categoriesByDelta.forEach((delta, categoryIds) ->
+                    statRepository.incrementAll(playerId, categoryIds, delta, now));
+        });
+    }
+
+    /**
+     * INSERT da categoria nova em transação própria: uma violação da chave
+     * única não pode derrubar a transação de quem está criando a batalha
+     */
+    private Category create(String name, String key) {
+        try {
+            return newTransaction.execute(status -> categoryRepository.saveAndFlush(new Category(name)));
+        } catch (DataIntegrityViolationException e) {
+            // Outra requisição criou a mesma categoria agora há pouco
+            return categoryRepository.findByNormalizedName(key).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * Guarda a categoria no cache e devolve a instância canônica
+     */
+    private Category remember(Category category) {
+        if (byId.size() >= cacheSize) {
+            return category;   // Cache cheio: segue funcionando, só sem guardar as novas
+        }
+        Category canonical = byNormalizedName.putIfAbsent(category.getNormalizedName(), category);
+        if (canonical != null) {
+            return canonical;
+        }
+        byId.putIfAbsent(category.getId(), category);
+        return category;
+    }
+}
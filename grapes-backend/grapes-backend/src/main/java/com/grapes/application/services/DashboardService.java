@@ -0,0 +1,143 @@
+package com.grapes.application.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.grapes.application.dto.BattleResponse;
+import com.grapes.application.dto.DashboardResponse;
+import com.grapes.application.dto.FriendResponse;
+import com.grapes.application.dto.FriendshipResponse;
+import com.grapes.application.dto.PlayerPrivateResponse;
+import com.grapes.domain.model.Player;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Service do painel inicial (dashboard).
+ *
+ * 📚 COMO FUNCIONA:
+ * - O player é resolvido UMA vez (pelo controller)
+ * - Cada seção roda em paralelo em sua própria virtual thread,
+ *   com sua própria transação somente-leitura
+ * - Todas as seções compartilham o mesmo prazo (section-timeout-ms);
+ *   a que não terminar a tempo vai para "incompleteSections"
+ *
+ * Assim o tempo total é o da seção mais lenta (limitado pelo prazo),
+ * e não a soma de todas.
+ *
+ * 📚 E A SEÇÃO ATRASADA?
+ * - O Future é cancelado com interrupção (a virtual thread é interrompida)
+ * - A transação tem timeout: a consulta em andamento recebe o query
+ *   timeout do JDBC e devolve a conexão, mesmo que o driver ignore a
+ *   interrupção (o timeout do JDBC é em segundos, arredondado para cima)
+ * - No máximo max-concurrent-sections seções usam o banco ao mesmo
+ *   tempo; a que não conseguir vaga até o prazo também fica incompleta.
+ *   Assim vários dashboards juntos não esgotam o pool de conexões
+ */
+@Service
+public class DashboardService {
+
+    private final BattleService battleService;
+    private final FriendshipService friendshipService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore sectionPermits;
+    private final long sectionTimeoutMs;
+
+    public DashboardService(
+            BattleService battleService,
+            FriendshipService friendshipService,
+            PlatformTransactionManager transactionManager,
+            @Value("${grapes.dashboard.section-timeout-ms:800}") long sectionTimeoutMs,
+            @Value("${grapes.dashboard.max-concurrent-sections:8}") int maxConcurrentSections
+    ) {
+        this.battleService = battleService;
+        this.friendshipService = friendshipService;
+        this.sectionTimeoutMs = sectionTimeoutMs;
+        this.sectionPermits = new Semaphore(maxConcurrentSections);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMs + 999)));
+    }
+
+    /**
+     * Monta o dashboard do player buscando as seções em paralelo
+     */
+    public DashboardResponse getDashboard(Player player) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs);
+
+        Future<List<BattleResponse>> pending = section(deadline, () ->
+                battleService.getPendingBattles(player).stream().map(b -> BattleResponse.from(b, player)).toList());
+        Future<List<BattleResponse>> battles = section(deadline, () ->
+                battleService.getPlayerBattles(player).stream().map(b -> BattleResponse.from(b, player)).toList());
+        Future<List<FriendResponse>> friends = section(deadline, () ->
+                friendshipService.getFriends(player).stream().map(FriendResponse::from).toList());
+        Future<List<FriendshipResponse>> requests = section(deadline, () ->
+                friendshipService.getPendingRequests(player).stream().map(FriendshipResponse::from).toList());
+
+        List<String> incomplete = new ArrayList<>();
+
+        return new DashboardResponse(
+                PlayerPrivateResponse.from(player),
+                await("pendingBattles", pending, deadline, incomplete),
+                await("battles", battles, deadline, incomplete),
+                await("friends", friends, deadline, incomplete),
+                await("friendRequests", requests, deadline, incomplete),
+                incomplete);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Dispara uma seção em virtual thread, dentro de transação somente-leitura.
+     * A vaga no banco é pega pela própria tarefa: cancelada antes de rodar,
+     * ela não segura nenhuma
+     */
+    private <T> Future<T> section(long deadline, Supplier<T> query) {
+        return executor.submit(() -> {
+            if (!sectionPermits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                throw new TimeoutException("Sem vaga para a seção do dashboard");
+            }
+            try {
+                return readOnlyTransaction.execute(status -> query.get());
+            } finally {
+                sectionPermits.release();
+            }
+        });
+    }
+
+    /**
+     * Espera a seção até o prazo comum; se falhar ou atrasar, devolve null
+     */
+    private <T> T await(String name, Future<T> future, long deadline, List<String> incomplete) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            future.cancel(true);
+            incomplete.add(name);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            incomplete.add(name);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.grapes.application.services;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.grapes.application.dto.FeedItemResponse;
+import com.grapes.application.dto.FeedPageResponse;
+import com.grapes.domain.events.BattlePaid;
+import com.grapes.domain.events.DomainEvent;
+import com.grapes.domain.events.FriendshipAccepted;
+import com.grapes.domain.events.XpGained;
+import com.grapes.domain.model.ActivityEvent;
+import com.grapes.domain.model.ActivityType;
+import com.grapes.domain.model.Player;
+import com.grapes.infrastructure.events.DomainEventHandler;
+import com.grapes.infrastructure.feed.ActivityFeed;
+import com.grapes.infrastructure.feed.FeedItem;
+import com.grapes.infrastructure.persistence.ActivityEventRepository;
+import com.grapes.infrastructure.persistence.AfterCommit;
+import com.grapes.infrastructure.persistence.FriendshipRepository;
+
+/**
+ * Service do feed de atividades dos amigos (GET /feed).
+ *
+ * 📚 COMO FUNCIONA:
+ * - Handler do DomainEventBus: BattlePaid, FriendshipAccepted e XpGained
+ *   (com level up) viram atividades. Cada uma é gravada em activity_events
+ *   na transação do próprio handler (fora da requisição) e, depois do
+ *   commit, o ActivityFeed a distribui para os feeds em memória dos amigos
+ * - getFeed(): lê da memória; o feed de quem ainda não estava carregado
+ *   é montado com UMA consulta (atividades recentes de todos os amigos)
+ * - Páginas mais antigas que a memória saem da tabela, com a mesma consulta
+ */
+@Service
+public class FeedService implements DomainEventHandler {
+
+    private final ActivityEventRepository activityEventRepository;
+    private final FriendshipRepository friendshipRepository;
+    private final ActivityFeed activityFeed;
+    private final TransactionTemplate transactionTemplate;
+
+    public FeedService(
+            ActivityEventRepository activityEventRepository,
+            FriendshipRepository friendshipRepository,
+            ActivityFeed activityFeed,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.activityEventRepository = activityEventRepository;
+        this.friendshipRepository = friendshipRepository;
+        this.activityFeed = activityFeed;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public String name() {
+        return "feed";
+    }
+
+    @Override
+    public Set<Class<? extends DomainEvent>> eventTypes() {
+        return Set.of(BattlePaid.class, FriendshipAccepted.class, XpGained.class);
+    }
+
+    /**
+     * Transforma o evento em atividade(s) do feed
+     */
+    @Override
+    public void handle(DomainEvent event) {
+        switch (event) {
+            case BattlePaid paid -> record(paid.actorId(), paid.actorNickname(), ActivityType.BATTLE_SETTLED,
+                    paid.counterpartNickname(), paid.battleIds().size());
+            case FriendshipAccepted accepted -> {
+                record(accepted.requesterId(), accepted.requesterNickname(), ActivityType.NEW_FRIENDSHIP,
+                        accepted.addresseeNickname(), 0);
+                record(accepted.addresseeId(), accepted.addresseeNickname(), ActivityType.NEW_FRIENDSHIP,
+                        accepted.requesterNickname(), 0);
+                // Os dois ganharam um amigo: os feeds deles são remontados
+                activityFeed.evict(accepted.requesterId());
+                activityFeed.evict(accepted.addresseeId());
+            }
+            case XpGained xp -> {
+                if (xp.levelsGained() > 0) {
+                    record(xp.playerId(), xp.nickname(), ActivityType.LEVEL_UP, null, xp.level());
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * As amizades do jogador mudaram: o feed dele é remontado na próxima leitura
+     */
+    public void friendshipsChanged(UUID playerId) {
+        AfterCommit.run(() -> activityFeed.evict(playerId));
+    }
+
+    /**
+     * Uma página do feed, mais novas primeiro
+     *
+     * @param cursor nextCursor da página anterior (null = primeira página)
+     */
+    @Transactional(readOnly = true)
+    public FeedPageResponse getFeed(Player player, String cursor, int limit) {
+        long beforeId = cursor == null ? Long.MAX_VALUE : decodeCursor(cursor);
+
+        ActivityFeed.Feed feed = activityFeed.get(player.getId());
+        if (feed == null) {
+            feed = load(player.getId());
+        }
+
+        // Uma a mais que o limite: diz se existe próxima página
+        List<FeedItem> items = activityFeed.page(feed, beforeId, limit + 1);
+        if (items == null) {
+            items = feed.friendIds().isEmpty()
+                    ? List.of()
+                    : activityEventRepository.findByActors(feed.friendIds(), beforeId, Limit.of(limit + 1)).stream()
+                            .map(FeedItem::from)
+                            .toList();
+        }
+
+        boolean hasMore = items.size() > limit;
+        List<FeedItem> page = hasMore ? items.subList(0, limit) : items;
+        return new FeedPageResponse(
+                page.stream().map(FeedItemResponse::from).toList(),
+                hasMore ? String.valueOf(page.get(page.size() - 1).id()) : null);
+    }
+
+    /**
+     * Monta o feed em memória: registra (para não perder o fan-out que
+     * chegar no meio) e depois lê as atividades recentes dos amigos
+     */
+    private ActivityFeed.Feed load(UUID playerId) {
+        Set<UUID> friendIds = new HashSet<>(friendshipRepository.findFriendIds(playerId));
+        ActivityFeed.Feed feed = activityFeed.register(playerId, friendIds);
+        List<FeedItem> recent = friendIds.isEmpty()
+                ? List.of()
+                : activityEventRepository.findByActors(friendIds, Long.MAX_VALUE, Limit.of(activityFeed.ringSize())).stream()
+                        .map(FeedItem::from)
+                        .toList();
+        activityFeed.fill(feed, recent);
+        return feed;
+    }
+
+    /**
+     * Grava a atividade (transação própria) e a distribui depois do commit
+     */
+    private void record(UUID actorId, String actorNickname, ActivityType type, String counterpartNickname, int value) {
+        transactionTemplate.executeWithoutResult(status -> {
+            ActivityEvent event = activityEventRepository.save(
+                    new ActivityEvent(actorId, actorNickname, type, counterpartNickname, value));
+            List<UUID> friendIds = friendshipRepository.findFriendIds(actorId);
+            if (friendIds.isEmpty()) {
+                return;
+            }
+            FeedItem item = FeedItem.from(event);
+            AfterCommit.run(() -> activityFeed.fanOut(item, friendIds));
+        });
+    }
+
+    private static long decodeCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+}
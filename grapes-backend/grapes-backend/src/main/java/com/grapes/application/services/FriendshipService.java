@@ -1,5 +1,6 @@
 package com.grapes.application.services;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -7,11 +8,19 @@ import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.grapes.application.exceptions.ConflictException;
+import com.grapes.domain.events.FriendshipAccepted;
 import com.grapes.domain.model.Friendship;
 import com.grapes.domain.model.FriendshipStatus;
+import com.grapes.domain.model.NotificationType;
 import com.grapes.domain.model.Player;
+import com.grapes.domain.model.SyncEntityType;
+import com.grapes.infrastructure.events.DomainEventBus;
+import com.grapes.infrastructure.notifications.NotificationOutbox;
 import com.grapes.infrastructure.persistence.FriendshipRepository;
 import com.grapes.infrastructure.persistence.PlayerRepository;
+import com.grapes.infrastructure.realtime.EventStreamService;
+import com.grapes.infrastructure.realtime.StreamEventType;
 
 /**
  * Service para gerenciamento de amizades.
@@ -21,10 +30,28 @@ public class FriendshipService {
 
     private final FriendshipRepository friendshipRepository;
     private final PlayerRepository playerRepository;
-
-    public FriendshipService(FriendshipRepository friendshipRepository, PlayerRepository playerRepository) {
+    private final EventStreamService eventStreamService;
+    private final SyncService syncService;
+    private final NotificationOutbox notificationOutbox;
+    private final FeedService feedService;
+    private final DomainEventBus eventBus;
+
+    public FriendshipService(
+            FriendshipRepository friendshipRepository,
+            PlayerRepository playerRepository,
+            EventStreamService eventStreamService,
+            SyncService syncService,
+            NotificationOutbox notificationOutbox,
+            FeedService feedService,
+            DomainEventBus eventBus
+    ) {
         this.friendshipRepository = friendshipRepository;
         this.playerRepository = playerRepository;
+        this.eventStreamService = eventStreamService;
+        this.syncService = syncService;
+        this.notificationOutbox = notificationOutbox;
+        this.feedService = feedService;
+        this.eventBus = eventBus;
     }
 
     /**
@@ -52,8 +79,17 @@ public class FriendshipService {
         });
 
         // Cria o convite
-        Friendship friendship = new Friendship(requester, addressee);
-        return friendshipRepository.save(friendship);
+        Friendship friendship = friendshipRepository.save(new Friendship(requester, addressee));
+        recordChange(friendship, false);
+
+        // Avisa o destinatário em tempo real (após o commit)
+        eventStreamService.publishAfterCommit(StreamEventType.FRIEND_REQUEST_RECEIVED,
+                friendship.getId(), requester.getNickname(), List.of(addressee.getId()));
+        // E por notificação (outbox: gravada no mesmo commit, entregue em segundo plano)
+        notificationOutbox.enqueue(NotificationType.FRIEND_REQUEST, addressee.getId(),
+                new FriendRequestPayload(friendship.getId(), requester.getNickname()),
+                "friend-request:" + friendship.getId());
+        return friendship;
     }
 
     /**
@@ -69,12 +105,24 @@ public class FriendshipService {
             throw new IllegalArgumentException("Apenas o destinatário pode aceitar o convite");
         }
 
-        if (friendship.getStatus() != FriendshipStatus.PENDING) {
-            throw new IllegalArgumentException("Este convite já foi respondido");
+        // UPDATE condicional (WHERE status = PENDING): quem chegar depois perde
+        if (friendshipRepository.acceptIfPending(friendshipId, player, LocalDateTime.now()) == 0) {
+            throw new ConflictException("Este convite já foi respondido");
         }
 
-        friendship.accept();
-        return friendshipRepository.save(friendship);
+        friendship = findFriendship(friendshipId);
+        recordChange(friendship, false);
+
+        // Avisa os dois lados: quem enviou e os outros dispositivos de quem aceitou
+        eventStreamService.publishAfterCommit(StreamEventType.FRIEND_REQUEST_ACCEPTED,
+                friendship.getId(), player.getNickname(),
+                List.of(friendship.getRequester().getId(), friendship.getAddressee().getId()));
+
+        Player requester = friendship.getRequester();
+        Player addressee = friendship.getAddressee();
+        eventBus.publish(new FriendshipAccepted(friendship.getId(),
+                requester.getId(), requester.getNickname(), addressee.getId(), addressee.getNickname()));
+        return friendship;
     }
 
     /**
@@ -90,12 +138,13 @@ public class FriendshipService {
             throw new IllegalArgumentException("Apenas o destinatário pode rejeitar o convite");
         }
 
-        if (friendship.getStatus() != FriendshipStatus.PENDING) {
-            throw new IllegalArgumentException("Este convite já foi respondido");
+        if (friendshipRepository.rejectIfPending(friendshipId, player) == 0) {
+            throw new ConflictException("Este convite já foi respondido");
         }
 
-        friendship.reject();
-        return friendshipRepository.save(friendship);
+        friendship = findFriendship(friendshipId);
+        recordChange(friendship, false);
+        return friendship;
     }
 
     /**
@@ -112,6 +161,9 @@ public class FriendshipService {
         }
 
         friendshipRepository.delete(friendship);
+        recordChange(friendship, true);
+        feedService.friendshipsChanged(friendship.getRequester().getId());
+        feedService.friendshipsChanged(friendship.getAddressee().getId());
     }
 
     /**
@@ -147,4 +199,25 @@ public class FriendshipService {
     public boolean areFriends(Player player1, Player player2) {
         return friendshipRepository.areFriends(player1, player2);
     }
+
+    private Friendship findFriendship(UUID friendshipId) {
+        return friendshipRepository.findById(friendshipId)
+                .orElseThrow(() -> new RuntimeException("Convite não encontrado"));
+    }
+
+    /**
+     * Registra a mudança no log de sync dos dois jogadores (mesma transação)
+     */
+    private void recordChange(Friendship friendship, boolean deleted) {
+        syncService.recordChange(
+                List.of(friendship.getRequester().getId(), friendship.getAddressee().getId()),
+                SyncEntityType.FRIENDSHIP,
+                friendship.getId(),
+                deleted);
+    }
+
+    /**
+     * Conteúdo da notificação FRIEND_REQUEST
+     */
+    private record FriendRequestPayload(UUID friendshipId, String requesterNickname) {}
 }
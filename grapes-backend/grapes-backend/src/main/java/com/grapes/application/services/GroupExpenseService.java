@@ -0,0 +1,237 @@
+package com.grapes.application.services;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.grapes.application.dto.CreateGroupExpenseRequest;
+import com.grapes.application.dto.ExpenseShareResponse;
+import com.grapes.application.dto.GroupExpenseResponse;
+import com.grapes.application.exceptions.ConflictException;
+import com.grapes.domain.model.ExpenseShare;
+import com.grapes.domain.model.GroupExpense;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.ShareStatus;
+import com.grapes.domain.split.ShareAllocator;
+import com.grapes.infrastructure.persistence.ExpenseShareRepository;
+import com.grapes.infrastructure.persistence.GroupExpenseRepository;
+import com.grapes.infrastructure.persistence.PlayerRepository;
+import com.grapes.infrastructure.persistence.ShareAggregate;
+
+/**
+ * Service para despesas em grupo (conta dividida entre várias pessoas).
+ *
+ * 📚 COMO FUNCIONA:
+ * - A divisão é feita pelo ShareAllocator (arredondamento determinístico)
+ * - A despesa (pai) e as partes (filhas) são gravadas juntas, com os
+ *   INSERTs das partes em lote JDBC
+ * - A parte de quem pagou a conta já nasce PAGA
+ * - Os resumos vêm de COUNT/SUM sobre as partes, direto no banco
+ */
+@Service
+public class GroupExpenseService {
+
+    private final GroupExpenseRepository groupExpenseRepository;
+    private final ExpenseShareRepository expenseShareRepository;
+    private final PlayerRepository playerRepository;
+
+    public GroupExpenseService(
+            GroupExpenseRepository groupExpenseRepository,
+            ExpenseShareRepository expenseShareRepository,
+            PlayerRepository playerRepository
+    ) {
+        this.groupExpenseRepository = groupExpenseRepository;
+        this.expenseShareRepository = expenseShareRepository;
+        this.playerRepository = playerRepository;
+    }
+
+    /**
+     * Cria uma despesa em grupo e divide entre os participantes
+     */
+    @Transactional
+    public GroupExpenseResponse create(Player creator, CreateGroupExpenseRequest request) {
+        List<CreateGroupExpenseRequest.Participant> participants = request.participants();
+
+        // Passo 1: Resolve todos os nicknames em uma única consulta
+        Set<String> nicknames = participants.stream()
+                .map(CreateGroupExpenseRequest.Participant::nickname)
+                .filter(n -> n != null && !n.isBlank())
+                .collect(Collectors.toSet());
+        Map<String, Player> players = nicknames.isEmpty()
+                ? Map.of()
+                : playerRepository.findByNicknameIn(nicknames).stream()
+                        .collect(Collectors.toMap(Player::getNickname, Function.identity()));
+
+        // Passo 2: Divide o total (a soma das partes é sempre igual ao total)
+        List<BigDecimal> amounts = ShareAllocator.allocate(
+                request.splitMode(),
+                request.totalAmount(),
+                participants.stream().map(CreateGroupExpenseRequest.Participant::weight).toList(),
+                participants.size());
+
+        GroupExpense expense = new GroupExpense();
+        expense.setCreator(creator);
+        expense.setTotalAmount(request.totalAmount());
+        expense.setCategory(request.category());
+        expense.setDescription(request.description());
+        expense.setSplitMode(request.splitMode());
+
+        // Passo 3: Monta as partes
+        List<ExpenseShare> shares = new ArrayList<>();
+        Set<UUID> seenPlayers = new HashSet<>();
+        for (int i = 0; i < participants.size(); i++) {
+            CreateGroupExpenseRequest.Participant participant = participants.get(i);
+            ExpenseShare share = new ExpenseShare();
+            share.setExpense(expense);
+            share.setPosition(i);
+            share.setAmount(amounts.get(i));
+
+            if (participant.nickname() != null && !participant.nickname().isBlank()) {
+                Player player = players.get(participant.nickname());
+                if (player == null) {
+                    throw new RuntimeException("Jogador não encontrado: " + participant.nickname());
+                }
+                if (!seenPlayers.add(player.getId())) {
+                    throw new IllegalArgumentException("Participante repetido: " + participant.nickname());
+                }
+                share.setParticipant(player);
+
+                // Quem pagou a conta não deve nada a si mesmo
+                if (player.getId().equals(creator.getId())) {
+                    share.markAsPaid();
+                }
+            } else if (participant.externalName() != null && !participant.externalName().isBlank()) {
+                share.setExternalName(participant.externalName());
+            } else {
+                throw new IllegalArgumentException("Informe o nickname ou nome externo de cada participante");
+            }
+            shares.add(share);
+        }
+
+        // Passo 4: Pai + partes na mesma transação (partes em lote JDBC)
+        groupExpenseRepository.save(expense);
+        expenseShareRepository.saveAll(shares);
+
+        return toResponse(expense, shares);
+    }
+
+    /**
+     * Lista as despesas do player (criadas ou em que participa) com resumo
+     */
+    @Transactional(readOnly = true)
+    public List<GroupExpenseResponse> getPlayerExpenses(Player player) {
+        List<GroupExpense> expenses = groupExpenseRepository.findByPlayer(player);
+        if (expenses.isEmpty()) {
+            return List.of();
+        }
+
+        // Um único GROUP BY para o resumo de todas as despesas
+        Map<UUID, List<ShareAggregate>> aggregates = expenseShareRepository
+                .aggregateByExpense(expenses.stream().map(GroupExpense::getId).toList()).stream()
+                .collect(Collectors.groupingBy(ShareAggregate::expenseId));
+
+        return expenses.stream()
+                .map(e -> summarize(e, aggregates.getOrDefault(e.getId(), List.of()), null))
+                .toList();
+    }
+
+    /**
+     * Detalhe de uma despesa com todas as partes
+     */
+    @Transactional(readOnly = true)
+    public GroupExpenseResponse getExpense(UUID expenseId, Player player) {
+        GroupExpense expense = groupExpenseRepository.findById(expenseId)
+                .orElseThrow(() -> new RuntimeException("Despesa não encontrada"));
+        List<ExpenseShare> shares = expenseShareRepository.findByExpenseOrderByPositionAsc(expense);
+
+        if (!involves(expense, shares, player)) {
+            throw new IllegalArgumentException("Você não faz parte dessa despesa");
+        }
+        return toResponse(expense, shares);
+    }
+
+    /**
+     * Marca uma parte como paga (quem pagou a conta ou o próprio participante)
+     *
+     * @throws ConflictException se a parte já foi paga (inclusive por outra
+     *                           requisição ao mesmo tempo)
+     */
+    @Transactional
+    public GroupExpenseResponse payShare(UUID expenseId, UUID shareId, Player player) {
+        ExpenseShare share = expenseShareRepository.findById(shareId)
+                .filter(s -> s.getExpense().getId().equals(expenseId))
+                .orElseThrow(() -> new RuntimeException("Parte não encontrada"));
+        GroupExpense expense = share.getExpense();
+
+        boolean isCreator = expense.getCreator().getId().equals(player.getId());
+        boolean isParticipant = share.getParticipant() != null && share.getParticipant().getId().equals(player.getId());
+        if (!isCreator && !isParticipant) {
+            throw new IllegalArgumentException("Você não pode quitar essa parte");
+        }
+
+        // UPDATE condicional: se outra requisição quitou antes, 0 linhas
+        if (expenseShareRepository.markPaidIfPending(shareId, LocalDateTime.now()) == 0) {
+            throw new ConflictException("Essa parte já foi paga");
+        }
+
+        expense = groupExpenseRepository.findById(expenseId).orElseThrow();
+        return toResponse(expense, expenseShareRepository.findByExpenseOrderByPositionAsc(expense));
+    }
+
+    private boolean involves(GroupExpense expense, List<ExpenseShare> shares, Player player) {
+        return expense.getCreator().getId().equals(player.getId())
+                || shares.stream().anyMatch(s -> s.getParticipant() != null
+                        && s.getParticipant().getId().equals(player.getId()));
+    }
+
+    /**
+     * Resposta completa a partir das partes já carregadas
+     */
+    private GroupExpenseResponse toResponse(GroupExpense expense, List<ExpenseShare> shares) {
+        Map<ShareStatus, List<ExpenseShare>> byStatus = new HashMap<>();
+        shares.forEach(s -> byStatus.computeIfAbsent(s.getStatus(), k -> new ArrayList<>()).add(s));
+
+        List<ShareAggregate> aggregates = new ArrayList<>();
+        byStatus.forEach((status, list) -> aggregates.add(new ShareAggregate(
+                expense.getId(),
+                status,
+                (long) list.size(),
+                list.stream().map(ExpenseShare::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add))));
+
+        return summarize(expense, aggregates, shares.stream().map(ExpenseShareResponse::from).toList());
+    }
+
+    private GroupExpenseResponse summarize(
+            GroupExpense expense,
+            List<ShareAggregate> aggregates,
+            List<ExpenseShareResponse> shares
+    ) {
+        long shareCount = 0;
+        long pendingCount = 0;
+        BigDecimal paid = BigDecimal.ZERO;
+        BigDecimal pending = BigDecimal.ZERO;
+
+        for (ShareAggregate aggregate : aggregates) {
+            shareCount += aggregate.shares();
+            if (aggregate.status() == ShareStatus.PAID) {
+                paid = paid.add(aggregate.amount());
+            } else {
+                pendingCount += aggregate.shares();
+                pending = pending.add(aggregate.amount());
+            }
+        }
+
+        return GroupExpenseResponse.from(expense, shareCount, pendingCount, paid, pending, shares);
+    }
+}
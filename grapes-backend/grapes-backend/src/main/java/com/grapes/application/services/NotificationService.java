@@ -0,0 +1,99 @@
+package com.grapes.application.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.grapes.application.dto.NotificationPageResponse;
+import com.grapes.application.dto.NotificationResponse;
+import com.grapes.domain.model.Notification;
+import com.grapes.domain.model.Player;
+import com.grapes.infrastructure.notifications.UnreadCounters;
+import com.grapes.infrastructure.persistence.NotificationRepository;
+
+/**
+ * Service da caixa de entrada de notificações.
+ *
+ * 📚 COMO FUNCIONA:
+ * - As notificações são gravadas pelo NotificationOutbox (mesmo commit da mudança)
+ * - A lista é paginada por cursor (o id da última notificação da página)
+ * - O badge de não lidas vem do UnreadCounters (memória): marcar como
+ *   lida ajusta o contador depois do commit, sem COUNT
+ */
+@Service
+public class NotificationService {
+
+    private final NotificationRepository notificationRepository;
+    private final UnreadCounters unreadCounters;
+
+    public NotificationService(NotificationRepository notificationRepository, UnreadCounters unreadCounters) {
+        this.notificationRepository = notificationRepository;
+        this.unreadCounters = unreadCounters;
+    }
+
+    /**
+     * Uma página da caixa de entrada, mais novas primeiro
+     *
+     * @param cursor nextCursor da página anterior (null = primeira página)
+     */
+    @Transactional(readOnly = true)
+    public NotificationPageResponse getInbox(Player player, String cursor, int limit) {
+        long beforeId = cursor == null ? Long.MAX_VALUE : decodeCursor(cursor);
+
+        // Uma a mais que o limite: diz se existe próxima página sem outro COUNT
+        List<Notification> rows = notificationRepository.findPage(player.getId(), beforeId, Limit.of(limit + 1));
+        boolean hasMore = rows.size() > limit;
+        List<Notification> page = hasMore ? rows.subList(0, limit) : rows;
+
+        return new NotificationPageResponse(
+                page.stream().map(NotificationResponse::from).toList(),
+                hasMore ? String.valueOf(page.get(page.size() - 1).getId()) : null,
+                unreadCounters.get(player.getId()));
+    }
+
+    /**
+     * Quantidade de não lidas (badge): não toca no banco
+     */
+    public long getUnreadCount(Player player) {
+        return unreadCounters.get(player.getId());
+    }
+
+    /**
+     * Marca uma notificação como lida (lida de novo = nada muda)
+     */
+    @Transactional
+    public void markRead(Player player, long notificationId) {
+        if (notificationRepository.markRead(notificationId, player.getId(), LocalDateTime.now()) == 1) {
+            unreadCounters.adjustAfterCommit(player.getId(), -1);
+            return;
+        }
+        notificationRepository.findById(notificationId)
+                .filter(n -> n.getRecipientId().equals(player.getId()))
+                .orElseThrow(() -> new RuntimeException("Notificação não encontrada"));
+    }
+
+    /**
+     * Marca todas como lidas
+     *
+     * @return quantas estavam não lidas
+     */
+    @Transactional
+    public int markAllRead(Player player) {
+        int marked = notificationRepository.markAllRead(player.getId(), LocalDateTime.now());
+        if (marked > 0) {
+            unreadCounters.adjustAfterCommit(player.getId(), -marked);
+        }
+        return marked;
+    }
+
+    private static long decodeCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+}
@@ -5,7 +5,9 @@ import java.util.UUID;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.grapes.domain.events.XpGained;
 import com.grapes.domain.model.Player;
+import com.grapes.infrastructure.events.DomainEventBus;
 import com.grapes.infrastructure.persistence.PlayerRepository;
 
 /**
@@ -26,6 +28,7 @@ import com.grapes.infrastructure.persistence.PlayerRepository;
 public class PlayerService {
 
     private final PlayerRepository playerRepository;
+    private final DomainEventBus eventBus;
 
     /**
      * 📚 INJEÇÃO DE DEPENDÊNCIA
@@ -33,8 +36,9 @@ public class PlayerService {
      * Agora só precisamos do PlayerRepository!
      * UserRepository e PasswordEncoder foram para o AuthService.
      */
-    public PlayerService(PlayerRepository playerRepository) {
+    public PlayerService(PlayerRepository playerRepository, DomainEventBus eventBus) {
         this.playerRepository = playerRepository;
+        this.eventBus = eventBus;
     }
 
     /**
@@ -53,7 +57,8 @@ public class PlayerService {
                 .orElseThrow(() -> new RuntimeException("Player não encontrado: " + nickname));
 
         // Delega a lógica de negócio para o domínio (DDD)
-        player.gainExperience(amount);
+        int levelsGained = player.gainExperience(amount);
+        eventBus.publish(new XpGained(player.getId(), player.getNickname(), amount, levelsGained, player.getLevel()));
 
         // Persiste o estado atualizado
         return playerRepository.save(player);
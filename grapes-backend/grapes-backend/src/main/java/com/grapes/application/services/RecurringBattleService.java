@@ -0,0 +1,274 @@
+package com.grapes.application.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.grapes.application.dto.CreateRecurringBattleRequest;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.RecurringBattle;
+import com.grapes.infrastructure.persistence.PlayerRepository;
+import com.grapes.infrastructure.persistence.RecurringBattleRepository;
+
+/**
+ * Service de batalhas recorrentes (aluguel, assinaturas, contas do mês).
+ *
+ * 📚 COMO FUNCIONA:
+ * - Um job agendado busca só os modelos com nextRunAt vencido
+ *   (índice active + next_run_at), em lotes de grapes.recurring.batch-size
+ * - Cada lote, em UMA transação:
+ *   1. Calcula as ocorrências vencidas de cada modelo (no máximo
+ *      grapes.recurring.max-catch-up por modelo)
+ *   2. Gera todas as batalhas do lote com INSERTs em lote (BattleService)
+ *   3. Avança nextRunAt de cada modelo
+ * - Depois de uma parada, os modelos atrasados continuam vencidos e voltam
+ *   no próximo lote até alcançarem o presente: nenhuma ocorrência é pulada
+ *   e nenhuma transação cresce sem limite
+ *
+ * 📚 E SE UM MODELO FALHAR?
+ * Um lote que falha é refeito modelo a modelo (uma transação cada): os
+ * bons do lote são gerados e o modelo que falhar sozinho é desativado,
+ * em vez de derrubar o lote inteiro a cada execução (e travar, pela
+ * ordem de nextRunAt, todos os modelos atrás dele).
+ *
+ * 📚 POR QUE NÃO GERA DUAS VEZES?
+ * As batalhas e o novo nextRunAt vão no mesmo commit. Se duas instâncias
+ * pegarem o mesmo modelo, a segunda falha no @Version do modelo (e, por
+ * garantia, no índice único recurringId + occurrence da batalha).
+ */
+@Service
+public class RecurringBattleService {
+
+    private final RecurringBattleRepository recurringBattleRepository;
+    private final BattleService battleService;
+    private final PlayerRepository playerRepository;
+    private final CategoryService categoryService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${grapes.recurring.batch-size:200}")
+    private int batchSize;
+
+    @Value("${grapes.recurring.max-catch-up:24}")
+    private int maxCatchUp;
+
+    public RecurringBattleService(
+            RecurringBattleRepository recurringBattleRepository,
+            BattleService battleService,
+            PlayerRepository playerRepository,
+            CategoryService categoryService,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.recurringBattleRepository = recurringBattleRepository;
+        this.battleService = battleService;
+        this.playerRepository = playerRepository;
+        this.categoryService = categoryService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Cria um modelo recorrente. A primeira batalha sai na próxima ocorrência.
+     */
+    @Transactional
+    public RecurringBattle create(Player creator, CreateRecurringBattleRequest request) {
+        CronExpression cron = parse(request.schedule());
+        LocalDateTime nextRunAt = cron.next(LocalDateTime.now());
+        if (nextRunAt == null) {
+            throw new IllegalArgumentException("Regra de repetição nunca ocorre: " + request.schedule());
+        }
+
+        RecurringBattle recurring = new RecurringBattle();
+        recurring.setCreator(creator);
+        if (request.opponentNickname() != null && !request.opponentNickname().isBlank()) {
+            Player opponent = playerRepository.findByNickname(request.opponentNickname())
+                    .orElseThrow(() -> new RuntimeException("Jogador não encontrado: " + request.opponentNickname()));
+            if (creator.getId().equals(opponent.getId())) {
+                throw new IllegalArgumentException("Você não pode criar uma batalha consigo mesmo");
+            }
+            recurring.setOpponent(opponent);
+        } else if (request.externalName() != null && !request.externalName().isBlank()) {
+            recurring.setExternalName(request.externalName());
+        } else {
+            throw new IllegalArgumentException("Informe o nickname do amigo ou nome externo");
+        }
+
+        recurring.setAmount(request.amount());
+        recurring.setCategory(categoryService.resolve(request.category()));
+        recurring.setDescription(request.description());
+        recurring.setCreatorIsCreditor(request.iAmCreditor());
+        recurring.setSchedule(request.schedule().strip());
+        recurring.setDueInDays(request.dueInDays());
+        recurring.setNextRunAt(nextRunAt);
+        return recurringBattleRepository.save(recurring);
+    }
+
+    /**
+     * Modelos ativos do player (criados por ele ou com ele de oponente)
+     */
+    @Transactional(readOnly = true)
+    public List<RecurringBattle> getPlayerRecurring(Player player) {
+        return recurringBattleRepository.findActiveByPlayer(player);
+    }
+
+    /**
+     * Cancela o modelo (só o criador). As batalhas já geradas continuam.
+     */
+    @Transactional
+    public void cancel(UUID recurringId, Player player) {
+        RecurringBattle recurring = recurringBattleRepository.findById(recurringId)
+                .filter(RecurringBattle::isActive)
+                .orElseThrow(() -> new RuntimeException("Batalha recorrente não encontrada"));
+        if (!recurring.getCreator().getId().equals(player.getId())) {
+            throw new IllegalArgumentException("Só quem criou pode cancelar a recorrência");
+        }
+        recurring.setActive(false);
+    }
+
+    /**
+     * Job agendado: gera as ocorrências vencidas
+     */
+    @Scheduled(fixedDelayString = "${grapes.recurring.poll-ms:60000}")
+    public void generateDue() {
+        generate(LocalDateTime.now());
+    }
+
+    /**
+     * Gera todas as ocorrências vencidas até o instante informado
+     *
+     * @return quantas batalhas foram geradas
+     */
+    public int generate(LocalDateTime now) {
+        int generated = 0;
+        int templates;
+        do {
+            List<UUID> ids = new ArrayList<>();
+            Batch batch;
+            try {
+                batch = transactionTemplate.execute(status -> generateBatch(
+                        recurringBattleRepository.findDue(now, Limit.of(batchSize)), now, ids));
+            } catch (RuntimeException e) {
+                System.out.println("🍇 GRAPES: Lote de recorrências falhou, refazendo modelo a modelo: " + e.getMessage());
+                batch = generateOneByOne(ids, now);
+                if (batch == null) {
+                    // Algum modelo não foi gerado nem desativado: o resto fica para a próxima execução
+                    break;
+                }
+            }
+            templates = batch.templates();
+            generated += batch.battles();
+        } while (templates == batchSize);
+
+        if (generated > 0) {
+            System.out.println("🍇 GRAPES: " + generated + " batalhas recorrentes geradas");
+        }
+        return generated;
+    }
+
+    /**
+     * Um lote: ocorrências vencidas → batalhas → nextRunAt (mesma transação)
+     *
+     * @param ids recebe os IDs dos modelos do lote (para refazer se falhar)
+     */
+    private Batch generateBatch(List<RecurringBattle> due, LocalDateTime now, List<UUID> ids) {
+        if (due.isEmpty()) {
+            return new Batch(0, 0);
+        }
+        due.forEach(recurring -> ids.add(recurring.getId()));
+
+        Map<RecurringBattle, List<LocalDateTime>> occurrences = new LinkedHashMap<>();
+        for (RecurringBattle recurring : due) {
+            CronExpression cron = CronExpression.parse(recurring.getSchedule());
+            List<LocalDateTime> times = new ArrayList<>();
+            LocalDateTime next = recurring.getNextRunAt();
+            while (next != null && !next.isAfter(now) && times.size() < maxCatchUp) {
+                times.add(next);
+                next = cron.next(next);
+            }
+            occurrences.put(recurring, times);
+
+            recurring.setLastRunAt(times.get(times.size() - 1));
+            if (next == null) {
+                // A regra não ocorre mais (ex: ano fixo no passado)
+                recurring.setActive(false);
+            } else {
+                recurring.setNextRunAt(next);
+            }
+        }
+
+        // Os modelos estão no contexto do Hibernate: o novo nextRunAt vai no flush do commit
+        int battles = battleService.createRecurring(occurrences).size();
+        return new Batch(due.size(), battles);
+    }
+
+    /**
+     * Refaz um lote que falhou, um modelo por transação. O modelo que falhar
+     * sozinho é desativado (se outra instância não o avançou nesse meio tempo).
+     *
+     * @return o resultado do lote, ou null se algum modelo nem pôde ser desativado
+     */
+    private Batch generateOneByOne(List<UUID> ids, LocalDateTime now) {
+        int battles = 0;
+        for (UUID id : ids) {
+            LocalDateTime attempted = transactionTemplate.execute(status -> recurringBattleRepository.findById(id)
+                    .map(RecurringBattle::getNextRunAt)
+                    .orElse(null));
+            try {
+                battles += transactionTemplate.execute(status -> generateBatch(
+                        recurringBattleRepository.findById(id)
+                                .filter(r -> r.isActive() && !r.getNextRunAt().isAfter(now))
+                                .map(List::of)
+                                .orElse(List.of()),
+                        now,
+                        new ArrayList<>())).battles();
+            } catch (RuntimeException e) {
+                if (!deactivate(id, attempted, e)) {
+                    return null;
+                }
+            }
+        }
+        return new Batch(ids.size(), battles);
+    }
+
+    /**
+     * Desativa o modelo que falhou sozinho, se ele ainda está na ocorrência
+     * que falhou (se avançou, foi outra instância que o gerou)
+     *
+     * @return false se não foi possível desativar
+     */
+    private boolean deactivate(UUID id, LocalDateTime attempted, RuntimeException cause) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> recurringBattleRepository.findById(id)
+                    .filter(r -> r.isActive() && r.getNextRunAt().equals(attempted))
+                    .ifPresent(r -> {
+                        r.setActive(false);
+                        System.out.println("🍇 GRAPES: Batalha recorrente " + id + " desativada após falha: "
+                                + cause.getMessage());
+                    }));
+            return true;
+        } catch (RuntimeException e) {
+            System.out.println("🍇 GRAPES: Não foi possível desativar a batalha recorrente " + id + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static CronExpression parse(String schedule) {
+        try {
+            return CronExpression.parse(schedule.strip());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Regra de repetição inválida: " + schedule);
+        }
+    }
+
+    private record Batch(int templates, int battles) {}
+}
@@ -0,0 +1,230 @@
+package com.grapes.application.services;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.grapes.domain.events.BattleCreated;
+import com.grapes.domain.events.DomainEvent;
+import com.grapes.domain.model.NotificationType;
+import com.grapes.domain.model.OutboxMessage;
+import com.grapes.infrastructure.events.DomainEventHandler;
+import com.grapes.infrastructure.notifications.NotificationOutbox;
+import com.grapes.infrastructure.persistence.BattleReminder;
+import com.grapes.infrastructure.persistence.BattleRepository;
+import com.grapes.infrastructure.scheduling.TimingWheel;
+
+/**
+ * Service de lembretes de vencimento (batalhas com dueDate).
+ *
+ * 📚 COMO FUNCIONA:
+ * - Cada batalha pendente com vencimento vira uma entrada numa roda de
+ *   tempo (TimingWheel) para o dia do vencimento, no horário grapes.reminders.at
+ * - Na inicialização, a roda é montada com os lembretes ainda não emitidos
+ *   (uma leitura em streaming); batalhas novas entram pelo evento
+ *   BattleCreated (DomainEventBus, depois do commit)
+ * - A cada tick, os lembretes vencidos são emitidos em lotes, cada lote na
+ *   sua transação:
+ *   1. UPDATE condicional marca reminderSentAt (só pendentes e sem lembrete)
+ *   2. Para as batalhas que ESTE UPDATE marcou, grava as mensagens no
+ *      outbox (notification_outbox), uma por jogador
+ *
+ * 📚 POR QUE NUNCA DISPARA DUAS VEZES?
+ * A marcação e as mensagens do outbox vão no mesmo commit. Uma entrada
+ * velha na roda (batalha paga, apagada ou já lembrada), um reinício ou
+ * outra instância disparando a mesma batalha atualizam 0 linhas e não
+ * gravam nada. Se a transação falhar, nada foi gravado e o lote volta
+ * para a roda.
+ */
+@Service
+public class ReminderService implements DomainEventHandler {
+
+    private final BattleRepository battleRepository;
+    private final NotificationOutbox notificationOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TimingWheel<UUID> wheel;
+
+    // Lembretes que já estavam vencidos quando foram agendados (saem no próximo tick)
+    private final Queue<UUID> overdue = new ConcurrentLinkedQueue<>();
+
+    @Value("${grapes.reminders.at:09:00}")
+    private LocalTime remindAt;
+
+    @Value("${grapes.reminders.batch-size:500}")
+    private int batchSize;
+
+    @Value("${grapes.reminders.retry-delay-ms:60000}")
+    private long retryDelayMs;
+
+    public ReminderService(
+            BattleRepository battleRepository,
+            NotificationOutbox notificationOutbox,
+            PlatformTransactionManager transactionManager,
+            @Value("${grapes.reminders.tick-ms:1000}") long tickMillis,
+            @Value("${grapes.reminders.wheel-size:512}") int wheelSize
+    ) {
+        this.battleRepository = battleRepository;
+        this.notificationOutbox = notificationOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.wheel = new TimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * Monta a roda com os lembretes pendentes do banco
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPending() {
+        long start = System.nanoTime();
+        int loaded = readOnlyTransaction.execute(status -> {
+            int count = 0;
+            try (Stream<Object[]> rows = battleRepository.streamUnsentReminders()) {
+                for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                    add((UUID) row[0], (LocalDate) row[1]);
+                    count++;
+                }
+            }
+            return count;
+        });
+        System.out.printf("🍇 GRAPES: %d lembretes de vencimento agendados em %d ms%n",
+                loaded, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Override
+    public String name() {
+        return "reminders";
+    }
+
+    @Override
+    public Set<Class<? extends DomainEvent>> eventTypes() {
+        return Set.of(BattleCreated.class);
+    }
+
+    /**
+     * Lembrete perdido só voltaria no próximo reinício: com a fila cheia,
+     * agenda na thread de quem publicou
+     */
+    @Override
+    public Overflow overflow() {
+        return Overflow.RUN_INLINE;
+    }
+
+    /**
+     * Agenda os lembretes das batalhas criadas
+     */
+    @Override
+    public void handle(DomainEvent event) {
+        if (event instanceof BattleCreated created) {
+            created.battles().stream()
+                    .filter(battle -> battle.dueDate() != null)
+                    .forEach(battle -> add(battle.battleId(), battle.dueDate()));
+        }
+    }
+
+    /**
+     * Tick da roda: emite os lembretes que venceram
+     */
+    @Scheduled(fixedDelayString = "${grapes.reminders.tick-ms:1000}")
+    public void tick() {
+        List<UUID> due = new ArrayList<>(wheel.advanceTo(System.currentTimeMillis()));
+        UUID id;
+        while ((id = overdue.poll()) != null) {
+            due.add(id);
+        }
+
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<UUID> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                fire(batch);
+            } catch (RuntimeException e) {
+                System.out.println("🍇 GRAPES: Falha ao emitir lembretes (" + batch.size() + "), nova tentativa depois: " + e.getMessage());
+                long retryAt = System.currentTimeMillis() + retryDelayMs;
+                batch.forEach(battleId -> wheel.schedule(retryAt, battleId));
+            }
+        }
+    }
+
+    public int pendingCount() {
+        return wheel.size() + overdue.size();
+    }
+
+    private void add(UUID battleId, LocalDate dueDate) {
+        long fireAt = dueDate.atTime(remindAt).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (!wheel.schedule(fireAt, battleId)) {
+            overdue.add(battleId);
+        }
+    }
+
+    /**
+     * Um lote: marca as batalhas e grava o outbox (mesma transação)
+     */
+    private void fire(List<UUID> battleIds) {
+        int sent = transactionTemplate.execute(status -> {
+            // Truncado para o banco devolver exatamente o mesmo valor na consulta abaixo
+            LocalDateTime sentAt = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+            if (battleRepository.markReminded(battleIds, LocalDate.now(), sentAt) == 0) {
+                return 0;
+            }
+
+            List<OutboxMessage> messages = new ArrayList<>();
+            List<BattleReminder> reminders = battleRepository.findRemindedAt(battleIds, sentAt);
+            for (BattleReminder reminder : reminders) {
+                messages.add(message(reminder, reminder.creatorId(), reminder.opponentName(), reminder.creatorIsCreditor()));
+                if (reminder.opponentId() != null) {
+                    messages.add(message(reminder, reminder.opponentId(), reminder.creatorNickname(), !reminder.creatorIsCreditor()));
+                }
+            }
+            notificationOutbox.enqueueAll(messages);
+            return reminders.size();
+        });
+
+        if (sent > 0) {
+            System.out.println("🍇 GRAPES: " + sent + " lembretes de vencimento emitidos");
+        }
+    }
+
+    private OutboxMessage message(BattleReminder reminder, UUID recipientId, String counterpartyName, boolean isCreditor) {
+        ReminderPayload payload = new ReminderPayload(
+                reminder.battleId(),
+                counterpartyName,
+                reminder.remainingAmount(),
+                isCreditor,
+                reminder.dueDate().toString());
+        return notificationOutbox.message(
+                NotificationType.BATTLE_DUE,
+                recipientId,
+                payload,
+                "battle-due:" + reminder.battleId() + ":" + recipientId);
+    }
+
+    /**
+     * Conteúdo da notificação BATTLE_DUE
+     */
+    private record ReminderPayload(
+            UUID battleId,
+            String counterpartyName,
+            BigDecimal remainingAmount,
+            boolean isCreditor,
+            String dueDate
+    ) {}
+}
@@ -0,0 +1,168 @@
+package com.grapes.application.services;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.grapes.application.dto.SettlementPlanResponse;
+import com.grapes.application.dto.SettlementRequest;
+import com.grapes.application.dto.SettlementTransferResponse;
+import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.settlement.DebtNetting;
+import com.grapes.domain.settlement.Transfer;
+import com.grapes.infrastructure.persistence.BattleDebt;
+import com.grapes.infrastructure.persistence.BattleParties;
+import com.grapes.infrastructure.persistence.BattleRepository;
+import com.grapes.infrastructure.persistence.FriendshipRepository;
+import com.grapes.infrastructure.persistence.PlayerRepository;
+
+/**
+ * Service de acerto de contas em grupo.
+ *
+ * 📚 COMO FUNCIONA:
+ * - O grupo é o player logado + amigos dele
+ * - Uma consulta traz as batalhas pendentes DO PLAYER com membros do grupo
+ *   (batalhas com pessoas externas ficam de fora)
+ * - O saldo líquido com cada amigo vira um pagamento (o DebtNetting
+ *   calcula os saldos)
+ * - "plan" só mostra o plano; "apply" quita as batalhas com um UPDATE
+ *   em massa e cria uma batalha por pagamento
+ *
+ * 📚 POR QUE SÓ AS BATALHAS DO PLAYER?
+ * Quem acerta só mexe no que é dele: batalhas entre dois amigos dele não
+ * entram, e todo pagamento do plano tem o player de um dos lados (nunca
+ * cria uma dívida nova entre outras duas pessoas).
+ */
+@Service
+public class SettlementService {
+
+    private final BattleRepository battleRepository;
+    private final PlayerRepository playerRepository;
+    private final FriendshipRepository friendshipRepository;
+    private final BattleService battleService;
+
+    public SettlementService(
+            BattleRepository battleRepository,
+            PlayerRepository playerRepository,
+            FriendshipRepository friendshipRepository,
+            BattleService battleService
+    ) {
+        this.battleRepository = battleRepository;
+        this.playerRepository = playerRepository;
+        this.friendshipRepository = friendshipRepository;
+        this.battleService = battleService;
+    }
+
+    /**
+     * Calcula o plano de acerto do grupo (não grava nada)
+     */
+    @Transactional(readOnly = true)
+    public SettlementPlanResponse plan(Player requester, SettlementRequest request) {
+        Plan plan = buildPlan(requester, request);
+        List<SettlementTransferResponse> transfers = plan.transfers().stream()
+                .map(t -> toResponse(t, plan.players(), null))
+                .toList();
+        return new SettlementPlanResponse(plan.players().size(), plan.debts().size(), false, transfers);
+    }
+
+    /**
+     * Calcula e aplica o plano de acerto na mesma transação
+     */
+    @Transactional
+    public SettlementPlanResponse apply(Player requester, SettlementRequest request) {
+        Plan plan = buildPlan(requester, request);
+        List<Battle> created = battleService.settleGroup(
+                requester,
+                plan.debts().stream().map(BattleDebt::parties).toList(),
+                plan.transfers(),
+                plan.players());
+
+        List<SettlementTransferResponse> transfers = new ArrayList<>();
+        for (int i = 0; i < created.size(); i++) {
+            transfers.add(toResponse(plan.transfers().get(i), plan.players(), created.get(i).getId()));
+        }
+        return new SettlementPlanResponse(plan.players().size(), plan.debts().size(), true, transfers);
+    }
+
+    private Plan buildPlan(Player requester, SettlementRequest request) {
+        Map<UUID, Player> players = resolveGroup(requester, request.nicknames());
+
+        // Passo 1: Batalhas pendentes do player com membros do grupo (projeção leve)
+        List<BattleDebt> debts = battleRepository.findPendingAmong(requester.getId(), players.keySet());
+
+        // Passo 2: Saldo líquido de cada um (em centavos). Toda batalha tem o
+        // player de um lado, então o saldo de cada amigo é o saldo com ele
+        Map<UUID, Long> net = DebtNetting.netPositions(debts.stream()
+                .map(d -> new Transfer(d.debtorId(), d.creditorId(), toCents(d.remainingAmount())))
+                .toList());
+
+        // Passo 3: Um pagamento por amigo com saldo (mínimo sem envolver terceiros)
+        List<Transfer> transfers = new ArrayList<>();
+        net.forEach((playerId, cents) -> {
+            if (playerId.equals(requester.getId()) || cents == 0) {
+                return;
+            }
+            transfers.add(cents < 0
+                    ? new Transfer(playerId, requester.getId(), -cents)
+                    : new Transfer(requester.getId(), playerId, cents));
+        });
+        return new Plan(players, debts, transfers);
+    }
+
+    /**
+     * Resolve os nicknames (uma consulta) e exige que todos sejam amigos do player
+     */
+    private Map<UUID, Player> resolveGroup(Player requester, List<String> nicknames) {
+        Set<String> unique = new LinkedHashSet<>(nicknames);
+        unique.remove(requester.getNickname());
+        if (unique.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um amigo");
+        }
+
+        List<Player> found = playerRepository.findByNicknameIn(unique);
+        if (found.size() != unique.size()) {
+            Set<String> foundNicknames = found.stream().map(Player::getNickname).collect(Collectors.toSet());
+            String missing = unique.stream().filter(n -> !foundNicknames.contains(n)).findFirst().orElse("");
+            throw new RuntimeException("Jogador não encontrado: " + missing);
+        }
+
+        Set<UUID> friendIds = friendshipRepository.findAcceptedFriendships(requester).stream()
+                .map(f -> f.getOtherPlayer(requester).getId())
+                .collect(Collectors.toSet());
+
+        Map<UUID, Player> players = new HashMap<>();
+        players.put(requester.getId(), requester);
+        for (Player player : found) {
+            if (!friendIds.contains(player.getId())) {
+                throw new IllegalArgumentException("Você não é amigo de " + player.getNickname());
+            }
+            players.put(player.getId(), player);
+        }
+        return players;
+    }
+
+    private static SettlementTransferResponse toResponse(Transfer transfer, Map<UUID, Player> players, UUID battleId) {
+        return new SettlementTransferResponse(
+                players.get(transfer.from()).getNickname(),
+                players.get(transfer.to()).getNickname(),
+                BigDecimal.valueOf(transfer.cents(), 2),
+                battleId);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private record Plan(Map<UUID, Player> players, List<BattleDebt> debts, List<Transfer> transfers) {}
+}
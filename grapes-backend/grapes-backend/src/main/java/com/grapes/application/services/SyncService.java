@@ -0,0 +1,249 @@
+package com.grapes.application.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.grapes.application.dto.BattleResponse;
+import com.grapes.application.dto.FriendshipResponse;
+import com.grapes.application.dto.SyncResponse;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.SyncChange;
+import com.grapes.domain.model.SyncEntityType;
+import com.grapes.infrastructure.persistence.AfterCommit;
+import com.grapes.infrastructure.persistence.BattleRepository;
+import com.grapes.infrastructure.persistence.FriendshipRepository;
+import com.grapes.infrastructure.persistence.IdempotentInsert;
+import com.grapes.infrastructure.persistence.PlayerVersionRepository;
+import com.grapes.infrastructure.persistence.SyncChangeRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Service de sincronização incremental (delta sync) para clientes mobile.
+ *
+ * 📚 COMO FUNCIONA:
+ * - Escrita: BattleService/FriendshipService chamam recordChange() DENTRO
+ *   da mesma transação da mutação. A versão do player sobe e uma linha
+ *   de log é gravada.
+ * - Leitura: getChangesSince() devolve só o que mudou depois da versão
+ *   que o cliente já tem, com tombstones para o que foi removido.
+ *
+ * O UPDATE da versão trava a linha do player até o commit, então duas
+ * transações do mesmo player nunca "pulam" uma versão. A linha de versão
+ * é criada na primeira mudança do player, dentro de um savepoint e
+ * idempotente (nunca derruba a transação de negócio).
+ *
+ * 📚 ETags (GET condicional):
+ * A versão também vira o ETag das listas (GET /battles, /battles/pending...).
+ * Ela fica em cache na memória, então um "If-None-Match" que ainda bate
+ * é respondido com 304 sem consultar as listas no banco.
+ */
+@Service
+public class SyncService {
+
+    private static final String INSERT_VERSION_IF_ABSENT =
+            "INSERT INTO player_versions (player_id, version) " +
+            "SELECT ?, 0 WHERE NOT EXISTS (SELECT 1 FROM player_versions WHERE player_id = ?)";
+
+    private final PlayerVersionRepository playerVersionRepository;
+    private final SyncChangeRepository syncChangeRepository;
+    private final BattleRepository battleRepository;
+    private final FriendshipRepository friendshipRepository;
+    private final EntityManager entityManager;
+
+    // playerId → última versão conhecida (atualizada após cada commit)
+    private final Map<UUID, Long> versionCache = new ConcurrentHashMap<>();
+
+    public SyncService(
+            PlayerVersionRepository playerVersionRepository,
+            SyncChangeRepository syncChangeRepository,
+            BattleRepository battleRepository,
+            FriendshipRepository friendshipRepository,
+            EntityManager entityManager
+    ) {
+        this.playerVersionRepository = playerVersionRepository;
+        this.syncChangeRepository = syncChangeRepository;
+        this.battleRepository = battleRepository;
+        this.friendshipRepository = friendshipRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Registra uma mudança para cada jogador envolvido.
+     * Deve ser chamado dentro da transação que fez a mutação.
+     */
+    @Transactional
+    public void recordChange(Collection<UUID> playerIds, SyncEntityType type, UUID entityId, boolean deleted) {
+        Map<UUID, List<UUID>> entityIdsByPlayer = new HashMap<>();
+        playerIds.forEach(playerId -> entityIdsByPlayer.put(playerId, List.of(entityId)));
+        recordChanges(type, entityIdsByPlayer, deleted);
+    }
+
+    /**
+     * Versão em lote de recordChange (usada pelas operações em massa).
+     *
+     * 📚 Em vez de um UPDATE + SELECT por mudança, faz:
+     * - um UPDATE por player (somando todas as mudanças dele), em ordem de ID
+     * - um SELECT das novas versões
+     * - um INSERT em lote (JDBC batch) das linhas de log
+     *
+     * @param entityIdsByPlayer para cada player, as entidades que mudaram
+     */
+    @Transactional
+    public void recordChanges(SyncEntityType type, Map<UUID, List<UUID>> entityIdsByPlayer, boolean deleted) {
+        if (entityIdsByPlayer.isEmpty()) {
+            return;
+        }
+
+        // Ordem fixa de IDs: duas transações nunca travam as versões em ordem inversa (deadlock)
+        SortedMap<UUID, Long> deltas = new TreeMap<>();
+        entityIdsByPlayer.forEach((playerId, entityIds) -> deltas.put(playerId, (long) entityIds.size()));
+        Map<UUID, Long> versions = bumpVersions(deltas);
+
+        List<SyncChange> rows = new ArrayList<>();
+        deltas.keySet().forEach(playerId -> {
+            long version = versions.get(playerId) - deltas.get(playerId);
+            for (UUID entityId : entityIdsByPlayer.get(playerId)) {
+                rows.add(new SyncChange(playerId, ++version, type, entityId, deleted));
+            }
+        });
+        syncChangeRepository.saveAll(rows);
+
+        AfterCommit.run(() -> versions.forEach(this::cacheVersion));
+    }
+
+    /**
+     * Versão atual do player (memória primeiro, banco só no primeiro acesso)
+     */
+    public long currentVersion(UUID playerId) {
+        Long cached = versionCache.get(playerId);
+        if (cached != null) {
+            return cached;
+        }
+        long version = playerVersionRepository.findVersion(playerId).orElse(0L);
+        return cacheVersion(playerId, version);
+    }
+
+    /**
+     * ETag forte de uma lista do player, derivada da versão atual.
+     * Ex: "battles-<playerId>-42"
+     *
+     * @param resource nome da lista (battles, pending...)
+     */
+    public String versionTag(UUID playerId, String resource) {
+        return "\"" + resource + "-" + playerId + "-" + currentVersion(playerId) + "\"";
+    }
+
+    /**
+     * Retorna as mudanças do player depois da versão informada
+     */
+    @Transactional(readOnly = true)
+    public SyncResponse getChangesSince(Player player, long since, int limit) {
+        // Uma busca pela chave primária: cliente atualizado sai daqui
+        long current = playerVersionRepository.findVersion(player.getId()).orElse(0L);
+        if (since >= current) {
+            return SyncResponse.upToDate(current, since > current);
+        }
+
+        List<SyncChange> changes = syncChangeRepository
+                .findByPlayerIdAndVersionGreaterThanOrderByVersionAsc(player.getId(), since, Limit.of(limit));
+
+        // Só a ÚLTIMA mudança de cada entidade importa
+        Map<UUID, SyncChange> battleChanges = new LinkedHashMap<>();
+        Map<UUID, SyncChange> friendshipChanges = new LinkedHashMap<>();
+        for (SyncChange change : changes) {
+            Map<UUID, SyncChange> target = change.getEntityType() == SyncEntityType.BATTLE
+                    ? battleChanges
+                    : friendshipChanges;
+            target.remove(change.getEntityId());
+            target.put(change.getEntityId(), change);
+        }
+
+        List<UUID> deletedBattleIds = new ArrayList<>(tombstones(battleChanges));
+        List<BattleResponse> battles = new ArrayList<>();
+        Set<UUID> foundBattleIds = new HashSet<>();
+        battleRepository.findAllById(upserts(battleChanges)).forEach(b -> {
+            battles.add(BattleResponse.from(b, player));
+            foundBattleIds.add(b.getId());
+        });
+        // Alterada e removida logo depois (fora desta página): também é tombstone
+        upserts(battleChanges).stream().filter(id -> !foundBattleIds.contains(id)).forEach(deletedBattleIds::add);
+
+        List<UUID> deletedFriendshipIds = new ArrayList<>(tombstones(friendshipChanges));
+        List<FriendshipResponse> friendships = new ArrayList<>();
+        Set<UUID> foundFriendshipIds = new HashSet<>();
+        friendshipRepository.findAllById(upserts(friendshipChanges)).forEach(f -> {
+            friendships.add(FriendshipResponse.from(f));
+            foundFriendshipIds.add(f.getId());
+        });
+        upserts(friendshipChanges).stream().filter(id -> !foundFriendshipIds.contains(id)).forEach(deletedFriendshipIds::add);
+
+        long version = changes.get(changes.size() - 1).getVersion();
+        return new SyncResponse(
+                version,
+                version < current,
+                false,
+                battles,
+                friendships,
+                deletedBattleIds,
+                deletedFriendshipIds);
+    }
+
+    /**
+     * Guarda a versão no cache sem nunca voltar para um valor menor
+     */
+    private long cacheVersion(UUID playerId, long version) {
+        return versionCache.merge(playerId, version, Math::max);
+    }
+
+    /**
+     * Incrementa as versões dos players, criando as linhas que ainda não existem.
+     *
+     * @param deltas incremento de cada player, em ordem de ID (ordem dos locks)
+     * @return nova versão de cada player
+     */
+    private Map<UUID, Long> bumpVersions(SortedMap<UUID, Long> deltas) {
+        deltas.forEach((playerId, delta) -> {
+            if (playerVersionRepository.increment(playerId, delta) == 0) {
+                createVersionRow(playerId);
+                playerVersionRepository.increment(playerId, delta);
+            }
+        });
+
+        Map<UUID, Long> versions = new HashMap<>();
+        for (Object[] row : playerVersionRepository.findVersions(deltas.keySet())) {
+            versions.put((UUID) row[0], (Long) row[1]);
+        }
+        return versions;
+    }
+
+    /**
+     * Cria a linha de versão (em 0) se ainda não existir. Duas transações
+     * podem passar juntas pelo NOT EXISTS: a segunda só volta ao savepoint
+     */
+    private void createVersionRow(UUID playerId) {
+        IdempotentInsert.execute(entityManager, INSERT_VERSION_IF_ABSENT, playerId, playerId);
+    }
+
+    private List<UUID> upserts(Map<UUID, SyncChange> changes) {
+        return changes.values().stream().filter(c -> !c.isDeleted()).map(SyncChange::getEntityId).toList();
+    }
+
+    private List<UUID> tombstones(Map<UUID, SyncChange> changes) {
+        return changes.values().stream().filter(SyncChange::isDeleted).map(SyncChange::getEntityId).toList();
+    }
+}
@@ -0,0 +1,30 @@
+package com.grapes.domain.events;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import com.grapes.domain.model.Battle;
+
+/**
+ * Batalhas criadas numa mesma operação (uma, um lote do CSV ou das recorrências)
+ */
+public record BattleCreated(List<Item> battles) implements DomainEvent {
+
+    public record Item(
+            UUID battleId,
+            UUID creatorId,
+            UUID opponentId,    // null se for batalha com pessoa externa
+            LocalDate dueDate   // null se não tiver vencimento
+    ) {}
+
+    public static BattleCreated of(List<Battle> battles) {
+        return new BattleCreated(battles.stream()
+                .map(battle -> new Item(
+                        battle.getId(),
+                        battle.getCreator().getId(),
+                        battle.getOpponent() != null ? battle.getOpponent().getId() : null,
+                        battle.getDueDate()))
+                .toList());
+    }
+}
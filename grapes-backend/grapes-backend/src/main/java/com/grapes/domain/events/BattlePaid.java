@@ -0,0 +1,17 @@
+package com.grapes.domain.events;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Batalhas quitadas numa mesma operação (pagamento, pagamento em massa ou acerto de grupo)
+ *
+ * @param counterpartNickname outro jogador da batalha, quando é uma só e
+ *                            com jogador cadastrado (null nos outros casos)
+ */
+public record BattlePaid(
+        UUID actorId,
+        String actorNickname,
+        String counterpartNickname,
+        List<UUID> battleIds
+) implements DomainEvent {}
@@ -0,0 +1,13 @@
+package com.grapes.domain.events;
+
+/**
+ * Fato de negócio que já aconteceu (e foi commitado).
+ *
+ * 📚 PARA QUE SERVE?
+ * Os services publicam o fato uma vez no DomainEventBus; os efeitos
+ * colaterais (feed, lembretes...) ficam em handlers que rodam fora da
+ * thread da requisição. Um efeito novo é um handler novo, não mais uma
+ * chamada dentro de BattleService.
+ */
+public sealed interface DomainEvent permits BattleCreated, BattlePaid, FriendshipAccepted, XpGained {
+}
@@ -0,0 +1,14 @@
+package com.grapes.domain.events;
+
+import java.util.UUID;
+
+/**
+ * Convite de amizade aceito
+ */
+public record FriendshipAccepted(
+        UUID friendshipId,
+        UUID requesterId,
+        String requesterNickname,
+        UUID addresseeId,
+        String addresseeNickname
+) implements DomainEvent {}
@@ -0,0 +1,17 @@
+package com.grapes.domain.events;
+
+import java.util.UUID;
+
+/**
+ * XP adicionado a um jogador
+ *
+ * @param levelsGained quantos níveis subiu com esse XP (0 = nenhum)
+ * @param level        nível depois do XP
+ */
+public record XpGained(
+        UUID playerId,
+        String nickname,
+        long amount,
+        int levelsGained,
+        int level
+) implements DomainEvent {}
@@ -0,0 +1,74 @@
+package com.grapes.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Atividade de um jogador (o que vai para o feed dos amigos dele).
+ *
+ * 📚 POR QUE UMA LINHA POR ATIVIDADE?
+ * A tabela guarda cada atividade UMA vez (por autor), não uma cópia por
+ * amigo: quem tem 5 mil amigos não vira 5 mil linhas. A distribuição para
+ * os amigos acontece em memória (ActivityFeed); a tabela serve para
+ * remontar um feed e para as páginas mais antigas.
+ * O id vem de uma sequência: é também a ordem do feed e o cursor.
+ */
+@Entity
+@Table(name = "activity_events", indexes = {
+        @Index(name = "idx_activity_actor", columnList = "actor_id, id")
+})
+@Getter
+@NoArgsConstructor
+public class ActivityEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_event_seq")
+    @SequenceGenerator(name = "activity_event_seq", sequenceName = "activity_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "actor_id", nullable = false)
+    private UUID actorId;
+
+    @Column(nullable = false)
+    private String actorNickname;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ActivityType type;
+
+    /**
+     * O outro jogador envolvido (amigo novo, contraparte da batalha), se houver
+     */
+    private String counterpartNickname;
+
+    /**
+     * Número da atividade (nível novo, quantidade de batalhas quitadas...)
+     * A coluna não se chama "value": é palavra reservada no H2
+     */
+    @Column(name = "activity_value", nullable = false)
+    private int value;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public ActivityEvent(UUID actorId, String actorNickname, ActivityType type, String counterpartNickname, int value) {
+        this.actorId = actorId;
+        this.actorNickname = actorNickname;
+        this.type = type;
+        this.counterpartNickname = counterpartNickname;
+        this.value = value;
+    }
+}
@@ -0,0 +1,10 @@
+package com.grapes.domain.model;
+
+/**
+ * Tipos de atividade que aparecem no feed dos amigos
+ */
+public enum ActivityType {
+    LEVEL_UP,           // Subiu de nível (value = nível novo)
+    BATTLE_SETTLED,     // Quitou batalhas (value = quantas)
+    NEW_FRIENDSHIP      // Fez um novo amigo (counterpartNickname = o amigo)
+}
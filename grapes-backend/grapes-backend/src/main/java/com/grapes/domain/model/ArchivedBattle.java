@@ -0,0 +1,96 @@
+package com.grapes.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Batalha PAGA e antiga, movida para fora da tabela principal (armazenamento "frio").
+ *
+ * 📚 POR QUE EXISTE?
+ * A maior parte da tabela battles era histórico pago que quase ninguém lê,
+ * mas toda consulta de lista passava por cima dele. O job de arquivamento
+ * move essas linhas para battles_archive (mesmo ID); a tabela "quente"
+ * fica só com o que está ativo ou foi pago recentemente.
+ *
+ * As linhas são gravadas por INSERT ... SELECT e nunca alteradas.
+ */
+@Entity
+@Immutable
+@Table(name = "battles_archive", indexes = {
+        @Index(name = "idx_archive_creator", columnList = "creator_id, paid_at"),
+        @Index(name = "idx_archive_opponent", columnList = "opponent_id, paid_at")
+})
+@Getter
+@NoArgsConstructor
+public class ArchivedBattle {
+
+    /**
+     * Mesmo ID que a batalha tinha na tabela principal
+     */
+    @Id
+    private UUID id;
+
+    @ManyToOne
+    @JoinColumn(name = "creator_id", nullable = false)
+    private Player creator;
+
+    @ManyToOne
+    @JoinColumn(name = "opponent_id")
+    private Player opponent;
+
+    private String externalName;
+
+    @Column(nullable = false)
+    private boolean creatorIsCreditor;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @ManyToOne
+    @JoinColumn(name = "category_id", nullable = false)
+    private Category category;
+
+    private String description;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "paid_at")
+    private LocalDateTime paidAt;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * Visão como Battle (não gerenciada), para reaproveitar BattleResponse
+     */
+    public Battle toBattle() {
+        Battle battle = new Battle();
+        battle.setId(id);
+        battle.setCreator(creator);
+        battle.setOpponent(opponent);
+        battle.setExternalName(externalName);
+        battle.setCreatorIsCreditor(creatorIsCreditor);
+        battle.setAmount(amount);
+        battle.setRemainingAmount(BigDecimal.ZERO);
+        battle.setCategory(category);
+        battle.setDescription(description);
+        battle.setStatus(BattleStatus.PAID);
+        battle.setCreatedAt(createdAt);
+        battle.setPaidAt(paidAt);
+        return battle;
+    }
+}
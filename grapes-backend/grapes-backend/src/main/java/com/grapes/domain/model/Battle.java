@@ -1,6 +1,7 @@
 package com.grapes.domain.model;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -11,9 +12,12 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -29,9 +33,28 @@ import lombok.Setter;
  * Os dois jogadores veem a batalha, mas com cores invertidas:
  * - Para o creditor: verde (+R$ 50,00)
  * - Para o debtor: vermelho (-R$ 50,00)
+ *
+ * 📚 ÍNDICES:
+ * Os filtros (GET /battles/query) rodam um lado por vez (criador / oponente).
+ * Cada índice começa pelo jogador do lado, depois o filtro de igualdade,
+ * e termina em created_at: a ordem da paginação já vem do índice.
+ * Faixa de datas usa o created_at do próprio índice; faixa de valor é
+ * filtrada nas linhas que o índice entregou.
  */
 @Entity
-@Table(name = "battles")
+@Table(name = "battles",
+        uniqueConstraints = @UniqueConstraint(name = "uk_battle_recurring_occurrence", columnNames = {"recurring_id", "occurrence"}),
+        indexes = {
+                @Index(name = "idx_battle_creator_created", columnList = "creator_id, created_at, id"),
+                @Index(name = "idx_battle_opponent_created", columnList = "opponent_id, created_at, id"),
+                @Index(name = "idx_battle_creator_status", columnList = "creator_id, status, created_at"),
+                @Index(name = "idx_battle_opponent_status", columnList = "opponent_id, status, created_at"),
+                @Index(name = "idx_battle_creator_category", columnList = "creator_id, category_id, created_at"),
+                @Index(name = "idx_battle_opponent_category", columnList = "opponent_id, category_id, created_at"),
+                @Index(name = "idx_battle_creator_opponent", columnList = "creator_id, opponent_id, created_at"),
+                @Index(name = "idx_battle_opponent_creator", columnList = "opponent_id, creator_id, created_at"),
+                @Index(name = "idx_battle_due", columnList = "status, reminder_sent_at, due_date")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -77,10 +100,18 @@ public class Battle {
     private BigDecimal amount;
 
     /**
-     * Categoria da batalha
+     * Quanto ainda falta pagar (desnormalizado: atualizado a cada pagamento,
+     * para as listas não precisarem somar o livro-caixa)
      */
     @Column(nullable = false)
-    private String category;
+    private BigDecimal remainingAmount;
+
+    /**
+     * Categoria da batalha (a linha guarda só o category_id)
+     */
+    @ManyToOne
+    @JoinColumn(name = "category_id", nullable = false)
+    private Category category;
 
     /**
      * Descrição/motivo da batalha
@@ -99,6 +130,33 @@ public class Battle {
 
     private LocalDateTime paidAt;
 
+    /**
+     * Vencimento (opcional). No dia, os dois jogadores recebem um lembrete
+     */
+    private LocalDate dueDate;
+
+    /**
+     * Quando o lembrete de vencimento foi emitido (null = ainda não foi).
+     * Marcado na mesma transação que grava o lembrete: nunca sai duas vezes
+     */
+    private LocalDateTime reminderSentAt;
+
+    /**
+     * Modelo recorrente que gerou a batalha e a ocorrência correspondente
+     * (null nas batalhas criadas à mão)
+     */
+    @Column(name = "recurring_id")
+    private UUID recurringId;
+
+    private LocalDateTime occurrence;
+
+    /**
+     * Versão para controle de concorrência otimista: todo UPDATE incrementa,
+     * e um save() com versão velha falha em vez de sobrescrever
+     */
+    @Version
+    private long version;
+
     // ========== MÉTODOS DE NEGÓCIO ==========
 
     /**
@@ -106,6 +164,7 @@ public class Battle {
      */
     public void markAsPaid() {
         this.status = BattleStatus.PAID;
+        this.remainingAmount = BigDecimal.ZERO;
         this.paidAt = LocalDateTime.now();
     }
 
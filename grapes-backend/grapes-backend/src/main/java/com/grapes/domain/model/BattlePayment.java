@@ -0,0 +1,75 @@
+package com.grapes.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Um pagamento (parcial ou total) feito contra uma batalha.
+ *
+ * 📚 COMO FUNCIONA:
+ * - A tabela é um LIVRO-CAIXA: só recebe INSERT (@Immutable, sem setters)
+ * - O saldo devedor NÃO é calculado somando pagamentos: a batalha guarda
+ *   o remainingAmount, atualizado junto com cada pagamento
+ * - battleId é só o ID (sem chave estrangeira), para o histórico
+ *   continuar válido mesmo se a batalha sair da tabela principal
+ */
+@Entity
+@Immutable
+@Table(name = "battle_payments", indexes = {
+        @Index(name = "idx_payment_battle", columnList = "battle_id, paid_at")
+})
+@Getter
+@NoArgsConstructor
+public class BattlePayment {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "battle_id", nullable = false)
+    private UUID battleId;
+
+    /**
+     * Quem registrou o pagamento
+     */
+    @ManyToOne
+    @JoinColumn(name = "recorded_by_id", nullable = false)
+    private Player recordedBy;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    /**
+     * Quanto ainda faltava DEPOIS deste pagamento
+     */
+    @Column(nullable = false)
+    private BigDecimal remainingAfter;
+
+    private String note;
+
+    @Column(name = "paid_at", nullable = false)
+    private LocalDateTime paidAt = LocalDateTime.now();
+
+    public BattlePayment(UUID battleId, Player recordedBy, BigDecimal amount, BigDecimal remainingAfter, String note) {
+        this.battleId = battleId;
+        this.recordedBy = recordedBy;
+        this.amount = amount;
+        this.remainingAfter = remainingAfter;
+        this.note = note;
+    }
+}
@@ -0,0 +1,82 @@
+package com.grapes.domain.model;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Categoria de batalha (tabela de dimensão).
+ *
+ * 📚 POR QUE UMA TABELA?
+ * - A batalha guarda só o category_id (um inteiro), não o texto
+ * - "Comida", "comida" e " comida " viram a MESMA categoria:
+ *   a chave normalizada (sem acento, minúsculas, espaços colapsados) é única
+ * - O nome exibido é a grafia da primeira vez que a categoria apareceu
+ *
+ * Categorias nunca mudam nem são removidas (@Immutable), então podem
+ * ficar em cache na memória para sempre.
+ */
+@Entity
+@Immutable
+@Table(name = "categories", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_category_normalized_name", columnNames = "normalized_name")
+})
+@Getter
+@NoArgsConstructor
+public class Category {
+
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    /**
+     * Nome exibido (ex: "Comida")
+     */
+    @Column(nullable = false)
+    private String name;
+
+    /**
+     * Chave de comparação (ex: "comida")
+     */
+    @Column(name = "normalized_name", nullable = false)
+    private String normalizedName;
+
+    public Category(String name) {
+        this.name = clean(name);
+        this.normalizedName = normalize(name);
+    }
+
+    /**
+     * Tira espaços das pontas e colapsa os do meio: "  Comida   fora " → "Comida fora"
+     */
+    public static String clean(String raw) {
+        String cleaned = raw == null ? "" : SPACES.matcher(raw.strip()).replaceAll(" ");
+        if (cleaned.isEmpty()) {
+            throw new IllegalArgumentException("Categoria é obrigatória");
+        }
+        return cleaned;
+    }
+
+    /**
+     * Chave única da categoria: "  Comída  Fora" → "comida fora"
+     */
+    public static String normalize(String raw) {
+        String decomposed = Normalizer.normalize(clean(raw), Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
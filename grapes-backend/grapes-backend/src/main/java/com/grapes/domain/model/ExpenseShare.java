@@ -0,0 +1,80 @@
+package com.grapes.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Parte (share) de uma despesa em grupo: quanto um participante deve.
+ *
+ * - participant: jogador do sistema (pode ser null se for pessoa externa)
+ * - externalName: nome da pessoa externa (quando participant é null)
+ * - position: ordem do participante na divisão (define quem recebe os centavos extras)
+ */
+@Entity
+@Table(name = "expense_shares", indexes = {
+        @Index(name = "idx_share_expense", columnList = "expense_id"),
+        @Index(name = "idx_share_participant", columnList = "participant_id, status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ExpenseShare {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "expense_id", nullable = false)
+    private GroupExpense expense;
+
+    @ManyToOne
+    @JoinColumn(name = "participant_id")
+    private Player participant;
+
+    private String externalName;
+
+    @Column(nullable = false)
+    private int position;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ShareStatus status = ShareStatus.PENDING;
+
+    private LocalDateTime paidAt;
+
+    /**
+     * Marca a parte como paga
+     */
+    public void markAsPaid() {
+        this.status = ShareStatus.PAID;
+        this.paidAt = LocalDateTime.now();
+    }
+
+    /**
+     * Nome de exibição do participante
+     */
+    public String getParticipantName() {
+        return participant != null ? participant.getNickname() : externalName;
+    }
+}
@@ -13,6 +13,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -53,6 +54,13 @@ public class Friendship {
 
     private LocalDateTime acceptedAt;
 
+    /**
+     * Versão para controle de concorrência otimista: todo UPDATE incrementa,
+     * e um save() com versão velha falha em vez de sobrescrever
+     */
+    @Version
+    private long version;
+
     public Friendship(Player requester, Player addressee) {
         this.requester = requester;
         this.addressee = addressee;
@@ -0,0 +1,64 @@
+package com.grapes.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Representa uma despesa em grupo (ex: conta de um jantar com 6 pessoas).
+ *
+ * 📚 COMO FUNCIONA:
+ * - creator: quem pagou a conta inteira (é o credor de todas as partes)
+ * - totalAmount: valor total da conta
+ * - Cada participante tem uma ExpenseShare com o valor que deve
+ *
+ * Diferente de criar 5 batalhas soltas, a despesa sabe que as partes
+ * pertencem à mesma conta e que somam exatamente o total.
+ */
+@Entity
+@Table(name = "group_expenses")
+@Getter
+@Setter
+@NoArgsConstructor
+public class GroupExpense {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    /**
+     * Quem pagou a conta (credor)
+     */
+    @ManyToOne
+    @JoinColumn(name = "creator_id", nullable = false)
+    private Player creator;
+
+    @Column(nullable = false)
+    private BigDecimal totalAmount;
+
+    @Column(nullable = false)
+    private String category;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SplitMode splitMode;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+}
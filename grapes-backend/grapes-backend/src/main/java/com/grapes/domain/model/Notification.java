@@ -0,0 +1,68 @@
+package com.grapes.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Notificação na caixa de entrada do jogador (GET /notifications).
+ *
+ * 📚 POR QUE ID NUMÉRICO?
+ * O id vem de uma sequência: cresce com o tempo, então a ordem da caixa
+ * (mais nova primeiro) é só "id DESC" e o cursor da paginação é o próprio id.
+ * A sequência reserva 50 ids por vez, então vários INSERTs ainda vão em lote.
+ */
+@Entity
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notification_recipient", columnList = "recipient_id, id"),
+        @Index(name = "idx_notification_unread", columnList = "recipient_id, read_at")
+})
+@Getter
+@NoArgsConstructor
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "recipient_id", nullable = false)
+    private UUID recipientId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    /**
+     * Conteúdo em JSON (o mesmo da mensagem do outbox)
+     */
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    /**
+     * Quando foi lida (null = não lida)
+     */
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+
+    public Notification(NotificationType type, UUID recipientId, String payload) {
+        this.type = type;
+        this.recipientId = recipientId;
+        this.payload = payload;
+    }
+}
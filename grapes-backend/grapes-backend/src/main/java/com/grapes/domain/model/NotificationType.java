@@ -0,0 +1,10 @@
+package com.grapes.domain.model;
+
+/**
+ * Tipos de notificação que passam pelo outbox
+ */
+public enum NotificationType {
+    FRIEND_REQUEST,     // Recebi um convite de amizade
+    BATTLE_CREATED,     // Um amigo criou uma batalha comigo
+    BATTLE_DUE          // Batalha venceu hoje (lembrete)
+}
@@ -0,0 +1,101 @@
+package com.grapes.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Notificação esperando para ser entregue (padrão "transactional outbox").
+ *
+ * 📚 POR QUE OUTBOX?
+ * - A mensagem é gravada na MESMA transação que a originou
+ *   (ex: o lembrete e a marcação reminderSentAt da batalha):
+ *   ou as duas coisas acontecem, ou nenhuma
+ * - A entrega (push, e-mail...) acontece depois, lendo esta tabela
+ *   (NotificationDispatcher), sem somar latência a quem escreveu
+ * - dedupKey é única: a mesma notificação nunca entra duas vezes
+ * - Falhou? attempts sobe e nextAttemptAt vai para frente (backoff)
+ */
+@Entity
+@Table(name = "notification_outbox",
+        uniqueConstraints = @UniqueConstraint(name = "uk_outbox_dedup_key", columnNames = "dedup_key"),
+        indexes = {
+                @Index(name = "idx_outbox_pending", columnList = "dispatched_at, next_attempt_at"),
+                @Index(name = "idx_outbox_recipient", columnList = "recipient_id, dispatched_at")
+        })
+@Getter
+@NoArgsConstructor
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private NotificationType type;
+
+    /**
+     * Jogador que vai receber a notificação
+     */
+    @Column(name = "recipient_id", nullable = false)
+    private UUID recipientId;
+
+    /**
+     * Conteúdo em JSON (os campos dependem do tipo)
+     */
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    /**
+     * Identidade da notificação (ex: "battle-due:<battleId>:<recipientId>")
+     */
+    @Column(name = "dedup_key", nullable = false)
+    private String dedupKey;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    /**
+     * Quando foi entregue (null = ainda na fila)
+     */
+    @Column(name = "dispatched_at")
+    private LocalDateTime dispatchedAt;
+
+    /**
+     * Tentativas de entrega que falharam
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * A partir de quando pode ser (re)entregue
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt = createdAt;
+
+    /**
+     * Erro da última tentativa que falhou
+     */
+    @Column(length = 1000)
+    private String lastError;
+
+    public OutboxMessage(NotificationType type, UUID recipientId, String payload, String dedupKey) {
+        this.type = type;
+        this.recipientId = recipientId;
+        this.payload = payload;
+        this.dedupKey = dedupKey;
+    }
+}
@@ -54,13 +54,16 @@ public class Player {
      * Adiciona experiência ao jogador e verifica se subiu de nível.
      *
      * @param amount quantidade de XP a ser adicionada
+     * @return quantos níveis subiu (0 = nenhum)
      */
-    public void gainExperience(long amount) {
+    public int gainExperience(long amount) {
         if (amount < 0) {
             throw new IllegalArgumentException("Amount must be greater than 0");
         }
+        int levelBefore = this.level;
         this.experience += amount;
         this.checkLevelUp();
+        return this.level - levelBefore;
     }
 
     /**
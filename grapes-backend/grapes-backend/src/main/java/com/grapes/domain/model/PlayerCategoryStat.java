@@ -0,0 +1,61 @@
+package com.grapes.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Contador de uso de uma categoria por um jogador.
+ *
+ * 📚 COMO FUNCIONA:
+ * - Uma linha por (jogador, categoria)
+ * - Criar uma batalha soma 1 para os dois jogadores; remover subtrai 1
+ * - Arquivar não mexe: o contador vale para o histórico inteiro
+ * - O seletor de categorias lê só esta tabela, nunca varre battles
+ */
+@Entity
+@Table(name = "player_category_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_player_category", columnNames = {"player_id", "category_id"})
+})
+@Getter
+@NoArgsConstructor
+public class PlayerCategoryStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "player_id", nullable = false)
+    private UUID playerId;
+
+    @Column(name = "category_id", nullable = false)
+    private Integer categoryId;
+
+    /**
+     * Quantas batalhas do jogador têm essa categoria
+     */
+    @Column(nullable = false)
+    private long battleCount;
+
+    /**
+     * Última vez que o jogador ganhou uma batalha nessa categoria
+     */
+    @Column(nullable = false)
+    private LocalDateTime lastUsedAt;
+
+    public PlayerCategoryStat(UUID playerId, Integer categoryId, long battleCount, LocalDateTime lastUsedAt) {
+        this.playerId = playerId;
+        this.categoryId = categoryId;
+        this.battleCount = battleCount;
+        this.lastUsedAt = lastUsedAt;
+    }
+}
@@ -0,0 +1,40 @@
+package com.grapes.domain.model;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Versão de mudanças de um jogador.
+ *
+ * 📚 COMO FUNCIONA:
+ * - Começa em 0 e só CRESCE
+ * - Toda mutação de batalha/amizade que envolve o jogador incrementa a versão
+ * - O cliente guarda a última versão vista e pede só o que mudou depois dela
+ *
+ * Fica em tabela própria (e não em Player) para que salvar o Player
+ * (ex: ganhar XP) nunca sobrescreva a versão com um valor antigo.
+ */
+@Entity
+@Table(name = "player_versions")
+@Getter
+@NoArgsConstructor
+public class PlayerVersion {
+
+    @Id
+    @Column(name = "player_id")
+    private UUID playerId;
+
+    @Column(nullable = false)
+    private long version;
+
+    public PlayerVersion(UUID playerId, long version) {
+        this.playerId = playerId;
+        this.version = version;
+    }
+}
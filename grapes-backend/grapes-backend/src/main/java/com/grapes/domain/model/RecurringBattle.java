@@ -0,0 +1,110 @@
+package com.grapes.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Modelo de batalha recorrente (aluguel, assinatura, conta dividida todo mês).
+ *
+ * 📚 COMO FUNCIONA:
+ * - schedule é uma expressão cron (ex: "0 0 9 5 * *" = dia 5 às 09:00,
+ *   ou atalhos como "@monthly")
+ * - nextRunAt guarda a próxima ocorrência: o job só lê os modelos com
+ *   nextRunAt vencido (índice idx_recurring_next_run), nunca a tabela toda
+ * - Cada ocorrência vira uma Battle com (recurringId, occurrence) únicos:
+ *   a mesma ocorrência nunca gera duas batalhas
+ */
+@Entity
+@Table(name = "recurring_battles", indexes = {
+        @Index(name = "idx_recurring_next_run", columnList = "active, next_run_at"),
+        @Index(name = "idx_recurring_creator", columnList = "creator_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class RecurringBattle {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne
+    @JoinColumn(name = "creator_id", nullable = false)
+    private Player creator;
+
+    /**
+     * Oponente (se for amigo do sistema)
+     */
+    @ManyToOne
+    @JoinColumn(name = "opponent_id")
+    private Player opponent;
+
+    /**
+     * Nome externo (se não for amigo do sistema)
+     */
+    private String externalName;
+
+    @Column(nullable = false)
+    private boolean creatorIsCreditor;
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @ManyToOne
+    @JoinColumn(name = "category_id", nullable = false)
+    private Category category;
+
+    private String description;
+
+    /**
+     * Regra de repetição (cron do Spring, 6 campos, ou @daily/@weekly/@monthly/@yearly)
+     */
+    @Column(nullable = false)
+    private String schedule;
+
+    /**
+     * Vencimento de cada batalha gerada: N dias depois da ocorrência (null = sem vencimento)
+     */
+    private Integer dueInDays;
+
+    /**
+     * Próxima ocorrência ainda não gerada
+     */
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    /**
+     * Última ocorrência gerada (null = nenhuma ainda)
+     */
+    private LocalDateTime lastRunAt;
+
+    /**
+     * false = cancelada (as batalhas já geradas continuam)
+     */
+    @Column(nullable = false)
+    private boolean active = true;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    /**
+     * Duas instâncias gerando o mesmo modelo: a segunda falha no commit
+     */
+    @Version
+    private long version;
+}
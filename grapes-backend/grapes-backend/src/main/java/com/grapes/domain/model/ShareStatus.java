@@ -0,0 +1,9 @@
+package com.grapes.domain.model;
+
+/**
+ * Status de uma parte (share) de uma despesa em grupo.
+ */
+public enum ShareStatus {
+    PENDING,  // Participante ainda deve a parte
+    PAID      // Parte quitada
+}
@@ -0,0 +1,10 @@
+package com.grapes.domain.model;
+
+/**
+ * Forma de dividir uma despesa em grupo.
+ */
+public enum SplitMode {
+    EQUAL,       // Partes iguais
+    PERCENTAGE,  // Por porcentagem (soma = 100)
+    EXACT        // Valores exatos (soma = total)
+}
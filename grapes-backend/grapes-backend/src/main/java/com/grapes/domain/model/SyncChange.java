@@ -0,0 +1,68 @@
+package com.grapes.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Uma linha do log de sincronização de um jogador.
+ *
+ * 📚 COMO FUNCIONA:
+ * - Cada mutação gera uma linha por jogador envolvido
+ * - version: a versão do jogador DEPOIS dessa mudança
+ * - deleted = true → "tombstone" (a entidade foi removida)
+ *
+ * O índice (player_id, version) permite buscar "tudo depois da versão X"
+ * com uma única busca no índice.
+ */
+@Entity
+@Table(name = "sync_changes", indexes = {
+        @Index(name = "idx_sync_player_version", columnList = "player_id, version", unique = true)
+})
+@Getter
+@NoArgsConstructor
+public class SyncChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "player_id", nullable = false)
+    private UUID playerId;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SyncEntityType entityType;
+
+    @Column(nullable = false)
+    private UUID entityId;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt = LocalDateTime.now();
+
+    public SyncChange(UUID playerId, long version, SyncEntityType entityType, UUID entityId, boolean deleted) {
+        this.playerId = playerId;
+        this.version = version;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.deleted = deleted;
+        this.changedAt = LocalDateTime.now();
+    }
+}
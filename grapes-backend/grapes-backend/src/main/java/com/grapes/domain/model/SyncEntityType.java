@@ -0,0 +1,9 @@
+package com.grapes.domain.model;
+
+/**
+ * Tipo de entidade registrada no log de sincronização.
+ */
+public enum SyncEntityType {
+    BATTLE,     // Batalha
+    FRIENDSHIP  // Amizade ou convite
+}
@@ -0,0 +1,35 @@
+package com.grapes.domain.settlement;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Saldo líquido de cada jogador a partir de um conjunto de dívidas.
+ *
+ * 📚 EXEMPLO:
+ * A deve 30 para B e B deve 10 para A → A tem -20, B tem +20.
+ * Duas batalhas viram um único pagamento de 20.
+ *
+ * Tudo em centavos (sem erro de arredondamento).
+ */
+public final class DebtNetting {
+
+    private DebtNetting() {
+    }
+
+    /**
+     * Saldo líquido de cada jogador (cada dívida é "from deve cents para to").
+     *
+     * @return positivo = tem a receber, negativo = tem a pagar
+     */
+    public static Map<UUID, Long> netPositions(Collection<Transfer> debts) {
+        Map<UUID, Long> net = new HashMap<>();
+        for (Transfer debt : debts) {
+            net.merge(debt.to(), debt.cents(), Long::sum);
+            net.merge(debt.from(), -debt.cents(), Long::sum);
+        }
+        return net;
+    }
+}
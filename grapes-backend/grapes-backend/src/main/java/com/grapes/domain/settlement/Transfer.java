@@ -0,0 +1,12 @@
+package com.grapes.domain.settlement;
+
+import java.util.UUID;
+
+/**
+ * Um pagamento do plano de acerto: "from" paga "cents" centavos para "to".
+ */
+public record Transfer(
+        UUID from,      // Quem paga (devedor)
+        UUID to,        // Quem recebe (credor)
+        long cents
+) {}
@@ -0,0 +1,156 @@
+package com.grapes.domain.split;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import com.grapes.domain.model.SplitMode;
+
+/**
+ * Divide um valor total em partes com arredondamento DETERMINÍSTICO.
+ *
+ * 📚 O PROBLEMA:
+ * R$ 100,00 / 3 = 33,333... → arredondar cada parte dá 33,33 × 3 = 99,99.
+ * Sobra 1 centavo que "some" (ou alguém cobra na mão).
+ *
+ * 📚 A SOLUÇÃO (método do maior resto):
+ * 1. Trabalha em CENTAVOS
+ * 2. Cada parte recebe o valor truncado (para baixo)
+ * 3. Os centavos que sobraram vão, um a um, para as partes com maior
+ *    resto; em empate, para quem vem primeiro na lista
+ *
+ * Resultado: a soma das partes é SEMPRE igual ao total e a mesma entrada
+ * gera sempre a mesma divisão.
+ */
+public final class ShareAllocator {
+
+    private static final BigDecimal HUNDRED = new BigDecimal("100");
+
+    private ShareAllocator() {
+    }
+
+    /**
+     * Divide o total conforme o modo escolhido.
+     *
+     * @param weights porcentagens (PERCENTAGE), valores (EXACT) ou ignorado (EQUAL)
+     * @param parts   número de participantes
+     * @return valor de cada parte, na mesma ordem dos participantes
+     */
+    public static List<BigDecimal> allocate(SplitMode mode, BigDecimal total, List<BigDecimal> weights, int parts) {
+        if (total == null || total.signum() <= 0) {
+            throw new IllegalArgumentException("Total deve ser positivo");
+        }
+        if (parts < 1) {
+            throw new IllegalArgumentException("Informe ao menos um participante");
+        }
+
+        return switch (mode) {
+            case EQUAL -> equal(total, parts);
+            case PERCENTAGE -> byPercentage(total, requireWeights(weights, parts));
+            case EXACT -> exact(total, requireWeights(weights, parts));
+        };
+    }
+
+    /**
+     * Partes iguais; os centavos que sobram vão para os primeiros da lista
+     */
+    static List<BigDecimal> equal(BigDecimal total, int parts) {
+        long cents = toCents(total);
+        long base = cents / parts;
+        long leftover = cents % parts;
+
+        List<BigDecimal> shares = new ArrayList<>(parts);
+        for (int i = 0; i < parts; i++) {
+            shares.add(fromCents(base + (i < leftover ? 1 : 0)));
+        }
+        return shares;
+    }
+
+    /**
+     * Partes por porcentagem (a soma deve ser exatamente 100)
+     */
+    static List<BigDecimal> byPercentage(BigDecimal total, List<BigDecimal> percentages) {
+        BigDecimal sum = percentages.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (sum.compareTo(HUNDRED) != 0) {
+            throw new IllegalArgumentException("As porcentagens devem somar 100 (soma atual: " + sum + ")");
+        }
+        percentages.forEach(p -> {
+            if (p.signum() < 0) {
+                throw new IllegalArgumentException("Porcentagem não pode ser negativa");
+            }
+        });
+
+        long cents = toCents(total);
+        int parts = percentages.size();
+        long[] shares = new long[parts];
+        BigDecimal[] remainders = new BigDecimal[parts];
+        long allocated = 0;
+
+        for (int i = 0; i < parts; i++) {
+            // Valor exato em centavos (fracionário) = total × p / 100
+            BigDecimal exact = BigDecimal.valueOf(cents).multiply(percentages.get(i))
+                    .divide(HUNDRED, 10, RoundingMode.DOWN);
+            shares[i] = exact.setScale(0, RoundingMode.DOWN).longValueExact();
+            remainders[i] = exact.subtract(BigDecimal.valueOf(shares[i]));
+            allocated += shares[i];
+        }
+
+        // Distribui os centavos restantes pelos maiores restos (empate → menor posição)
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < parts; i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.<Integer, BigDecimal>comparing(i -> remainders[i]).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        for (int k = 0; k < cents - allocated; k++) {
+            shares[order.get(k % parts)]++;
+        }
+
+        List<BigDecimal> result = new ArrayList<>(parts);
+        for (long share : shares) {
+            result.add(fromCents(share));
+        }
+        return result;
+    }
+
+    /**
+     * Valores exatos informados pelo usuário (a soma deve ser igual ao total)
+     */
+    static List<BigDecimal> exact(BigDecimal total, List<BigDecimal> amounts) {
+        long sum = 0;
+        List<BigDecimal> result = new ArrayList<>(amounts.size());
+        for (BigDecimal amount : amounts) {
+            if (amount.signum() < 0) {
+                throw new IllegalArgumentException("Valor da parte não pode ser negativo");
+            }
+            long cents = toCents(amount);
+            sum += cents;
+            result.add(fromCents(cents));
+        }
+        if (sum != toCents(total)) {
+            throw new IllegalArgumentException("As partes devem somar exatamente " + total);
+        }
+        return result;
+    }
+
+    private static List<BigDecimal> requireWeights(List<BigDecimal> weights, int parts) {
+        if (weights == null || weights.size() != parts || weights.stream().anyMatch(w -> w == null)) {
+            throw new IllegalArgumentException("Informe o valor/porcentagem de cada participante");
+        }
+        return weights;
+    }
+
+    private static long toCents(BigDecimal value) {
+        try {
+            return value.movePointRight(2).setScale(0, RoundingMode.UNNECESSARY).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Valores devem ter no máximo 2 casas decimais");
+        }
+    }
+
+    private static BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
@@ -0,0 +1,319 @@
+package com.grapes.infrastructure.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.grapes.application.dto.BatchRequest;
+import com.grapes.application.dto.BatchResponse;
+import com.grapes.application.dto.CreateBattleRequest;
+import com.grapes.application.dto.CreatePaymentRequest;
+import com.grapes.application.exceptions.ConflictException;
+import com.grapes.domain.model.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Controller de requisições em lote (multiplexação).
+ *
+ * 📚 POR QUE EXISTE?
+ * Em rede móvel, cada chamada custa uma ida e volta (latência alta).
+ * Aceitar 5 convites ou pagar 5 batalhas virava 5 requisições.
+ * Agora o cliente manda tudo em um POST /batch:
+ * - O token JWT é validado UMA vez (a requisição externa)
+ * - Cada operação é despachada para o MESMO controller do endpoint original,
+ *   então status e corpo de cada item são idênticos aos das chamadas avulsas
+ * - atomic = true → tudo roda em uma única transação: se um item falhar,
+ *   nada é gravado e os itens seguintes nem são executados
+ *
+ * 📚 LOTE ATÔMICO E O FLUSH:
+ * Sem flush, o Hibernate só manda os INSERT/UPDATE no commit, e uma chave
+ * duplicada ou versão desatualizada apareceria lá, sem item culpado.
+ * Por isso cada operação é seguida de um flush: o erro cai no status do
+ * item que o causou. Se mesmo assim o commit falhar, os resultados voltam
+ * com os itens marcados como desfeitos.
+ *
+ * 🔒 Requer autenticação JWT.
+ */
+@RestController
+@RequestMapping("/batch")
+@CrossOrigin(origins = "*")
+public class BatchController {
+
+    private static final Set<String> CONDITIONAL_HEADERS = Set.of(
+            HttpHeaders.IF_NONE_MATCH.toLowerCase(Locale.ROOT),
+            HttpHeaders.IF_MATCH.toLowerCase(Locale.ROOT),
+            HttpHeaders.IF_MODIFIED_SINCE.toLowerCase(Locale.ROOT),
+            HttpHeaders.IF_UNMODIFIED_SINCE.toLowerCase(Locale.ROOT));
+
+    private final List<Route> routes = new ArrayList<>();
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+
+    public BatchController(
+            BattleController battleController,
+            FriendshipController friendshipController,
+            PlayerController playerController,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            Validator validator,
+            EntityManager entityManager
+    ) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+
+        // ========== ROTAS SUPORTADAS ==========
+
+        route("GET", "/players/me", (ctx, vars, body) -> playerController.getLoggedPlayer(ctx.user()));
+
+        route("GET", "/battles", (ctx, vars, body) -> battleController.getBattles(ctx.user(), ctx.webRequest()));
+        route("GET", "/battles/pending", (ctx, vars, body) -> battleController.getPendingBattles(ctx.user(), ctx.webRequest()));
+        route("GET", "/battles/aging", (ctx, vars, body) -> battleController.getAgingReport(ctx.user(), ctx.webRequest()));
+        route("POST", "/battles", (ctx, vars, body) ->
+                battleController.createBattle(ctx.user(), convert(body, CreateBattleRequest.class)));
+        route("POST", "/battles/{id}/pay", (ctx, vars, body) -> battleController.markAsPaid(ctx.user(), uuid(vars)));
+        route("POST", "/battles/{id}/payments", (ctx, vars, body) ->
+                battleController.addPayment(ctx.user(), uuid(vars), convert(body, CreatePaymentRequest.class)));
+        route("DELETE", "/battles/{id}", (ctx, vars, body) -> battleController.deleteBattle(ctx.user(), uuid(vars)));
+
+        route("GET", "/friends", (ctx, vars, body) -> friendshipController.getFriends(ctx.user()));
+        route("GET", "/friends/requests", (ctx, vars, body) -> friendshipController.getPendingRequests(ctx.user()));
+        route("GET", "/friends/sent", (ctx, vars, body) -> friendshipController.getSentRequests(ctx.user()));
+        route("POST", "/friends/request/{nickname}", (ctx, vars, body) ->
+                friendshipController.sendRequest(ctx.user(), vars.get("nickname")));
+        route("POST", "/friends/{id}/accept", (ctx, vars, body) -> friendshipController.acceptRequest(ctx.user(), uuid(vars)));
+        route("POST", "/friends/{id}/reject", (ctx, vars, body) -> friendshipController.rejectRequest(ctx.user(), uuid(vars)));
+        route("DELETE", "/friends/{id}", (ctx, vars, body) -> friendshipController.removeFriendship(ctx.user(), uuid(vars)));
+    }
+
+    /**
+     * Executa várias operações em uma requisição
+     * POST /batch
+     */
+    @PostMapping
+    public ResponseEntity<?> batch(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody BatchRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        Context ctx = new Context(user, unconditional(httpRequest));
+
+        if (!request.atomic()) {
+            List<BatchResponse.Item> results = new ArrayList<>();
+            for (int i = 0; i < request.operations().size(); i++) {
+                results.add(execute(i, request.operations().get(i), ctx));
+            }
+            return ResponseEntity.ok(new BatchResponse(false, true, results));
+        }
+
+        // Lote atômico: uma transação só; as transações dos services entram nela
+        List<BatchResponse.Item> results = new ArrayList<>();
+        boolean committed;
+        try {
+            committed = Boolean.TRUE.equals(transactionTemplate.execute((TransactionStatus status) -> {
+                for (int i = 0; i < request.operations().size(); i++) {
+                    BatchResponse.Item item = flushed(execute(i, request.operations().get(i), ctx));
+                    results.add(item);
+
+                    if (item.status() >= 400) {
+                        status.setRollbackOnly();
+                        for (int j = i + 1; j < request.operations().size(); j++) {
+                            results.add(new BatchResponse.Item(j, HttpStatus.FAILED_DEPENDENCY.value(),
+                                    "Não executada: lote atômico abortado na operação " + i));
+                        }
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        } catch (TransactionException | DataAccessException | PersistenceException e) {
+            // O commit falhou depois de todos os itens responderem: nada foi gravado
+            System.out.println("🍇 GRAPES: Commit do lote atômico falhou: " + e.getMessage());
+            return ResponseEntity.ok(new BatchResponse(true, false, rolledBack(results, request.operations().size())));
+        }
+
+        return ResponseEntity.ok(new BatchResponse(true, committed, results));
+    }
+
+    /**
+     * Grava no banco o que a operação mudou (ainda dentro da transação do
+     * lote), para que constraint e lock otimista falhem NESTE item
+     */
+    private BatchResponse.Item flushed(BatchResponse.Item item) {
+        if (item.status() >= 400) {
+            return item;
+        }
+        try {
+            entityManager.flush();
+            return item;
+        } catch (DataAccessException | PersistenceException e) {
+            return new BatchResponse.Item(item.index(), HttpStatus.CONFLICT.value(),
+                    "Conflito ao gravar a operação: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Resultados de um lote cujo commit falhou: o que tinha dado certo vira
+     * 409 (desfeito) e as operações sem resultado viram 424
+     */
+    private static List<BatchResponse.Item> rolledBack(List<BatchResponse.Item> results, int operations) {
+        List<BatchResponse.Item> items = new ArrayList<>();
+        for (BatchResponse.Item item : results) {
+            items.add(item.status() >= 400 ? item : new BatchResponse.Item(item.index(),
+                    HttpStatus.CONFLICT.value(), "Desfeita: o commit do lote atômico falhou"));
+        }
+        for (int i = results.size(); i < operations; i++) {
+            items.add(new BatchResponse.Item(i, HttpStatus.FAILED_DEPENDENCY.value(),
+                    "Não executada: o commit do lote atômico falhou"));
+        }
+        return items;
+    }
+
+    /**
+     * Encontra a rota da operação e chama o controller correspondente
+     */
+    private BatchResponse.Item execute(int index, BatchRequest.Operation operation, Context ctx) {
+        String method = operation.method().toUpperCase(Locale.ROOT);
+        PathContainer path = PathContainer.parsePath(operation.path());
+
+        for (Route route : routes) {
+            if (!route.method().equals(method)) {
+                continue;
+            }
+            PathPattern.PathMatchInfo match = route.pattern().matchAndExtract(path);
+            if (match == null) {
+                continue;
+            }
+
+            try {
+                ResponseEntity<?> response = route.handler().handle(ctx, match.getUriVariables(), operation.body());
+                if (response == null) {
+                    // O controller respondeu "não modificado"
+                    return new BatchResponse.Item(index, HttpStatus.NOT_MODIFIED.value(), null);
+                }
+                return new BatchResponse.Item(index, response.getStatusCode().value(), response.getBody());
+            } catch (ConflictException e) {
+                return new BatchResponse.Item(index, HttpStatus.CONFLICT.value(), e.getMessage());
+            } catch (DataAccessException | PersistenceException e) {
+                return new BatchResponse.Item(index, HttpStatus.CONFLICT.value(),
+                        "Conflito ao gravar a operação: " + e.getMessage());
+            } catch (IllegalArgumentException e) {
+                return new BatchResponse.Item(index, HttpStatus.BAD_REQUEST.value(), e.getMessage());
+            }
+        }
+
+        return new BatchResponse.Item(index, HttpStatus.NOT_FOUND.value(),
+                "Operação não suportada em lote: " + method + " " + operation.path());
+    }
+
+    private void route(String method, String pattern, Handler handler) {
+        routes.add(new Route(method, PathPatternParser.defaultInstance.parse(pattern), handler));
+    }
+
+    /**
+     * Converte e valida o corpo da sub-requisição (mesmas regras do @Valid)
+     */
+    private <T> T convert(Map<String, Object> body, Class<T> type) {
+        if (body == null) {
+            throw new IllegalArgumentException("Corpo da operação é obrigatório");
+        }
+
+        T value;
+        try {
+            value = objectMapper.convertValue(body, type);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Corpo da operação inválido");
+        }
+
+        Set<ConstraintViolation<T>> violations = validator.validate(value);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.iterator().next().getMessage());
+        }
+        return value;
+    }
+
+    private static UUID uuid(Map<String, String> vars) {
+        try {
+            return UUID.fromString(vars.get("id"));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("ID inválido: " + vars.get("id"));
+        }
+    }
+
+    /**
+     * As sub-requisições nunca herdam If-None-Match & cia da requisição externa:
+     * um GET dentro do lote sempre devolve o corpo completo.
+     */
+    private static WebRequest unconditional(HttpServletRequest request) {
+        return new ServletWebRequest(new HttpServletRequestWrapper(request) {
+            @Override
+            public String getMethod() {
+                return "GET";
+            }
+
+            @Override
+            public String getHeader(String name) {
+                return isConditional(name) ? null : super.getHeader(name);
+            }
+
+            @Override
+            public Enumeration<String> getHeaders(String name) {
+                return isConditional(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+            }
+
+            @Override
+            public long getDateHeader(String name) {
+                return isConditional(name) ? -1 : super.getDateHeader(name);
+            }
+
+            private boolean isConditional(String name) {
+                return CONDITIONAL_HEADERS.contains(name.toLowerCase(Locale.ROOT));
+            }
+        });
+    }
+
+    private record Context(User user, WebRequest webRequest) {}
+
+    private record Route(String method, PathPattern pattern, Handler handler) {}
+
+    @FunctionalInterface
+    private interface Handler {
+        ResponseEntity<?> handle(Context ctx, Map<String, String> vars, Map<String, Object> body);
+    }
+}
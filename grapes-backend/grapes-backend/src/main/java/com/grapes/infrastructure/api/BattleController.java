@@ -1,10 +1,19 @@
 package com.grapes.infrastructure.api;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -14,13 +23,29 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.grapes.application.dto.BattleFilter;
+import com.grapes.application.dto.BattlePaymentResponse;
 import com.grapes.application.dto.BattleResponse;
+import com.grapes.application.dto.BulkBattleActionRequest;
+import com.grapes.application.dto.BulkBattleResult;
+import com.grapes.application.dto.BulkCreateBattleRequest;
 import com.grapes.application.dto.CreateBattleRequest;
+import com.grapes.application.dto.CreatePaymentRequest;
+import com.grapes.application.exceptions.ConflictException;
+import com.grapes.application.services.AgingReportService;
+import com.grapes.application.services.BattleArchiveService;
+import com.grapes.application.services.BattleExportService;
+import com.grapes.application.services.BattleImportService;
 import com.grapes.application.services.BattleService;
 import com.grapes.application.services.PlayerService;
+import com.grapes.application.services.SyncService;
 import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.BattleStatus;
 import com.grapes.domain.model.Player;
 import com.grapes.domain.model.User;
 
@@ -30,18 +55,43 @@ import jakarta.validation.Valid;
  * Controller para operações de batalhas.
  * 
  * 🔒 Todas as rotas requerem autenticação JWT.
+ *
+ * 📚 As listas respondem com ETag: se o cliente mandar "If-None-Match"
+ * com o ETag que já tem e nada mudou, recebe 304 (sem corpo).
  */
 @RestController
 @RequestMapping("/battles")
 @CrossOrigin(origins = "*")
 public class BattleController {
 
+    private static final int MAX_ARCHIVE_PAGE_SIZE = 200;
+    private static final int MAX_SEARCH_LIMIT = 200;
+    private static final int MAX_QUERY_LIMIT = 200;
+
     private final BattleService battleService;
+    private final BattleArchiveService battleArchiveService;
+    private final AgingReportService agingReportService;
+    private final BattleExportService battleExportService;
+    private final BattleImportService battleImportService;
     private final PlayerService playerService;
+    private final SyncService syncService;
 
-    public BattleController(BattleService battleService, PlayerService playerService) {
+    public BattleController(
+            BattleService battleService,
+            BattleArchiveService battleArchiveService,
+            AgingReportService agingReportService,
+            BattleExportService battleExportService,
+            BattleImportService battleImportService,
+            PlayerService playerService,
+            SyncService syncService
+    ) {
         this.battleService = battleService;
+        this.battleArchiveService = battleArchiveService;
+        this.agingReportService = agingReportService;
+        this.battleExportService = battleExportService;
+        this.battleImportService = battleImportService;
         this.playerService = playerService;
+        this.syncService = syncService;
     }
 
     /**
@@ -49,13 +99,20 @@ public class BattleController {
      * GET /battles
      */
     @GetMapping
-    public ResponseEntity<?> getBattles(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getBattles(@AuthenticationPrincipal User user, WebRequest request) {
         try {
             Player player = playerService.findByEmail(user.getEmail());
+
+            // Nada mudou desde o ETag do cliente? 304 sem consultar as batalhas
+            String etag = syncService.versionTag(player.getId(), "battles");
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+
             List<BattleResponse> battles = battleService.getPlayerBattles(player).stream()
                     .map(b -> BattleResponse.from(b, player))
                     .collect(Collectors.toList());
-            return ResponseEntity.ok(battles);
+            return ResponseEntity.ok().eTag(etag).body(battles);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
@@ -66,18 +123,194 @@ public class BattleController {
      * GET /battles/pending
      */
     @GetMapping("/pending")
-    public ResponseEntity<?> getPendingBattles(@AuthenticationPrincipal User user) {
+    public ResponseEntity<?> getPendingBattles(@AuthenticationPrincipal User user, WebRequest request) {
         try {
             Player player = playerService.findByEmail(user.getEmail());
+
+            String etag = syncService.versionTag(player.getId(), "pending");
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+
             List<BattleResponse> battles = battleService.getPendingBattles(player).stream()
                     .map(b -> BattleResponse.from(b, player))
                     .collect(Collectors.toList());
+            return ResponseEntity.ok().eTag(etag).body(battles);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Relatório de envelhecimento: saldo pendente por contraparte em faixas
+     * de 0-30, 31-60, 61-90 e 90+ dias
+     * GET /battles/aging
+     */
+    @GetMapping("/aging")
+    public ResponseEntity<?> getAgingReport(@AuthenticationPrincipal User user, WebRequest request) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+
+            // As faixas mudam quando o dia vira, mesmo sem nenhuma mudança
+            String etag = syncService.versionTag(player.getId(), "aging-" + LocalDate.now());
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            return ResponseEntity.ok().eTag(etag).body(agingReportService.getReport(player));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Histórico arquivado (batalhas pagas há muito tempo), paginado
+     * GET /battles/archive?page=0&size=50
+     */
+    @GetMapping("/archive")
+    public ResponseEntity<?> getArchivedBattles(
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        try {
+            if (page < 0 || size < 1 || size > MAX_ARCHIVE_PAGE_SIZE) {
+                return ResponseEntity.badRequest().body("Página inválida (size entre 1 e " + MAX_ARCHIVE_PAGE_SIZE + ")");
+            }
+            Player player = playerService.findByEmail(user.getEmail());
+            List<BattleResponse> battles = battleArchiveService.getArchivedBattles(player, page, size).stream()
+                    .map(b -> BattleResponse.from(b, player))
+                    .collect(Collectors.toList());
             return ResponseEntity.ok(battles);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
     }
 
+    /**
+     * Minhas batalhas com filtros combináveis, paginadas por cursor
+     * GET /battles/query?counterparty=joao&category=Comida&status=PENDING
+     *     &from=2026-01-01&to=2026-03-31&minAmount=10&maxAmount=100&limit=50&cursor=...
+     *
+     * Todos os filtros são opcionais; from e to são datas inclusive.
+     * Para a próxima página, repita a consulta com cursor = nextCursor.
+     */
+    @GetMapping("/query")
+    public ResponseEntity<?> queryBattles(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String counterparty,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        try {
+            if (limit < 1 || limit > MAX_QUERY_LIMIT) {
+                return ResponseEntity.badRequest().body("limit deve estar entre 1 e " + MAX_QUERY_LIMIT);
+            }
+            Player player = playerService.findByEmail(user.getEmail());
+            BattleFilter filter = new BattleFilter(
+                    counterparty,
+                    category,
+                    status == null ? null : BattleStatus.valueOf(status.toUpperCase(Locale.ROOT)),
+                    from == null ? null : from.atStartOfDay(),
+                    to == null ? null : to.plusDays(1).atStartOfDay(),
+                    minAmount,
+                    maxAmount);
+            return ResponseEntity.ok(battleService.query(player, filter, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Busca textual nas minhas batalhas (sem acento, por prefixo, por relevância)
+     * GET /battles/search?q=pizza marc&status=PENDING&from=2026-01-01&to=2026-03-31&limit=50
+     *
+     * from e to são datas inclusive e opcionais.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchBattles(
+            @AuthenticationPrincipal User user,
+            @RequestParam String q,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        try {
+            if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+                return ResponseEntity.badRequest().body("limit deve estar entre 1 e " + MAX_SEARCH_LIMIT);
+            }
+            BattleStatus battleStatus = status == null ? null : BattleStatus.valueOf(status.toUpperCase(Locale.ROOT));
+            Player player = playerService.findByEmail(user.getEmail());
+
+            List<BattleResponse> battles = battleService.search(
+                            player,
+                            q,
+                            battleStatus,
+                            from == null ? null : from.atStartOfDay(),
+                            to == null ? null : to.plusDays(1).atStartOfDay(),
+                            limit).stream()
+                    .map(b -> BattleResponse.from(b, player))
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(battles);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Exporta todo o histórico (tabela quente + arquivo) para planilha
+     * GET /battles/export?format=csv|ndjson&gzip=false
+     * 
+     * A resposta é escrita em streaming: o servidor não monta a lista inteira.
+     * (O tipo de retorno precisa ser ResponseEntity<StreamingResponseBody>,
+     * então os erros também saem como um corpo em streaming.)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBattles(
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        BattleExportService.Format exportFormat;
+        try {
+            exportFormat = BattleExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return textResponse(HttpStatus.BAD_REQUEST, "Formato inválido: use csv ou ndjson");
+        }
+
+        Player player;
+        try {
+            player = playerService.findByEmail(user.getEmail());
+        } catch (RuntimeException e) {
+            return textResponse(HttpStatus.NOT_FOUND, e.getMessage());
+        }
+
+        String extension = exportFormat == BattleExportService.Format.CSV ? "csv" : "ndjson";
+        MediaType contentType = exportFormat == BattleExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+        if (gzip) {
+            extension += ".gz";
+            contentType = new MediaType("application", "gzip");
+        }
+
+        StreamingResponseBody body = out -> battleExportService.export(player, exportFormat, gzip, out);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"grapes-battles." + extension + "\"")
+                .body(body);
+    }
+
     /**
      * Cria uma nova batalha
      * POST /battles
@@ -99,7 +332,8 @@ public class BattleController {
                         request.amount(),
                         request.category(),
                         request.description(),
-                        request.iAmCreditor()
+                        request.iAmCreditor(),
+                        request.dueDate()
                 );
             } else if (request.externalName() != null && !request.externalName().isBlank()) {
                 // Batalha com pessoa externa
@@ -109,7 +343,8 @@ public class BattleController {
                         request.amount(),
                         request.category(),
                         request.description(),
-                        request.iAmCreditor()
+                        request.iAmCreditor(),
+                        request.dueDate()
                 );
             } else {
                 return ResponseEntity.badRequest().body("Informe o nickname do amigo ou nome externo");
@@ -123,9 +358,99 @@ public class BattleController {
         }
     }
 
+    /**
+     * Cria várias batalhas de uma vez (ex: dividir a conta do jantar)
+     * POST /battles/bulk
+     * 
+     * Retorna 201 se todas foram criadas, ou 207 (Multi-Status) com o
+     * resultado de cada item se alguma falhou.
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createBattles(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody BulkCreateBattleRequest request
+    ) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            List<BulkBattleResult> results = battleService.createBulk(player, request.battles());
+
+            boolean allCreated = results.stream().allMatch(BulkBattleResult::created);
+            return ResponseEntity.status(allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS).body(results);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Importa batalhas de um CSV (corpo da requisição = o arquivo)
+     * POST /battles/import?dryRun=false
+     * 
+     * Ex: curl --data-binary @dividas.csv -H "Content-Type: text/csv" ...
+     * O arquivo é lido em streaming; a resposta traz os erros por linha.
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", "text/plain", MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<?> importBattles(
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "false") boolean dryRun,
+            InputStream body
+    ) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.ok(battleImportService.importCsv(player, body, dryRun));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Falha ao ler o arquivo: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Quita várias batalhas de uma vez (por IDs e/ou filtros)
+     * POST /battles/bulk/pay
+     */
+    @PostMapping("/bulk/pay")
+    public ResponseEntity<?> markAllAsPaid(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody BulkBattleActionRequest request
+    ) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.ok(battleService.markAllAsPaid(player, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Remove várias batalhas de uma vez (apenas as que eu criei)
+     * POST /battles/bulk/delete
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<?> deleteBattles(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody BulkBattleActionRequest request
+    ) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.ok(battleService.deleteAll(player, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
     /**
      * Marca batalha como paga
      * POST /battles/{id}/pay
+     * 
+     * Retorna 409 (Conflict) se outra requisição já quitou a batalha.
      */
     @PostMapping("/{id}/pay")
     public ResponseEntity<?> markAsPaid(
@@ -136,6 +461,72 @@ public class BattleController {
             Player player = playerService.findByEmail(user.getEmail());
             Battle battle = battleService.markAsPaid(id, player);
             return ResponseEntity.ok(BattleResponse.from(battle, player));
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Registra um pagamento parcial (vira PAID quando o saldo zera)
+     * POST /battles/{id}/payments
+     */
+    @PostMapping("/{id}/payments")
+    public ResponseEntity<?> addPayment(
+            @AuthenticationPrincipal User user,
+            @PathVariable UUID id,
+            @Valid @RequestBody CreatePaymentRequest request
+    ) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            Battle battle = battleService.addPayment(id, player, request.amount(), request.note());
+            return ResponseEntity.status(HttpStatus.CREATED).body(BattleResponse.from(battle, player));
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Lista os pagamentos de uma batalha
+     * GET /battles/{id}/payments
+     */
+    @GetMapping("/{id}/payments")
+    public ResponseEntity<?> getPayments(
+            @AuthenticationPrincipal User user,
+            @PathVariable UUID id
+    ) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            List<BattlePaymentResponse> payments = battleService.getPayments(id, player).stream()
+                    .map(BattlePaymentResponse::from)
+                    .collect(Collectors.toList());
+            return ResponseEntity.ok(payments);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Histórico de auditoria da batalha (inclusive removida)
+     * GET /battles/{id}/history
+     */
+    @GetMapping("/{id}/history")
+    public ResponseEntity<?> getHistory(
+            @AuthenticationPrincipal User user,
+            @PathVariable UUID id
+    ) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.ok(battleService.getHistory(id, player));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (RuntimeException e) {
@@ -162,4 +553,10 @@ public class BattleController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         }
     }
+
+    private static ResponseEntity<StreamingResponseBody> textResponse(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(new MediaType("text", "plain", StandardCharsets.UTF_8))
+                .body(out -> out.write(message.getBytes(StandardCharsets.UTF_8)));
+    }
 }
@@ -0,0 +1,53 @@
+package com.grapes.infrastructure.api;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.grapes.application.dto.CategoryResponse;
+import com.grapes.application.services.CategoryService;
+import com.grapes.application.services.PlayerService;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.User;
+
+/**
+ * Controller de categorias.
+ *
+ * 🔒 Requer autenticação JWT.
+ */
+@RestController
+@RequestMapping("/categories")
+@CrossOrigin(origins = "*")
+public class CategoryController {
+
+    private final CategoryService categoryService;
+    private final PlayerService playerService;
+
+    public CategoryController(CategoryService categoryService, PlayerService playerService) {
+        this.categoryService = categoryService;
+        this.playerService = playerService;
+    }
+
+    /**
+     * Minhas categorias, das mais usadas para as menos (seletor de categorias)
+     * GET /categories
+     */
+    @GetMapping
+    public ResponseEntity<?> getMyCategories(@AuthenticationPrincipal User user) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            List<CategoryResponse> categories = categoryService.getPlayerCategories(player).stream()
+                    .map(stat -> CategoryResponse.from(stat, categoryService.getById(stat.getCategoryId())))
+                    .toList();
+            return ResponseEntity.ok(categories);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
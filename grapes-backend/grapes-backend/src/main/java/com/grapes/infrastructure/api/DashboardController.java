@@ -0,0 +1,52 @@
+package com.grapes.infrastructure.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.grapes.application.services.DashboardService;
+import com.grapes.application.services.PlayerService;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.User;
+
+/**
+ * Controller do painel inicial do app.
+ *
+ * 📚 POR QUE EXISTE?
+ * Abrir o app fazia 5 chamadas (/players/me, /battles/pending, /friends,
+ * /friends/requests e /battles), cada uma autenticando e buscando o player.
+ * Agora é uma chamada só.
+ *
+ * 🔒 Requer autenticação JWT.
+ */
+@RestController
+@RequestMapping("/me")
+@CrossOrigin(origins = "*")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+    private final PlayerService playerService;
+
+    public DashboardController(DashboardService dashboardService, PlayerService playerService) {
+        this.dashboardService = dashboardService;
+        this.playerService = playerService;
+    }
+
+    /**
+     * Dashboard completo do player logado
+     * GET /me/dashboard
+     */
+    @GetMapping("/dashboard")
+    public ResponseEntity<?> getDashboard(@AuthenticationPrincipal User user) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.ok(dashboardService.getDashboard(player));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
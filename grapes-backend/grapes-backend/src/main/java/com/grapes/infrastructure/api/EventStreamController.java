@@ -0,0 +1,53 @@
+package com.grapes.infrastructure.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.grapes.application.services.PlayerService;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.User;
+import com.grapes.infrastructure.realtime.EventStreamService;
+
+/**
+ * Controller do stream de eventos em tempo real (Server-Sent Events).
+ *
+ * 📚 POR QUE SSE?
+ * Em vez de o cliente ficar consultando GET /battles e GET /friends/requests
+ * a cada poucos segundos, ele abre UMA conexão e o servidor avisa quando
+ * algo muda (batalha criada/paga/removida, convite recebido/aceito).
+ *
+ * 🔒 Requer autenticação JWT.
+ */
+@RestController
+@RequestMapping("/events")
+@CrossOrigin(origins = "*")
+public class EventStreamController {
+
+    private final EventStreamService eventStreamService;
+    private final PlayerService playerService;
+
+    public EventStreamController(EventStreamService eventStreamService, PlayerService playerService) {
+        this.eventStreamService = eventStreamService;
+        this.playerService = playerService;
+    }
+
+    /**
+     * Abre o stream de eventos do player logado
+     * GET /events/stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> stream(@AuthenticationPrincipal User user) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.ok(eventStreamService.subscribe(player.getId()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.grapes.infrastructure.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.grapes.application.services.FeedService;
+import com.grapes.application.services.PlayerService;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.User;
+
+/**
+ * Controller do feed de atividades dos amigos.
+ *
+ * 🔒 Requer autenticação JWT.
+ */
+@RestController
+@RequestMapping("/feed")
+@CrossOrigin(origins = "*")
+public class FeedController {
+
+    private static final int MAX_FEED_LIMIT = 100;
+
+    private final FeedService feedService;
+    private final PlayerService playerService;
+
+    public FeedController(FeedService feedService, PlayerService playerService) {
+        this.feedService = feedService;
+        this.playerService = playerService;
+    }
+
+    /**
+     * Atividades dos meus amigos, mais novas primeiro (paginado por cursor)
+     * GET /feed?limit=20&cursor=...
+     */
+    @GetMapping
+    public ResponseEntity<?> getFeed(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        try {
+            if (limit < 1 || limit > MAX_FEED_LIMIT) {
+                return ResponseEntity.badRequest().body("limit deve estar entre 1 e " + MAX_FEED_LIMIT);
+            }
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.ok(feedService.getFeed(player, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
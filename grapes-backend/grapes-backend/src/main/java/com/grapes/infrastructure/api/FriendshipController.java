@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.grapes.application.dto.FriendResponse;
 import com.grapes.application.dto.FriendshipResponse;
+import com.grapes.application.exceptions.ConflictException;
 import com.grapes.application.services.FriendshipService;
 import com.grapes.application.services.PlayerService;
 import com.grapes.domain.model.Player;
@@ -43,6 +44,9 @@ public class FriendshipController {
     /**
      * Lista meus amigos
      * GET /friends
+     * 
+     * Sem ETag: a lista traz nível e skin de cada amigo, que mudam sem
+     * passar pela versão de sync do player (um 304 ficaria desatualizado)
      */
     @GetMapping
     public ResponseEntity<?> getFriends(@AuthenticationPrincipal User user) {
@@ -114,6 +118,8 @@ public class FriendshipController {
     /**
      * Aceita convite de amizade
      * POST /friends/{id}/accept
+     * 
+     * Retorna 409 (Conflict) se o convite já foi respondido.
      */
     @PostMapping("/{id}/accept")
     public ResponseEntity<?> acceptRequest(
@@ -124,6 +130,8 @@ public class FriendshipController {
             Player player = playerService.findByEmail(user.getEmail());
             var friendship = friendshipService.acceptRequest(id, player);
             return ResponseEntity.ok(FriendshipResponse.from(friendship));
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (RuntimeException e) {
@@ -144,6 +152,8 @@ public class FriendshipController {
             Player player = playerService.findByEmail(user.getEmail());
             var friendship = friendshipService.rejectRequest(id, player);
             return ResponseEntity.ok(FriendshipResponse.from(friendship));
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (RuntimeException e) {
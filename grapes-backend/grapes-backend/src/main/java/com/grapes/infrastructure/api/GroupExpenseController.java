@@ -0,0 +1,116 @@
+package com.grapes.infrastructure.api;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.grapes.application.dto.CreateGroupExpenseRequest;
+import com.grapes.application.exceptions.ConflictException;
+import com.grapes.application.services.GroupExpenseService;
+import com.grapes.application.services.PlayerService;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.User;
+
+import jakarta.validation.Valid;
+
+/**
+ * Controller para despesas em grupo (conta dividida).
+ *
+ * 🔒 Todas as rotas requerem autenticação JWT.
+ */
+@RestController
+@RequestMapping("/groups/expenses")
+@CrossOrigin(origins = "*")
+public class GroupExpenseController {
+
+    private final GroupExpenseService groupExpenseService;
+    private final PlayerService playerService;
+
+    public GroupExpenseController(GroupExpenseService groupExpenseService, PlayerService playerService) {
+        this.groupExpenseService = groupExpenseService;
+        this.playerService = playerService;
+    }
+
+    /**
+     * Cria uma despesa e divide entre os participantes
+     * POST /groups/expenses
+     */
+    @PostMapping
+    public ResponseEntity<?> createExpense(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody CreateGroupExpenseRequest request
+    ) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.status(HttpStatus.CREATED).body(groupExpenseService.create(player, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Lista minhas despesas em grupo (com resumo, sem as partes)
+     * GET /groups/expenses
+     */
+    @GetMapping
+    public ResponseEntity<?> getExpenses(@AuthenticationPrincipal User user) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.ok(groupExpenseService.getPlayerExpenses(player));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Detalhe de uma despesa com todas as partes
+     * GET /groups/expenses/{id}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getExpense(
+            @AuthenticationPrincipal User user,
+            @PathVariable UUID id
+    ) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.ok(groupExpenseService.getExpense(id, player));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Marca uma parte como paga
+     * POST /groups/expenses/{id}/shares/{shareId}/pay
+     */
+    @PostMapping("/{id}/shares/{shareId}/pay")
+    public ResponseEntity<?> payShare(
+            @AuthenticationPrincipal User user,
+            @PathVariable UUID id,
+            @PathVariable UUID shareId
+    ) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.ok(groupExpenseService.payShare(id, shareId, player));
+        } catch (ConflictException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
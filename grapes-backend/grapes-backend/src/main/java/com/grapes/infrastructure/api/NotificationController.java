@@ -0,0 +1,109 @@
+package com.grapes.infrastructure.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.grapes.application.dto.UnreadCountResponse;
+import com.grapes.application.services.NotificationService;
+import com.grapes.application.services.PlayerService;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.User;
+
+/**
+ * Controller da caixa de entrada de notificações.
+ *
+ * 🔒 Todas as rotas requerem autenticação JWT.
+ */
+@RestController
+@RequestMapping("/notifications")
+@CrossOrigin(origins = "*")
+public class NotificationController {
+
+    private static final int MAX_INBOX_LIMIT = 100;
+
+    private final NotificationService notificationService;
+    private final PlayerService playerService;
+
+    public NotificationController(NotificationService notificationService, PlayerService playerService) {
+        this.notificationService = notificationService;
+        this.playerService = playerService;
+    }
+
+    /**
+     * Minha caixa de entrada, mais novas primeiro (paginada por cursor)
+     * GET /notifications?limit=20&cursor=...
+     */
+    @GetMapping
+    public ResponseEntity<?> getInbox(
+            @AuthenticationPrincipal User user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        try {
+            if (limit < 1 || limit > MAX_INBOX_LIMIT) {
+                return ResponseEntity.badRequest().body("limit deve estar entre 1 e " + MAX_INBOX_LIMIT);
+            }
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.ok(notificationService.getInbox(player, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Quantidade de não lidas (badge)
+     * GET /notifications/unread-count
+     */
+    @GetMapping("/unread-count")
+    public ResponseEntity<?> getUnreadCount(@AuthenticationPrincipal User user) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.ok(new UnreadCountResponse(notificationService.getUnreadCount(player)));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Marca uma notificação como lida
+     * POST /notifications/{id}/read
+     */
+    @PostMapping("/{id}/read")
+    public ResponseEntity<?> markRead(
+            @AuthenticationPrincipal User user,
+            @PathVariable long id
+    ) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            notificationService.markRead(player, id);
+            return ResponseEntity.noContent().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Marca todas como lidas
+     * POST /notifications/read-all
+     */
+    @PostMapping("/read-all")
+    public ResponseEntity<?> markAllRead(@AuthenticationPrincipal User user) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            notificationService.markAllRead(player);
+            return ResponseEntity.noContent().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.grapes.infrastructure.api;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.grapes.application.dto.CreateRecurringBattleRequest;
+import com.grapes.application.dto.RecurringBattleResponse;
+import com.grapes.application.services.PlayerService;
+import com.grapes.application.services.RecurringBattleService;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.User;
+
+import jakarta.validation.Valid;
+
+/**
+ * Controller de batalhas recorrentes (modelos que geram uma batalha a cada ocorrência).
+ *
+ * 🔒 Todas as rotas requerem autenticação JWT.
+ */
+@RestController
+@RequestMapping("/recurring-battles")
+@CrossOrigin(origins = "*")
+public class RecurringBattleController {
+
+    private final RecurringBattleService recurringBattleService;
+    private final PlayerService playerService;
+
+    public RecurringBattleController(RecurringBattleService recurringBattleService, PlayerService playerService) {
+        this.recurringBattleService = recurringBattleService;
+        this.playerService = playerService;
+    }
+
+    /**
+     * Cria um modelo recorrente
+     * POST /recurring-battles
+     */
+    @PostMapping
+    public ResponseEntity<?> create(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody CreateRecurringBattleRequest request
+    ) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(RecurringBattleResponse.from(recurringBattleService.create(player, request), player));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Lista meus modelos ativos (criados por mim ou comigo de oponente)
+     * GET /recurring-battles
+     */
+    @GetMapping
+    public ResponseEntity<?> getMyRecurring(@AuthenticationPrincipal User user) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            List<RecurringBattleResponse> recurring = recurringBattleService.getPlayerRecurring(player).stream()
+                    .map(r -> RecurringBattleResponse.from(r, player))
+                    .toList();
+            return ResponseEntity.ok(recurring);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Cancela um modelo (as batalhas já geradas continuam)
+     * DELETE /recurring-battles/{id}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> cancel(
+            @AuthenticationPrincipal User user,
+            @PathVariable UUID id
+    ) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            recurringBattleService.cancel(id, player);
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.grapes.infrastructure.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.grapes.application.dto.SettlementRequest;
+import com.grapes.application.services.PlayerService;
+import com.grapes.application.services.SettlementService;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.User;
+
+import jakarta.validation.Valid;
+
+/**
+ * Controller de acerto de contas em grupo.
+ *
+ * 📚 EXEMPLO:
+ * A deve 10 para B, B deve 10 para C, C deve 10 para A → nenhum pagamento.
+ * A deve 30 para B, B deve 20 para C → A paga 10 para B e 20 para C.
+ *
+ * 🔒 Todas as rotas requerem autenticação JWT.
+ */
+@RestController
+@RequestMapping("/settlements")
+@CrossOrigin(origins = "*")
+public class SettlementController {
+
+    private final SettlementService settlementService;
+    private final PlayerService playerService;
+
+    public SettlementController(SettlementService settlementService, PlayerService playerService) {
+        this.settlementService = settlementService;
+        this.playerService = playerService;
+    }
+
+    /**
+     * Mostra o plano de acerto do grupo (não altera nada)
+     * POST /settlements/plan
+     */
+    @PostMapping("/plan")
+    public ResponseEntity<?> plan(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody SettlementRequest request
+    ) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.ok(settlementService.plan(player, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+
+    /**
+     * Aplica o plano: quita as batalhas do grupo e cria os pagamentos
+     * POST /settlements/apply
+     */
+    @PostMapping("/apply")
+    public ResponseEntity<?> apply(
+            @AuthenticationPrincipal User user,
+            @Valid @RequestBody SettlementRequest request
+    ) {
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            return ResponseEntity.ok(settlementService.apply(player, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        }
+    }
+}
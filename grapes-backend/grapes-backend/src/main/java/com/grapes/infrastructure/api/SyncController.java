@@ -0,0 +1,65 @@
+package com.grapes.infrastructure.api;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.grapes.application.dto.SyncResponse;
+import com.grapes.application.services.PlayerService;
+import com.grapes.application.services.SyncService;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.User;
+
+/**
+ * Controller de sincronização incremental (delta sync).
+ *
+ * 📚 USO NO APP MOBILE:
+ * 1. Primeira vez: GET /sync?since=0 → recebe tudo + "version"
+ * 2. Ao voltar para o app: GET /sync?since={version} → só o que mudou
+ * 3. Se "hasMore" = true, chama de novo com a nova versão
+ *
+ * 🔒 Requer autenticação JWT.
+ */
+@RestController
+@RequestMapping("/sync")
+@CrossOrigin(origins = "*")
+public class SyncController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final SyncService syncService;
+    private final PlayerService playerService;
+
+    public SyncController(SyncService syncService, PlayerService playerService) {
+        this.syncService = syncService;
+        this.playerService = playerService;
+    }
+
+    /**
+     * Mudanças desde a versão informada
+     * GET /sync?since=0&limit=500
+     */
+    @GetMapping
+    public ResponseEntity<?> sync(
+            @AuthenticationPrincipal User user,
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "500") int limit
+    ) {
+        if (since < 0 || limit < 1) {
+            return ResponseEntity.badRequest().body("Parâmetros inválidos");
+        }
+
+        try {
+            Player player = playerService.findByEmail(user.getEmail());
+            SyncResponse response = syncService.getChangesSince(player, since, Math.min(limit, MAX_LIMIT));
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.grapes.infrastructure.audit;
+
+/**
+ * O que aconteceu com a batalha (um registro do diário de auditoria por ação).
+ *
+ * ⚠️ O ordinal vai gravado no arquivo: só acrescente valores no FIM.
+ */
+public enum AuditAction {
+    CREATED,   // Batalha criada
+    PAYMENT,   // Pagamento parcial (ainda falta)
+    PAID,      // Batalha quitada
+    DELETED    // Batalha removida pelo criador
+}
@@ -0,0 +1,25 @@
+package com.grapes.infrastructure.audit;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.grapes.infrastructure.persistence.BattleParties;
+
+/**
+ * Conteúdo de um registro de auditoria (o diário acrescenta sequência e instante)
+ *
+ * @param remainingAmount saldo da batalha depois da ação (null se a
+ *                        operação em massa não o conhecia)
+ */
+public record AuditEntry(
+        AuditAction action,
+        UUID battleId,
+        UUID actorId,
+        UUID creatorId,
+        UUID opponentId,    // null se for batalha com pessoa externa
+        BigDecimal remainingAmount
+) {
+    public static AuditEntry of(AuditAction action, BattleParties battle, UUID actorId, BigDecimal remainingAmount) {
+        return new AuditEntry(action, battle.battleId(), actorId, battle.creatorId(), battle.opponentId(), remainingAmount);
+    }
+}
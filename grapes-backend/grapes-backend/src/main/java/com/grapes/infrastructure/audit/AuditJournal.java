@@ -0,0 +1,348 @@
+package com.grapes.infrastructure.audit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.grapes.infrastructure.persistence.AfterCommit;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Diário de auditoria das batalhas: quem criou, pagou ou removeu cada uma.
+ *
+ * 📚 COMO FUNCIONA:
+ * - Só acrescenta: cada ação vira um registro binário de 93 bytes no fim
+ *   do segmento ativo (arquivo mapeado em memória em grapes.audit.dir).
+ *   Nada é reescrito nem apagado, a não ser pela retenção
+ * - Gravar é copiar bytes para a memória: microssegundos, sem ida ao banco
+ * - Group commit: uma thread chama force() a cada grapes.audit.flush-ms
+ *   se houve escrita. Se o processo cair, as páginas já estão com o
+ *   kernel e nada se perde; se a MÁQUINA cair, perde-se no máximo o
+ *   último intervalo
+ * - Segmento cheio (grapes.audit.segment-size-mb) é selado e o próximo é
+ *   aberto. O nome do arquivo é a sequência do primeiro registro
+ *
+ * 📚 ÍNDICE:
+ * Em memória, por batalha e por jogador (criador e oponente), com as
+ * sequências dos registros. É montado na inicialização lendo os segmentos
+ * (registros de tamanho fixo: uma leitura sequencial) e a sequência diz
+ * em qual segmento e posição está o registro.
+ *
+ * 📚 COMPACTAÇÃO (grapes.audit.compact-cron):
+ * - Segmentos selados são aparados (o arquivo encolhe para o usado)
+ * - Segmentos cujo último registro passou de grapes.audit.retention-days
+ *   são removidos, com as entradas deles no índice
+ */
+@Component
+public class AuditJournal {
+
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".log";
+
+    private final Path dir;
+    private final int segmentCapacity;
+    private final long flushMs;
+    private final NavigableMap<Long, AuditSegment> segments = new TreeMap<>();
+    private final Map<UUID, Postings> byBattle = new HashMap<>();
+    private final Map<UUID, Postings> byPlayer = new HashMap<>();
+    private final byte[] scratch = new byte[AuditRecord.SIZE];
+    private final Thread flusher;
+    private AuditSegment active;
+    private long nextSequence = 1;
+    private boolean dirty;
+    private volatile boolean closed;
+
+    @Value("${grapes.audit.retention-days:1825}")
+    private long retentionDays;
+
+    public AuditJournal(
+            @Value("${grapes.audit.dir:./data/audit}") Path dir,
+            @Value("${grapes.audit.segment-size-mb:64}") int segmentSizeMb,
+            @Value("${grapes.audit.flush-ms:10}") long flushMs
+    ) {
+        this.dir = dir;
+        this.segmentCapacity = (int) ((long) segmentSizeMb * 1024 * 1024 / AuditRecord.SIZE);
+        this.flushMs = flushMs;
+        open();
+        this.flusher = Thread.ofVirtual()
+                .name("audit-flush")
+                .start(this::flushLoop);
+    }
+
+    /**
+     * Grava os registros APÓS o commit da transação atual (rollback = nada gravado)
+     */
+    public void appendAfterCommit(List<AuditEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            try {
+                append(entries);
+            } catch (RuntimeException e) {
+                // A transação já foi commitada: a falha do diário não volta para o cliente
+                System.out.println("🍇 GRAPES: Falha ao gravar " + entries.size() + " registros de auditoria: " + e.getMessage());
+            }
+        });
+    }
+
+    public void appendAfterCommit(AuditEntry entry) {
+        appendAfterCommit(List.of(entry));
+    }
+
+    /**
+     * Histórico de uma batalha, mais antigo primeiro
+     */
+    public synchronized List<AuditRecord> history(UUID battleId) {
+        Postings postings = byBattle.get(battleId);
+        if (postings == null) {
+            return List.of();
+        }
+        List<AuditRecord> records = new ArrayList<>(postings.size);
+        for (int i = 0; i < postings.size; i++) {
+            AuditRecord record = read(postings.sequences[i]);
+            if (record != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Últimos registros das batalhas de um jogador, mais novo primeiro
+     */
+    public synchronized List<AuditRecord> historyOfPlayer(UUID playerId, int limit) {
+        Postings postings = byPlayer.get(playerId);
+        if (postings == null) {
+            return List.of();
+        }
+        List<AuditRecord> records = new ArrayList<>(Math.min(limit, postings.size));
+        for (int i = postings.size - 1; i >= 0 && records.size() < limit; i--) {
+            AuditRecord record = read(postings.sequences[i]);
+            if (record != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Apara os segmentos selados e remove os que passaram da retenção
+     */
+    @Scheduled(cron = "${grapes.audit.compact-cron:0 30 4 * * *}")
+    public synchronized void compact() {
+        long cutoff = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(retentionDays);
+        int removed = 0;
+        int trimmed = 0;
+
+        Iterator<AuditSegment> iterator = segments.values().iterator();
+        while (iterator.hasNext()) {
+            AuditSegment segment = iterator.next();
+            if (segment == active) {
+                break;
+            }
+            if (segment.lastTimestamp() < cutoff) {
+                segment.delete();
+                iterator.remove();
+                removed++;
+            } else if (segment.trim()) {
+                trimmed++;
+            }
+        }
+
+        if (removed > 0) {
+            long firstKept = segments.isEmpty() ? nextSequence : segments.firstKey();
+            prune(byBattle, firstKept);
+            prune(byPlayer, firstKept);
+        }
+        System.out.println("🍇 GRAPES: Auditoria: " + trimmed + " segmentos aparados, " + removed + " removidos pela retenção");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        closed = true;
+        flusher.interrupt();
+        synchronized (this) {
+            if (active != null) {
+                active.force();
+            }
+            segments.values().forEach(AuditSegment::close);
+        }
+    }
+
+    private synchronized void append(List<AuditEntry> entries) {
+        long now = System.currentTimeMillis();
+        for (AuditEntry entry : entries) {
+            if (active == null || active.isFull()) {
+                rotate();
+            }
+            long sequence = nextSequence++;
+            AuditRecord.encode(sequence, now, entry, scratch);
+            active.append(scratch);
+            index(sequence, entry);
+        }
+        dirty = true;
+    }
+
+    /**
+     * Sela o segmento ativo e abre o próximo
+     */
+    private void rotate() {
+        if (active != null) {
+            active.seal();
+        }
+        active = AuditSegment.create(dir.resolve(fileName(nextSequence)), nextSequence, segmentCapacity);
+        segments.put(nextSequence, active);
+    }
+
+    private AuditRecord read(long sequence) {
+        Map.Entry<Long, AuditSegment> segment = segments.floorEntry(sequence);
+        return segment != null ? segment.getValue().read(sequence) : null;
+    }
+
+    private void index(long sequence, AuditEntry entry) {
+        byBattle.computeIfAbsent(entry.battleId(), id -> new Postings()).add(sequence);
+        byPlayer.computeIfAbsent(entry.creatorId(), id -> new Postings()).add(sequence);
+        if (entry.opponentId() != null) {
+            byPlayer.computeIfAbsent(entry.opponentId(), id -> new Postings()).add(sequence);
+        }
+    }
+
+    /**
+     * Lê os segmentos do disco e monta o índice
+     */
+    private void open() {
+        long start = System.nanoTime();
+        List<Path> files;
+        try {
+            Files.createDirectories(dir);
+            try (Stream<Path> list = Files.list(dir)) {
+                files = list.filter(path -> path.getFileName().toString().matches(PREFIX + "\\d{20}" + SUFFIX))
+                        .sorted()
+                        .toList();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long records = 0;
+        for (int i = 0; i < files.size(); i++) {
+            Path path = files.get(i);
+            String name = path.getFileName().toString();
+            long firstSequence = Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+            // Só o último segmento, ainda com o tamanho cheio, continua recebendo registros
+            boolean writable = i == files.size() - 1 && size(path) == (long) segmentCapacity * AuditRecord.SIZE;
+            AuditSegment segment = AuditSegment.open(path, firstSequence, segmentCapacity, writable);
+
+            for (long sequence = firstSequence; sequence <= segment.lastSequence(); sequence++) {
+                index(sequence, segment.read(sequence).entry());
+            }
+            segments.put(firstSequence, segment);
+            records += segment.count();
+            nextSequence = segment.lastSequence() + 1;
+            if (writable) {
+                active = segment;
+            }
+        }
+
+        System.out.printf("🍇 GRAPES: Auditoria: %d registros em %d segmentos indexados em %d ms%n",
+                records, segments.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Group commit: um force() por intervalo, para todas as escritas dele
+     */
+    private void flushLoop() {
+        while (!closed) {
+            try {
+                Thread.sleep(flushMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            AuditSegment segment;
+            synchronized (this) {
+                if (!dirty) {
+                    continue;
+                }
+                dirty = false;
+                segment = active;
+            }
+            try {
+                // Fora do lock: quem grava não espera o disco
+                segment.force();
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    dirty = true;
+                }
+                System.out.println("🍇 GRAPES: Falha no force() da auditoria: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void prune(Map<UUID, Postings> index, long firstKept) {
+        index.values().removeIf(postings -> postings.removeBefore(firstKept));
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String fileName(long firstSequence) {
+        return String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX);
+    }
+
+    /**
+     * Sequências de uma chave do índice, em ordem crescente (sem boxing)
+     */
+    private static final class Postings {
+
+        private long[] sequences = new long[4];
+        private int size;
+
+        void add(long sequence) {
+            if (size == sequences.length) {
+                sequences = Arrays.copyOf(sequences, size * 2);
+            }
+            sequences[size++] = sequence;
+        }
+
+        /**
+         * Remove as sequências menores que firstKept
+         *
+         * @return true se não sobrou nenhuma
+         */
+        boolean removeBefore(long firstKept) {
+            int from = 0;
+            while (from < size && sequences[from] < firstKept) {
+                from++;
+            }
+            if (from > 0) {
+                sequences = Arrays.copyOfRange(sequences, from, Math.max(from + 4, size));
+                size -= from;
+            }
+            return size == 0;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.grapes.infrastructure.audit;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Registro do diário de auditoria, com o formato binário dele.
+ *
+ * 📚 FORMATO (93 bytes, tamanho fixo):
+ * sequence(8) | epochMillis(8) | action(1) | battleId(16) | actorId(16) |
+ * creatorId(16) | opponentId(16) | remainingCents(8) | crc32c(4)
+ *
+ * Tamanho fixo = o registro N de um segmento está em N * SIZE (sem índice
+ * de offsets). O CRC detecta o registro cortado por uma queda no meio da
+ * escrita: a leitura do segmento para nele.
+ */
+public record AuditRecord(long sequence, Instant at, AuditEntry entry) {
+
+    public static final int SIZE = 93;
+
+    private static final int CRC_OFFSET = SIZE - Integer.BYTES;
+    private static final long NO_AMOUNT = Long.MIN_VALUE;
+
+    /**
+     * Codifica o registro em out (SIZE bytes)
+     */
+    static void encode(long sequence, long epochMillis, AuditEntry entry, byte[] out) {
+        ByteBuffer buffer = ByteBuffer.wrap(out);
+        buffer.putLong(sequence);
+        buffer.putLong(epochMillis);
+        buffer.put((byte) entry.action().ordinal());
+        putUuid(buffer, entry.battleId());
+        putUuid(buffer, entry.actorId());
+        putUuid(buffer, entry.creatorId());
+        putUuid(buffer, entry.opponentId());
+        buffer.putLong(entry.remainingAmount() == null
+                ? NO_AMOUNT
+                : entry.remainingAmount().setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        buffer.putInt(crc(out));
+    }
+
+    /**
+     * Lê o registro na posição offset
+     *
+     * @return null se ali não há um registro íntegro com a sequência esperada
+     *         (fim dos dados ou escrita interrompida)
+     */
+    static AuditRecord decode(ByteBuffer source, int offset, long expectedSequence) {
+        byte[] bytes = new byte[SIZE];
+        source.get(offset, bytes);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        if (buffer.getInt(CRC_OFFSET) != crc(bytes) || buffer.getLong(0) != expectedSequence) {
+            return null;
+        }
+
+        long sequence = buffer.getLong();
+        long epochMillis = buffer.getLong();
+        AuditAction action = AuditAction.values()[buffer.get()];
+        UUID battleId = getUuid(buffer);
+        UUID actorId = getUuid(buffer);
+        UUID creatorId = getUuid(buffer);
+        UUID opponentId = getUuid(buffer);
+        long cents = buffer.getLong();
+        return new AuditRecord(sequence, Instant.ofEpochMilli(epochMillis), new AuditEntry(
+                action, battleId, actorId, creatorId, opponentId,
+                cents == NO_AMOUNT ? null : BigDecimal.valueOf(cents, 2)));
+    }
+
+    private static int crc(byte[] record) {
+        CRC32C crc = new CRC32C();
+        crc.update(record, 0, CRC_OFFSET);
+        return (int) crc.getValue();
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id != null ? id.getMostSignificantBits() : 0);
+        buffer.putLong(id != null ? id.getLeastSignificantBits() : 0);
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        long most = buffer.getLong();
+        long least = buffer.getLong();
+        return most == 0 && least == 0 ? null : new UUID(most, least);
+    }
+}
@@ -0,0 +1,184 @@
+package com.grapes.infrastructure.audit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Um arquivo do diário de auditoria, mapeado em memória.
+ *
+ * - O segmento ativo é criado já com o tamanho máximo e mapeado para
+ *   escrita: acrescentar um registro é copiar 93 bytes para a memória
+ *   (o kernel leva as páginas para o disco; force() espera por isso)
+ * - Cheio, ele é selado (force) e o diário abre o próximo
+ * - Selado, pode ser aparado: o arquivo encolhe para o que foi usado e
+ *   o mapeamento vira somente-leitura
+ *
+ * Não é thread-safe: o AuditJournal faz o controle de acesso.
+ */
+final class AuditSegment {
+
+    private final Path path;
+    private final long firstSequence;
+    private final int capacity;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int count;
+    private boolean sealed;
+
+    private AuditSegment(Path path, long firstSequence, int capacity) {
+        this.path = path;
+        this.firstSequence = firstSequence;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Cria um segmento novo, vazio, pronto para escrita
+     */
+    static AuditSegment create(Path path, long firstSequence, int capacity) {
+        AuditSegment segment = new AuditSegment(path, firstSequence, capacity);
+        segment.map(FileChannel.MapMode.READ_WRITE, (long) capacity * AuditRecord.SIZE,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return segment;
+    }
+
+    /**
+     * Abre um segmento existente e conta os registros íntegros.
+     *
+     * @param writable true = continua recebendo registros (último segmento
+     *                 do diário, ainda com o tamanho máximo)
+     */
+    static AuditSegment open(Path path, long firstSequence, int capacity, boolean writable) {
+        AuditSegment segment = new AuditSegment(path, firstSequence, capacity);
+        try {
+            long size = Files.size(path);
+            if (writable) {
+                segment.map(FileChannel.MapMode.READ_WRITE, (long) capacity * AuditRecord.SIZE,
+                        StandardOpenOption.READ, StandardOpenOption.WRITE);
+            } else {
+                segment.map(FileChannel.MapMode.READ_ONLY, size, StandardOpenOption.READ);
+                segment.sealed = true;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int max = segment.buffer.capacity() / AuditRecord.SIZE;
+        while (segment.count < max
+                && AuditRecord.decode(segment.buffer, segment.count * AuditRecord.SIZE, firstSequence + segment.count) != null) {
+            segment.count++;
+        }
+        return segment;
+    }
+
+    /**
+     * Sequência do último registro (firstSequence - 1 se vazio)
+     */
+    long lastSequence() {
+        return firstSequence + count - 1;
+    }
+
+    int count() {
+        return count;
+    }
+
+    boolean isFull() {
+        return sealed || count == capacity;
+    }
+
+    /**
+     * Acrescenta um registro já codificado (AuditRecord.SIZE bytes)
+     */
+    void append(byte[] record) {
+        buffer.put(count * AuditRecord.SIZE, record);
+        count++;
+    }
+
+    /**
+     * Registro com a sequência informada (null se não está neste segmento)
+     */
+    AuditRecord read(long sequence) {
+        if (sequence < firstSequence || sequence > lastSequence()) {
+            return null;
+        }
+        return AuditRecord.decode(buffer, (int) (sequence - firstSequence) * AuditRecord.SIZE, sequence);
+    }
+
+    /**
+     * Instante do último registro (em epoch millis; 0 se vazio)
+     */
+    long lastTimestamp() {
+        AuditRecord last = count == 0 ? null : read(lastSequence());
+        return last != null ? last.at().toEpochMilli() : 0;
+    }
+
+    /**
+     * Espera as páginas escritas chegarem ao disco
+     */
+    void force() {
+        if (!sealed) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * Fecha para escrita: o que foi escrito vai para o disco
+     */
+    void seal() {
+        force();
+        sealed = true;
+    }
+
+    /**
+     * Segmento selado: encolhe o arquivo para o que foi usado
+     *
+     * @return true se o arquivo encolheu
+     */
+    boolean trim() {
+        long used = (long) count * AuditRecord.SIZE;
+        try {
+            if (!sealed || channel.size() == used) {
+                return false;
+            }
+            channel.close();
+            try (FileChannel writer = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                writer.truncate(used);
+                writer.force(true);
+            }
+            map(FileChannel.MapMode.READ_ONLY, used, StandardOpenOption.READ);
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void delete() {
+        close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void map(FileChannel.MapMode mode, long size, StandardOpenOption... options) {
+        try {
+            channel = FileChannel.open(path, options);
+            buffer = channel.map(mode, 0, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
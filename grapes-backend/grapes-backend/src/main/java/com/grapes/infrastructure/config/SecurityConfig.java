@@ -16,6 +16,8 @@ import org.springframework.web.cors.CorsConfigurationSource;
 
 import com.grapes.infrastructure.security.SecurityFilter;
 
+import jakarta.servlet.DispatcherType;
+
 /**
  * Configuração de Segurança do Spring Security.
  * 
@@ -77,6 +79,9 @@ public class SecurityConfig {
                                                 // Login e cadastro de usuário são públicos
                                                 .requestMatchers(HttpMethod.POST, "/auth/**").permitAll()
 
+                                                // Dispatch assíncrono (SSE): a requisição original já foi autorizada
+                                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                                                 // H2 Console (apenas para desenvolvimento)
                                                 .requestMatchers("/h2-console/**").permitAll()
 
@@ -0,0 +1,116 @@
+package com.grapes.infrastructure.csv;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de CSV em streaming (RFC 4180): lê um registro por vez,
+ * sem carregar o arquivo inteiro.
+ *
+ * Suporta campos entre aspas (com vírgulas, aspas "" e quebras de linha
+ * dentro), finais de linha \n ou \r\n, e aceita ";" como separador
+ * (padrão do Excel em português) quando o cabeçalho usa ";".
+ */
+public class CsvReader implements AutoCloseable {
+
+    private static final char BOM = '\uFEFF';
+
+    private final BufferedReader reader;
+    private char separator = ',';
+    private long line = 0;
+    private long recordLine = 0;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 64 * 1024);
+    }
+
+    /**
+     * Lê o cabeçalho e detecta o separador ("," ou ";").
+     * O BOM do UTF-8 (arquivos salvos pelo Excel) é descartado.
+     *
+     * @return nomes das colunas, ou null se o arquivo estiver vazio
+     */
+    public List<String> readHeader() throws IOException {
+        reader.mark(64 * 1024);
+        String first = reader.readLine();
+        if (first == null) {
+            return null;
+        }
+        if (first.indexOf(';') >= 0 && first.indexOf(',') < 0) {
+            separator = ';';
+        }
+        reader.reset();
+        reader.mark(1);
+        if (reader.read() != BOM) {
+            reader.reset();
+        }
+        return readRecord();
+    }
+
+    /**
+     * Próximo registro, ou null no fim do arquivo
+     */
+    public List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        line++;
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (c != -1) {
+            char ch = (char) c;
+            if (quoted) {
+                if (ch == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    if (ch == '\n') {
+                        line++;
+                    }
+                    field.append(ch);
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == separator) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch != '\r') {
+                field.append(ch);
+            }
+            c = reader.read();
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Linha do arquivo onde começou o último registro lido (1 = cabeçalho)
+     */
+    public long recordLine() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
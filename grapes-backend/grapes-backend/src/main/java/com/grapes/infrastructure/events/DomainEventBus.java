@@ -0,0 +1,93 @@
+package com.grapes.infrastructure.events;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.grapes.domain.events.DomainEvent;
+import com.grapes.infrastructure.persistence.AfterCommit;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Barramento de eventos de domínio, dentro do processo.
+ *
+ * 📚 COMO FUNCIONA:
+ * - Os services chamam publish() dentro da transação; o evento só sai
+ *   depois do commit (rollback = nenhum handler fica sabendo)
+ * - Cada handler (bean DomainEventHandler) tem uma fila limitada
+ *   (grapes.events.queue-capacity) e uma virtual thread que a consome
+ * - Publicar é só enfileirar: o tempo da requisição não cresce com o
+ *   número de handlers nem com o que eles fazem
+ *
+ * 📚 BACK-PRESSURE E FALHAS:
+ * - Fila cheia → o handler decide (Overflow): descartar o evento ou
+ *   rodá-lo na thread de quem publicou (freia quem está produzindo demais)
+ * - Exceção num handler é contada e logada; os outros handlers e os
+ *   próximos eventos seguem normalmente
+ * - stats() expõe as métricas de cada handler; a cada grapes.events.report-ms
+ *   os handlers com falhas ou descartes novos vão para o log
+ */
+@Component
+public class DomainEventBus {
+
+    private final List<HandlerQueue> queues = new ArrayList<>();
+    private final Map<Class<? extends DomainEvent>, List<HandlerQueue>> routes = new HashMap<>();
+    private final Map<String, HandlerStats> lastReported = new HashMap<>();
+
+    public DomainEventBus(
+            List<DomainEventHandler> handlers,
+            @Value("${grapes.events.queue-capacity:10000}") int capacity
+    ) {
+        for (DomainEventHandler handler : handlers) {
+            HandlerQueue queue = new HandlerQueue(handler, capacity);
+            queues.add(queue);
+            handler.eventTypes().forEach(type -> routes.computeIfAbsent(type, t -> new ArrayList<>()).add(queue));
+            queue.start();
+        }
+    }
+
+    /**
+     * Publica o evento para os handlers APÓS o commit da transação atual
+     */
+    public void publish(DomainEvent event) {
+        List<HandlerQueue> targets = routes.getOrDefault(event.getClass(), List.of());
+        if (targets.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> targets.forEach(queue -> queue.offer(event)));
+    }
+
+    /**
+     * Métricas de cada handler
+     */
+    public List<HandlerStats> stats() {
+        return queues.stream().map(HandlerQueue::stats).toList();
+    }
+
+    /**
+     * Loga os handlers que falharam ou descartaram eventos desde o último relatório
+     */
+    @Scheduled(fixedDelayString = "${grapes.events.report-ms:60000}")
+    public synchronized void report() {
+        for (HandlerStats stats : stats()) {
+            HandlerStats last = lastReported.put(stats.handler(), stats);
+            long failed = stats.failed() - (last != null ? last.failed() : 0);
+            long dropped = stats.dropped() - (last != null ? last.dropped() : 0);
+            if (failed > 0 || dropped > 0) {
+                System.out.printf("🍇 GRAPES: Eventos [%s]: %d falhas, %d descartados, fila %d/%d, maior espera %d ms%n",
+                        stats.handler(), failed, dropped, stats.queued(), stats.capacity(), stats.maxLagMs());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        queues.forEach(HandlerQueue::stop);
+    }
+}
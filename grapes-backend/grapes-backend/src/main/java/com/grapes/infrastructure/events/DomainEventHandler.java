@@ -0,0 +1,39 @@
+package com.grapes.infrastructure.events;
+
+import java.util.Set;
+
+import com.grapes.domain.events.DomainEvent;
+
+/**
+ * Quem reage a eventos de domínio. Todo bean que implementa esta interface
+ * é registrado no DomainEventBus e ganha a sua própria fila e thread.
+ *
+ * O handler recebe os eventos um de cada vez, na ordem em que foram
+ * commitados (a não ser no modo RUN_INLINE com a fila cheia).
+ */
+public interface DomainEventHandler {
+
+    /**
+     * O que fazer quando a fila do handler está cheia
+     */
+    enum Overflow {
+        DROP,       // Descarta o evento (efeito que pode se perder: feed, caches)
+        RUN_INLINE  // Roda na thread de quem publicou (efeito que não pode se perder)
+    }
+
+    /**
+     * Nome nas métricas e nos logs
+     */
+    String name();
+
+    /**
+     * Tipos de evento que este handler recebe
+     */
+    Set<Class<? extends DomainEvent>> eventTypes();
+
+    void handle(DomainEvent event);
+
+    default Overflow overflow() {
+        return Overflow.DROP;
+    }
+}
@@ -0,0 +1,102 @@
+package com.grapes.infrastructure.events;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.grapes.domain.events.DomainEvent;
+
+/**
+ * Fila limitada + virtual thread de um handler.
+ *
+ * Cada handler tem a sua: um handler lento enche a própria fila e não
+ * atrasa os outros, e uma exceção num evento não derruba a thread.
+ */
+final class HandlerQueue {
+
+    private record Envelope(DomainEvent event, long enqueuedAt) {}
+
+    private final DomainEventHandler handler;
+    private final BlockingQueue<Envelope> queue;
+    private final int capacity;
+    private final AtomicLong handled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong inline = new AtomicLong();
+    private final AtomicLong maxLagNanos = new AtomicLong();
+    private volatile boolean closed;
+    private Thread worker;
+
+    HandlerQueue(DomainEventHandler handler, int capacity) {
+        this.handler = handler;
+        this.capacity = capacity;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    void start() {
+        worker = Thread.ofVirtual()
+                .name("events-" + handler.name())
+                .start(this::drain);
+    }
+
+    void stop() {
+        closed = true;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    /**
+     * Enfileira sem bloquear quem publicou. Fila cheia: descarta ou roda
+     * aqui mesmo, conforme o Overflow do handler.
+     */
+    void offer(DomainEvent event) {
+        if (queue.offer(new Envelope(event, System.nanoTime()))) {
+            return;
+        }
+        if (handler.overflow() == DomainEventHandler.Overflow.RUN_INLINE) {
+            inline.incrementAndGet();
+            run(event);
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    HandlerStats stats() {
+        return new HandlerStats(
+                handler.name(),
+                queue.size(),
+                capacity,
+                handled.get(),
+                failed.get(),
+                dropped.get(),
+                inline.get(),
+                TimeUnit.NANOSECONDS.toMillis(maxLagNanos.get()));
+    }
+
+    private void drain() {
+        while (!closed) {
+            Envelope envelope;
+            try {
+                envelope = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            long lag = System.nanoTime() - envelope.enqueuedAt();
+            maxLagNanos.accumulateAndGet(lag, Math::max);
+            run(envelope.event());
+        }
+    }
+
+    private void run(DomainEvent event) {
+        try {
+            handler.handle(event);
+            handled.incrementAndGet();
+        } catch (RuntimeException e) {
+            failed.incrementAndGet();
+            System.out.println("🍇 GRAPES: Handler " + handler.name() + " falhou em "
+                    + event.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+}
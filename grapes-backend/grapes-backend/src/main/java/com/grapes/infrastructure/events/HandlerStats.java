@@ -0,0 +1,19 @@
+package com.grapes.infrastructure.events;
+
+/**
+ * Métricas de um handler desde a inicialização
+ *
+ * @param queued   eventos esperando na fila agora
+ * @param inline   eventos que rodaram na thread de quem publicou (fila cheia)
+ * @param maxLagMs maior tempo que um evento esperou na fila
+ */
+public record HandlerStats(
+        String handler,
+        int queued,
+        int capacity,
+        long handled,
+        long failed,
+        long dropped,
+        long inline,
+        long maxLagMs
+) {}
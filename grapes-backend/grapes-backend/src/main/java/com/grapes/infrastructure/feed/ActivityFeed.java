@@ -0,0 +1,189 @@
+package com.grapes.infrastructure.feed;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Feed de atividades dos amigos, em memória.
+ *
+ * 📚 FAN-OUT NA ESCRITA:
+ * - Cada jogador com feed carregado tem um FeedRing (as N atividades mais
+ *   recentes dos amigos) e o conjunto de IDs dos amigos
+ * - Quando alguém faz algo, a atividade é empurrada (depois do commit)
+ *   para o ring de cada amigo com feed carregado. Quem não está carregado
+ *   monta o feed pelo banco na primeira leitura
+ * - Ler o feed é percorrer o ring: nada de banco
+ *
+ * 📚 CELEBRIDADES (FAN-OUT NA LEITURA):
+ * Quem tem grapes.feed.celebrity-threshold amigos ou mais não é empurrado
+ * para milhares de rings: as atividades dele ficam num ring só dele, e a
+ * leitura de cada amigo junta esse ring com o próprio.
+ *
+ * Páginas mais antigas que o que está em memória devolvem null
+ * (quem chamou busca no banco).
+ */
+@Component
+public class ActivityFeed {
+
+    private static final Comparator<FeedItem> NEWEST_FIRST = Comparator.comparingLong(FeedItem::id).reversed();
+
+    private final Map<UUID, Feed> feeds;
+    private final Map<UUID, FeedRing> celebrityRings = new ConcurrentHashMap<>();
+    private final int ringSize;
+    private final int celebrityThreshold;
+
+    public ActivityFeed(
+            @Value("${grapes.feed.max-players:10000}") int maxPlayers,
+            @Value("${grapes.feed.ring-size:200}") int ringSize,
+            @Value("${grapes.feed.celebrity-threshold:500}") int celebrityThreshold
+    ) {
+        this.ringSize = ringSize;
+        this.celebrityThreshold = celebrityThreshold;
+        this.feeds = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Feed> eldest) {
+                return size() > maxPlayers;
+            }
+        };
+    }
+
+    /**
+     * Feed de um jogador em memória: atividades recentes dos amigos e os
+     * amigos no momento do carregamento
+     */
+    public static final class Feed {
+
+        private final FeedRing ring;
+        private final Set<UUID> friendIds;
+        private volatile boolean ready;
+
+        private Feed(FeedRing ring, Set<UUID> friendIds) {
+            this.ring = ring;
+            this.friendIds = friendIds;
+        }
+
+        public Set<UUID> friendIds() {
+            return friendIds;
+        }
+    }
+
+    /**
+     * Distribui uma atividade que acabou de ser gravada (chame depois do commit)
+     *
+     * @param friendIds amigos do autor
+     */
+    public void fanOut(FeedItem item, Collection<UUID> friendIds) {
+        if (friendIds.size() >= celebrityThreshold || celebrityRings.containsKey(item.actorId())) {
+            celebrityRings.computeIfAbsent(item.actorId(), id -> new FeedRing(ringSize)).add(item);
+            return;
+        }
+
+        List<Feed> targets = new ArrayList<>(friendIds.size());
+        synchronized (feeds) {
+            for (UUID friendId : friendIds) {
+                Feed feed = feeds.get(friendId);
+                if (feed != null) {
+                    targets.add(feed);
+                }
+            }
+        }
+        targets.forEach(feed -> feed.ring.add(item));
+    }
+
+    /**
+     * Feed já carregado do jogador (null = precisa carregar)
+     */
+    public Feed get(UUID playerId) {
+        synchronized (feeds) {
+            return feeds.get(playerId);
+        }
+    }
+
+    /**
+     * Registra um feed vazio ANTES de ler o banco: atividades que chegarem
+     * enquanto ele carrega já entram no ring (sem buraco entre o banco e o fan-out)
+     *
+     * @return o feed registrado (ou o que outra thread registrou antes)
+     */
+    public Feed register(UUID playerId, Set<UUID> friendIds) {
+        synchronized (feeds) {
+            return feeds.computeIfAbsent(playerId, id -> new Feed(new FeedRing(ringSize), Set.copyOf(friendIds)));
+        }
+    }
+
+    /**
+     * Completa o feed com as atividades mais recentes lidas do banco
+     *
+     * @param recent até ringSize atividades, mais novas primeiro
+     */
+    public void fill(Feed feed, List<FeedItem> recent) {
+        recent.forEach(feed.ring::add);
+        if (recent.size() >= ringSize) {
+            feed.ring.markIncompleteBelow(recent.get(recent.size() - 1).id());
+        }
+        feed.ready = true;
+    }
+
+    /**
+     * Amizades mudaram: o feed é remontado na próxima leitura
+     */
+    public void evict(UUID playerId) {
+        synchronized (feeds) {
+            feeds.remove(playerId);
+        }
+    }
+
+    public int ringSize() {
+        return ringSize;
+    }
+
+    /**
+     * Página do feed só com a memória: ring do jogador + rings das
+     * celebridades que são amigas dele
+     *
+     * @return até limit atividades com id menor que beforeId, ou null se a
+     *         memória não cobre a página inteira (busque no banco)
+     */
+    public List<FeedItem> page(Feed feed, long beforeId, int limit) {
+        if (!feed.ready) {
+            return null;
+        }
+
+        List<FeedRing> sources = new ArrayList<>();
+        sources.add(feed.ring);
+        celebrityRings.forEach((actorId, ring) -> {
+            if (feed.friendIds.contains(actorId)) {
+                sources.add(ring);
+            }
+        });
+
+        List<FeedItem> merged = new ArrayList<>();
+        for (FeedRing source : sources) {
+            merged.addAll(source.page(beforeId, limit));
+        }
+        List<FeedItem> page = merged.stream()
+                .sorted(NEWEST_FIRST)
+                .distinct()
+                .limit(limit)
+                .toList();
+
+        // A página só é confiável se nenhuma fonte perdeu algo dentro dela
+        long floor = page.size() == limit ? page.get(page.size() - 1).id() : 0;
+        for (FeedRing source : sources) {
+            if (source.evictedUpTo() > 0 && source.evictedUpTo() >= floor) {
+                return null;
+            }
+        }
+        return page;
+    }
+}
@@ -0,0 +1,32 @@
+package com.grapes.infrastructure.feed;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.grapes.domain.model.ActivityEvent;
+import com.grapes.domain.model.ActivityType;
+
+/**
+ * Atividade como fica guardada no feed em memória (imutável, compartilhada
+ * entre os feeds de todos os amigos do autor)
+ */
+public record FeedItem(
+        long id,
+        UUID actorId,
+        String actorNickname,
+        ActivityType type,
+        String counterpartNickname,
+        int value,
+        LocalDateTime createdAt
+) {
+    public static FeedItem from(ActivityEvent event) {
+        return new FeedItem(
+                event.getId(),
+                event.getActorId(),
+                event.getActorNickname(),
+                event.getType(),
+                event.getCounterpartNickname(),
+                event.getValue(),
+                event.getCreatedAt());
+    }
+}
@@ -0,0 +1,101 @@
+package com.grapes.infrastructure.feed;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Buffer circular de tamanho fixo com as atividades mais recentes,
+ * em ordem de id.
+ *
+ * 📚 COMO FUNCIONA:
+ * - Cheio: a atividade mais antiga sai para a nova entrar
+ * - As atividades chegam quase sempre em ordem (id crescente): a inserção
+ *   é no fim, O(1). Fora de ordem (commits que terminam trocados), ela
+ *   desliza até a posição certa
+ * - evictedUpTo guarda o maior id que já saiu (ou nunca entrou): páginas
+ *   abaixo dele não estão completas aqui e precisam ir ao banco
+ *
+ * Thread-safe (métodos sincronizados).
+ */
+public final class FeedRing {
+
+    private final FeedItem[] items;
+    private int head;
+    private int size;
+    private long evictedUpTo;
+
+    public FeedRing(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity >= 1");
+        }
+        this.items = new FeedItem[capacity];
+    }
+
+    public synchronized void add(FeedItem item) {
+        // Posição na ordem de id, procurando a partir do fim
+        int position = size;
+        while (position > 0 && get(position - 1).id() > item.id()) {
+            position--;
+        }
+        if (position > 0 && get(position - 1).id() == item.id()) {
+            return;     // Já está aqui (ex: chegou pelo banco e pelo fan-out)
+        }
+
+        if (size == items.length) {
+            if (position == 0) {
+                // Mais antiga que tudo num buffer cheio: não entra
+                evictedUpTo = Math.max(evictedUpTo, item.id());
+                return;
+            }
+            evictedUpTo = Math.max(evictedUpTo, get(0).id());
+            items[head] = null;
+            head = (head + 1) % items.length;
+            size--;
+            position--;
+        }
+
+        for (int i = size; i > position; i--) {
+            set(i, get(i - 1));
+        }
+        set(position, item);
+        size++;
+    }
+
+    /**
+     * Marca que tudo abaixo de id pode estar faltando (ex: o banco devolveu
+     * só as N mais recentes ao montar o feed)
+     */
+    public synchronized void markIncompleteBelow(long id) {
+        evictedUpTo = Math.max(evictedUpTo, id - 1);
+    }
+
+    /**
+     * Até limit atividades com id menor que beforeId, mais novas primeiro
+     */
+    public synchronized List<FeedItem> page(long beforeId, int limit) {
+        List<FeedItem> page = new ArrayList<>(Math.min(limit, size));
+        for (int i = size - 1; i >= 0 && page.size() < limit; i--) {
+            FeedItem item = get(i);
+            if (item.id() < beforeId) {
+                page.add(item);
+            }
+        }
+        return page;
+    }
+
+    public synchronized long evictedUpTo() {
+        return evictedUpTo;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private FeedItem get(int index) {
+        return items[(head + index) % items.length];
+    }
+
+    private void set(int index, FeedItem item) {
+        items[(head + index) % items.length] = item;
+    }
+}
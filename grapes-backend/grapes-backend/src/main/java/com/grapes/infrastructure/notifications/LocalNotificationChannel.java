@@ -0,0 +1,49 @@
+package com.grapes.infrastructure.notifications;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.grapes.domain.model.OutboxMessage;
+
+/**
+ * Canal local (desenvolvimento e testes): imprime no console e guarda
+ * as últimas mensagens entregues em memória.
+ */
+@Component
+public class LocalNotificationChannel implements NotificationChannel {
+
+    private final Deque<OutboxMessage> delivered = new ArrayDeque<>();
+    private final int capacity;
+
+    public LocalNotificationChannel(@Value("${grapes.outbox.local-channel.capacity:1000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public void deliver(UUID recipientId, List<OutboxMessage> messages) {
+        synchronized (delivered) {
+            for (OutboxMessage message : messages) {
+                if (delivered.size() == capacity) {
+                    delivered.removeFirst();
+                }
+                delivered.addLast(message);
+            }
+        }
+        System.out.println("🍇 GRAPES: 🔔 " + messages.size() + " notificações para " + recipientId);
+    }
+
+    /**
+     * Últimas mensagens entregues (da mais antiga para a mais nova)
+     */
+    public List<OutboxMessage> recent() {
+        synchronized (delivered) {
+            return new ArrayList<>(delivered);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.grapes.infrastructure.notifications;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.grapes.domain.model.OutboxMessage;
+
+/**
+ * Canal de entrega das notificações do outbox (push, e-mail, webhook...).
+ *
+ * 📚 CONTRATO:
+ * - Recebe as mensagens de UM destinatário, na ordem em que foram gravadas
+ * - Lançar exceção = o lote inteiro volta para a fila (com backoff)
+ * - A entrega é "pelo menos uma vez": se a aplicação cair entre a entrega
+ *   e a marcação, a mensagem sai de novo. Use dedupKey para descartar repetidas
+ *
+ * Para trocar o canal, basta registrar outro bean que implemente esta interface
+ * no lugar do LocalNotificationChannel.
+ */
+public interface NotificationChannel {
+
+    void deliver(UUID recipientId, List<OutboxMessage> messages);
+}
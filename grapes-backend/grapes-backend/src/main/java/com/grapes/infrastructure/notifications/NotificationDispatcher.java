@@ -0,0 +1,172 @@
+package com.grapes.infrastructure.notifications;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.grapes.domain.model.OutboxMessage;
+import com.grapes.infrastructure.persistence.OutboxMessageRepository;
+
+/**
+ * Esvazia o outbox de notificações em segundo plano.
+ *
+ * 📚 COMO FUNCIONA:
+ * - A cada execução lê até grapes.outbox.batch-size mensagens prontas
+ *   (não entregues, fora do backoff), na ordem em que foram gravadas
+ * - Agrupa por destinatário e entrega cada grupo numa virtual thread
+ *   (destinatários diferentes em paralelo, o mesmo destinatário em ordem)
+ * - Nenhuma conexão com o banco fica presa durante a entrega: ler,
+ *   entregar e marcar são três passos separados
+ * - Grupo entregue → dispatchedAt. Grupo que falhou → attempts + 1 e
+ *   nextAttemptAt = agora + backoff exponencial (até grapes.outbox.max-backoff-ms)
+ * - Depois de grapes.outbox.max-attempts falhas a mensagem é abandonada
+ *   (fica na tabela com lastError, para análise)
+ *
+ * 📚 ORDEM POR DESTINATÁRIO:
+ * Se uma mensagem de um destinatário está esperando o backoff, as seguintes
+ * dele também esperam (a consulta já as deixa de fora): nunca entregamos
+ * a 2ª antes da 1ª.
+ */
+@Component
+public class NotificationDispatcher {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final NotificationChannel channel;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${grapes.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${grapes.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${grapes.outbox.base-backoff-ms:1000}")
+    private long baseBackoffMs;
+
+    @Value("${grapes.outbox.max-backoff-ms:600000}")
+    private long maxBackoffMs;
+
+    @Value("${grapes.outbox.retention-days:7}")
+    private long retentionDays;
+
+    public NotificationDispatcher(
+            OutboxMessageRepository outboxMessageRepository,
+            NotificationChannel channel,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.channel = channel;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Job agendado: entrega tudo que estiver pronto
+     */
+    @Scheduled(fixedDelayString = "${grapes.outbox.poll-ms:1000}")
+    public void dispatchPending() {
+        int read;
+        do {
+            read = dispatchBatch();
+        } while (read == batchSize);
+    }
+
+    /**
+     * Remove as mensagens entregues há mais de grapes.outbox.retention-days
+     */
+    @Scheduled(cron = "${grapes.outbox.purge-cron:0 0 4 * * *}")
+    public void purgeDispatched() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        Integer removed = transactionTemplate.execute(status -> outboxMessageRepository.deleteDispatchedBefore(cutoff));
+        System.out.println("🍇 GRAPES: Outbox: " + removed + " notificações entregues removidas");
+    }
+
+    /**
+     * Um lote: ler → entregar por destinatário → marcar
+     *
+     * @return quantas mensagens foram lidas
+     */
+    private int dispatchBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> ready = readOnlyTransaction.execute(status ->
+                outboxMessageRepository.findReady(now, maxAttempts, Limit.of(batchSize)));
+        if (ready.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, List<OutboxMessage>> byRecipient = new LinkedHashMap<>();
+        ready.forEach(m -> byRecipient.computeIfAbsent(m.getRecipientId(), id -> new ArrayList<>()).add(m));
+
+        Map<UUID, Future<?>> deliveries = new LinkedHashMap<>();
+        byRecipient.forEach((recipientId, messages) ->
+                deliveries.put(recipientId, executor.submit(() -> channel.deliver(recipientId, messages))));
+
+        Set<UUID> delivered = new HashSet<>();
+        Map<UUID, String> failed = new LinkedHashMap<>();
+        deliveries.forEach((recipientId, delivery) -> {
+            List<OutboxMessage> messages = byRecipient.get(recipientId);
+            try {
+                delivery.get();
+                messages.forEach(m -> delivered.add(m.getId()));
+            } catch (ExecutionException e) {
+                failed.put(recipientId, String.valueOf(e.getCause().getMessage()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed.put(recipientId, "Interrompido");
+            }
+        });
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!delivered.isEmpty()) {
+                outboxMessageRepository.markDispatched(delivered, LocalDateTime.now());
+            }
+            failed.forEach((recipientId, error) -> {
+                // O backoff vale para o grupo inteiro, pela mensagem mais antiga (a que mais falhou)
+                List<OutboxMessage> messages = byRecipient.get(recipientId);
+                int attempts = messages.get(0).getAttempts() + 1;
+                outboxMessageRepository.markFailed(
+                        messages.stream().map(OutboxMessage::getId).toList(),
+                        LocalDateTime.now().plus(backoffMillis(attempts), ChronoUnit.MILLIS),
+                        truncate(error));
+            });
+        });
+
+        if (!failed.isEmpty()) {
+            System.out.println("🍇 GRAPES: Outbox: " + delivered.size() + " entregues, "
+                    + failed.size() + " destinatários com falha (nova tentativa com backoff)");
+        }
+        return ready.size();
+    }
+
+    /**
+     * base * 2^(tentativas - 1), limitado a max-backoff-ms
+     */
+    private long backoffMillis(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        return Math.min(maxBackoffMs, baseBackoffMs << shift);
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= 1000 ? error : error.substring(0, 1000);
+    }
+}
@@ -0,0 +1,76 @@
+package com.grapes.infrastructure.notifications;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.grapes.domain.model.Notification;
+import com.grapes.domain.model.NotificationType;
+import com.grapes.domain.model.OutboxMessage;
+import com.grapes.infrastructure.persistence.NotificationRepository;
+import com.grapes.infrastructure.persistence.OutboxMessageRepository;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Porta de entrada das notificações: grava na transação ATUAL a mensagem
+ * do outbox (para entrega) e a notificação na caixa de entrada do jogador.
+ *
+ * 📚 POR QUE NÃO ENVIAR NA HORA?
+ * Enviar dentro da requisição somaria a latência (e as falhas) do canal
+ * de entrega a cada escrita. Aqui são só mais INSERTs no mesmo commit,
+ * que o Hibernate manda junto com os outros no flush; quem entrega é
+ * o NotificationDispatcher, em segundo plano. O badge de não lidas
+ * sobe depois do commit (UnreadCounters).
+ */
+@Component
+public class NotificationOutbox {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final NotificationRepository notificationRepository;
+    private final UnreadCounters unreadCounters;
+    private final ObjectMapper objectMapper;
+
+    public NotificationOutbox(
+            OutboxMessageRepository outboxMessageRepository,
+            NotificationRepository notificationRepository,
+            UnreadCounters unreadCounters,
+            ObjectMapper objectMapper
+    ) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.notificationRepository = notificationRepository;
+        this.unreadCounters = unreadCounters;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Grava uma notificação (o payload vira JSON)
+     */
+    public void enqueue(NotificationType type, UUID recipientId, Object payload, String dedupKey) {
+        enqueueAll(List.of(message(type, recipientId, payload, dedupKey)));
+    }
+
+    /**
+     * Grava várias notificações de uma vez (INSERTs em lote)
+     */
+    public void enqueueAll(List<OutboxMessage> messages) {
+        outboxMessageRepository.saveAll(messages);
+        notificationRepository.saveAll(messages.stream()
+                .map(m -> new Notification(m.getType(), m.getRecipientId(), m.getPayload()))
+                .toList());
+
+        Map<UUID, Long> unread = new HashMap<>();
+        messages.forEach(m -> unread.merge(m.getRecipientId(), 1L, Long::sum));
+        unreadCounters.adjustAfterCommit(unread);
+    }
+
+    /**
+     * Monta a mensagem sem gravar (para juntar várias num enqueueAll)
+     */
+    public OutboxMessage message(NotificationType type, UUID recipientId, Object payload, String dedupKey) {
+        return new OutboxMessage(type, recipientId, objectMapper.writeValueAsString(payload), dedupKey);
+    }
+}
@@ -0,0 +1,132 @@
+package com.grapes.infrastructure.notifications;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.grapes.infrastructure.persistence.AfterCommit;
+import com.grapes.infrastructure.persistence.NotificationRepository;
+
+/**
+ * Contadores de notificações não lidas (o "badge"), em memória.
+ *
+ * 📚 COMO FUNCIONA:
+ * - Primeira leitura de um jogador: um COUNT no banco; daí em diante o
+ *   valor fica em memória (LRU de grapes.notifications.counter-cache-size)
+ * - Notificação nova: +1; marcar como lida: -1 (ou -N no "ler todas").
+ *   Os ajustes são aplicados só depois do commit
+ * - Um job periódico reconcilia os contadores em memória com o banco
+ *   (um GROUP BY por bloco de jogadores), corrigindo qualquer desvio
+ *   (ex: ajuste perdido numa corrida com a própria reconciliação)
+ *
+ * Ler o badge não toca no banco.
+ */
+@Component
+public class UnreadCounters {
+
+    private static final int RECONCILE_CHUNK = 1000;
+
+    private final NotificationRepository notificationRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<UUID, Long> counters;
+
+    public UnreadCounters(
+            NotificationRepository notificationRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${grapes.notifications.counter-cache-size:100000}") int cacheSize
+    ) {
+        this.notificationRepository = notificationRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.counters = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Long> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Não lidas do jogador (da memória; COUNT só na primeira vez)
+     */
+    public long get(UUID playerId) {
+        synchronized (counters) {
+            Long cached = counters.get(playerId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        long counted = readOnlyTransaction.execute(status -> notificationRepository.countUnread(playerId));
+        synchronized (counters) {
+            // Outra leitura pode ter gravado primeiro: fica o valor dela. Um ajuste
+            // que chegou durante o COUNT foi descartado (computeIfPresent) e o
+            // COUNT pode não ter visto o commit dele: o badge pode ficar defasado
+            // até a próxima reconciliação (reconcile-ms, 5 min por padrão)
+            return counters.computeIfAbsent(playerId, id -> counted);
+        }
+    }
+
+    /**
+     * Soma os deltas depois do commit. Jogador fora do cache é ignorado:
+     * o COUNT da próxima leitura já vai incluir a mudança.
+     */
+    public void adjustAfterCommit(Map<UUID, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            synchronized (counters) {
+                deltas.forEach((playerId, delta) ->
+                        counters.computeIfPresent(playerId, (id, current) -> Math.max(0, current + delta)));
+            }
+        });
+    }
+
+    public void adjustAfterCommit(UUID playerId, long delta) {
+        adjustAfterCommit(Map.of(playerId, delta));
+    }
+
+    /**
+     * Job agendado: recalcula no banco os contadores em memória
+     */
+    @Scheduled(fixedDelayString = "${grapes.notifications.reconcile-ms:300000}")
+    public void reconcile() {
+        List<UUID> cached;
+        synchronized (counters) {
+            cached = new ArrayList<>(counters.keySet());
+        }
+
+        int corrected = 0;
+        for (int from = 0; from < cached.size(); from += RECONCILE_CHUNK) {
+            List<UUID> chunk = cached.subList(from, Math.min(from + RECONCILE_CHUNK, cached.size()));
+            Map<UUID, Long> actual = new HashMap<>();
+            readOnlyTransaction.executeWithoutResult(status ->
+                    notificationRepository.countUnreadByRecipients(chunk)
+                            .forEach(row -> actual.put((UUID) row[0], (Long) row[1])));
+
+            synchronized (counters) {
+                for (UUID playerId : chunk) {
+                    long count = actual.getOrDefault(playerId, 0L);
+                    // replace: quem saiu do cache nesse meio tempo continua fora
+                    Long previous = counters.replace(playerId, count);
+                    if (previous != null && previous != count) {
+                        corrected++;
+                    }
+                }
+            }
+        }
+
+        if (corrected > 0) {
+            System.out.println("🍇 GRAPES: Reconciliação do badge: " + corrected + " contadores corrigidos de " + cached.size());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.grapes.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.grapes.domain.model.ActivityEvent;
+
+@Repository
+public interface ActivityEventRepository extends JpaRepository<ActivityEvent, Long> {
+
+    /**
+     * Atividades dos autores com id menor que o cursor, mais novas primeiro
+     * (feed montado na leitura: remontagem do feed em memória e páginas antigas)
+     */
+    @Query("SELECT e FROM ActivityEvent e WHERE e.actorId IN :actorIds AND e.id < :beforeId ORDER BY e.id DESC")
+    List<ActivityEvent> findByActors(
+            @Param("actorIds") Collection<UUID> actorIds,
+            @Param("beforeId") long beforeId,
+            Limit limit);
+}
@@ -0,0 +1,33 @@
+package com.grapes.infrastructure.persistence;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utilitário para adiar efeitos colaterais até o COMMIT da transação atual.
+ *
+ * 📚 POR QUE ISSO EXISTE?
+ * Notificar outro jogador ANTES do commit é perigoso: se a transação
+ * sofrer rollback, o cliente recebe um evento de algo que nunca existiu.
+ *
+ * - Com transação ativa: a ação roda só depois do commit
+ * - Sem transação ativa: a ação roda imediatamente
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
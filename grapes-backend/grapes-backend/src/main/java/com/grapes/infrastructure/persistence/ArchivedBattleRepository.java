@@ -0,0 +1,52 @@
+package com.grapes.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.grapes.domain.model.ArchivedBattle;
+import com.grapes.domain.model.Player;
+
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface ArchivedBattleRepository extends JpaRepository<ArchivedBattle, UUID> {
+
+    /**
+     * Histórico arquivado do player, do pagamento mais recente ao mais antigo
+     */
+    @Query("SELECT a FROM ArchivedBattle a WHERE a.creator = :player OR a.opponent = :player ORDER BY a.paidAt DESC")
+    List<ArchivedBattle> findByPlayer(@Param("player") Player player, Pageable pageable);
+
+    /**
+     * Histórico arquivado do player como STREAM (para exportação)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a FROM ArchivedBattle a JOIN FETCH a.creator LEFT JOIN FETCH a.opponent " +
+           "WHERE a.creator = :player OR a.opponent = :player ORDER BY a.createdAt")
+    Stream<ArchivedBattle> streamByPlayer(@Param("player") Player player);
+
+    /**
+     * Copia as batalhas PAGAS informadas para o arquivo em um único INSERT ... SELECT
+     * (as linhas não passam pela aplicação)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO battles_archive (id, creator_id, opponent_id, external_name, creator_is_creditor, " +
+                   "amount, category_id, description, created_at, paid_at, archived_at) " +
+                   "SELECT id, creator_id, opponent_id, external_name, creator_is_creditor, " +
+                   "amount, category_id, description, created_at, paid_at, :archivedAt " +
+                   "FROM battles WHERE id IN (:ids) AND status = 'PAID'",
+           nativeQuery = true)
+    int copyFromBattles(@Param("ids") Collection<UUID> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
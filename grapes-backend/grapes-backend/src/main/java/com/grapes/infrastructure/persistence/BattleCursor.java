@@ -0,0 +1,42 @@
+package com.grapes.infrastructure.persistence;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.grapes.domain.model.Battle;
+
+/**
+ * Cursor da paginação por keyset: a última batalha da página anterior.
+ *
+ * Vai para o cliente como texto opaco (Base64 de "createdAt|id");
+ * a próxima página começa logo depois dele na ordem createdAt DESC, id DESC.
+ */
+public record BattleCursor(LocalDateTime createdAt, UUID battleId) {
+
+    public static BattleCursor of(Battle battle) {
+        return new BattleCursor(battle.getCreatedAt(), battle.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + battleId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException se o cursor não foi gerado por encode()
+     */
+    public static BattleCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new BattleCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Cursor inválido");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.grapes.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Projeção de uma batalha pendente entre dois jogadores do sistema:
+ * só o necessário para calcular saldos (quem deve, para quem, quanto).
+ * O valor é o saldo restante: pagamentos parciais já foram abatidos.
+ */
+public record BattleDebt(
+        UUID battleId,
+        UUID creatorId,
+        UUID opponentId,
+        boolean creatorIsCreditor,
+        BigDecimal remainingAmount
+) {
+    public UUID debtorId() {
+        return creatorIsCreditor ? opponentId : creatorId;
+    }
+
+    public UUID creditorId() {
+        return creatorIsCreditor ? creatorId : opponentId;
+    }
+
+    public BattleParties parties() {
+        return new BattleParties(battleId, creatorId, opponentId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.grapes.infrastructure.persistence;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.grapes.domain.model.Battle;
+
+/**
+ * Projeção leve de uma batalha: só o ID e os jogadores envolvidos.
+ *
+ * Usada pelas operações em massa, que não carregam a entidade Battle inteira.
+ */
+public record BattleParties(
+        UUID battleId,
+        UUID creatorId,
+        UUID opponentId     // null se for batalha com pessoa externa
+) {
+    public static BattleParties of(Battle battle) {
+        return new BattleParties(
+                battle.getId(),
+                battle.getCreator().getId(),
+                battle.getOpponent() != null ? battle.getOpponent().getId() : null);
+    }
+
+    /**
+     * Jogadores do sistema envolvidos (1 ou 2)
+     */
+    public List<UUID> playerIds() {
+        return opponentId != null ? List.of(creatorId, opponentId) : List.of(creatorId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.grapes.infrastructure.persistence;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.grapes.domain.model.BattlePayment;
+
+@Repository
+public interface BattlePaymentRepository extends JpaRepository<BattlePayment, UUID> {
+
+    /**
+     * Pagamentos de uma batalha, do mais antigo ao mais recente
+     */
+    List<BattlePayment> findByBattleIdOrderByPaidAtAsc(UUID battleId);
+
+    /**
+     * A batalha já recebeu algum pagamento?
+     */
+    boolean existsByBattleId(UUID battleId);
+}
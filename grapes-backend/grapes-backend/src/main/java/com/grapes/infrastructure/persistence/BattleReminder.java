@@ -0,0 +1,20 @@
+package com.grapes.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Projeção com o necessário para montar o lembrete de vencimento
+ * (sem carregar a entidade Battle)
+ */
+public record BattleReminder(
+        UUID battleId,
+        UUID creatorId,
+        String creatorNickname,
+        UUID opponentId,            // null se for batalha com pessoa externa
+        String opponentName,        // Nickname do oponente ou nome externo
+        boolean creatorIsCreditor,
+        BigDecimal remainingAmount,
+        LocalDate dueDate
+) {}
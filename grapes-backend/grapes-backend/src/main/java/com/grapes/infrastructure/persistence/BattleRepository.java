@@ -1,18 +1,36 @@
 package com.grapes.infrastructure.persistence;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.BattleStatus;
+import com.grapes.domain.model.Category;
 import com.grapes.domain.model.Player;
 
+import jakarta.persistence.QueryHint;
+
+/**
+ * Consultas fixas com @Query; filtros combináveis com Specifications
+ * (ver BattleSpecifications).
+ */
 @Repository
-public interface BattleRepository extends JpaRepository<Battle, UUID> {
+public interface BattleRepository extends JpaRepository<Battle, UUID>, JpaSpecificationExecutor<Battle> {
 
     /**
      * Busca todas as batalhas onde o player está envolvido (como criador ou oponente)
@@ -20,6 +38,24 @@ public interface BattleRepository extends JpaRepository<Battle, UUID> {
     @Query("SELECT b FROM Battle b WHERE b.creator = :player OR b.opponent = :player ORDER BY b.createdAt DESC")
     List<Battle> findByPlayer(@Param("player") Player player);
 
+    /**
+     * Todas as batalhas do player com criador e oponente já carregados
+     * (montagem do índice de busca, sem N+1)
+     */
+    @Query("SELECT b FROM Battle b JOIN FETCH b.creator LEFT JOIN FETCH b.opponent " +
+           "WHERE b.creator = :player OR b.opponent = :player")
+    List<Battle> findByPlayerWithParties(@Param("player") Player player);
+
+    /**
+     * Todas as batalhas do player como STREAM (para exportação).
+     * O JDBC traz as linhas aos poucos (fetch size), sem montar uma lista inteira.
+     * Deve ser consumido dentro de uma transação e fechado no final.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT b FROM Battle b JOIN FETCH b.creator LEFT JOIN FETCH b.opponent " +
+           "WHERE b.creator = :player OR b.opponent = :player ORDER BY b.createdAt")
+    Stream<Battle> streamByPlayer(@Param("player") Player player);
+
     /**
      * Busca batalhas pendentes do player
      */
@@ -30,11 +66,247 @@ public interface BattleRepository extends JpaRepository<Battle, UUID> {
      * Busca batalhas por categoria
      */
     @Query("SELECT b FROM Battle b WHERE (b.creator = :player OR b.opponent = :player) AND b.category = :category ORDER BY b.createdAt DESC")
-    List<Battle> findByPlayerAndCategory(@Param("player") Player player, @Param("category") String category);
+    List<Battle> findByPlayerAndCategory(@Param("player") Player player, @Param("category") Category category);
 
     /**
      * Conta batalhas pendentes do player
      */
     @Query("SELECT COUNT(b) FROM Battle b WHERE (b.creator = :player OR b.opponent = :player) AND b.status = 'PENDING'")
     long countPendingByPlayer(@Param("player") Player player);
+
+    // ========== OPERAÇÕES EM MASSA ==========
+    // Os filtros são opcionais: filterIds = false ignora :ids,
+    // counterpartyId/categoryId null ignoram o respectivo filtro.
+
+    /**
+     * Batalhas PENDENTES do player que batem com os filtros (para quitar em massa)
+     */
+    @Query("SELECT new com.grapes.infrastructure.persistence.BattleParties(b.id, c.id, o.id) " +
+           "FROM Battle b JOIN b.creator c LEFT JOIN b.opponent o " +
+           "WHERE (c.id = :playerId OR o.id = :playerId) AND b.status = 'PENDING' " +
+           "AND (:filterIds = false OR b.id IN :ids) " +
+           "AND (:counterpartyId IS NULL OR c.id = :counterpartyId OR o.id = :counterpartyId) " +
+           "AND (:categoryId IS NULL OR b.category.id = :categoryId)")
+    List<BattleParties> findPayable(
+            @Param("playerId") UUID playerId,
+            @Param("filterIds") boolean filterIds,
+            @Param("ids") Collection<UUID> ids,
+            @Param("counterpartyId") UUID counterpartyId,
+            @Param("categoryId") Integer categoryId);
+
+    /**
+     * Batalhas CRIADAS pelo player, sem pagamentos, que batem com os filtros (para remover em massa)
+     */
+    @Query("SELECT new com.grapes.infrastructure.persistence.BattleParties(b.id, c.id, o.id) " +
+           "FROM Battle b JOIN b.creator c LEFT JOIN b.opponent o " +
+           "WHERE c.id = :playerId " +
+           "AND NOT EXISTS (SELECT p.id FROM BattlePayment p WHERE p.battleId = b.id) " +
+           "AND (:filterIds = false OR b.id IN :ids) " +
+           "AND (:counterpartyId IS NULL OR o.id = :counterpartyId) " +
+           "AND (:categoryId IS NULL OR b.category.id = :categoryId)")
+    List<BattleParties> findDeletable(
+            @Param("playerId") UUID playerId,
+            @Param("filterIds") boolean filterIds,
+            @Param("ids") Collection<UUID> ids,
+            @Param("counterpartyId") UUID counterpartyId,
+            @Param("categoryId") Integer categoryId);
+
+    /**
+     * Quita várias batalhas em um único UPDATE.
+     * A autorização (player envolvido) e o status estão no próprio WHERE.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Battle b SET b.status = com.grapes.domain.model.BattleStatus.PAID, b.paidAt = :paidAt, " +
+           "b.remainingAmount = 0, b.version = b.version + 1 " +
+           "WHERE b.id IN :ids AND b.status = com.grapes.domain.model.BattleStatus.PENDING " +
+           "AND (b.creator = :player OR b.opponent = :player)")
+    int markAllAsPaid(@Param("ids") Collection<UUID> ids, @Param("player") Player player, @Param("paidAt") LocalDateTime paidAt);
+
+    /**
+     * Quita UMA batalha só se ela ainda estiver pendente.
+     * Duas requisições simultâneas: a segunda atualiza 0 linhas.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Battle b SET b.status = com.grapes.domain.model.BattleStatus.PAID, b.paidAt = :paidAt, " +
+           "b.remainingAmount = 0, b.version = b.version + 1 " +
+           "WHERE b.id = :id AND b.status = com.grapes.domain.model.BattleStatus.PENDING")
+    int markPaidIfPending(@Param("id") UUID id, @Param("paidAt") LocalDateTime paidAt);
+
+    /**
+     * IDs (dentre os informados) quitados exatamente no instante informado
+     */
+    @Query("SELECT b.id FROM Battle b WHERE b.id IN :ids AND b.paidAt = :paidAt")
+    List<UUID> findIdsPaidAt(@Param("ids") Collection<UUID> ids, @Param("paidAt") LocalDateTime paidAt);
+
+    /**
+     * Remove várias batalhas em um único DELETE (apenas as criadas pelo player
+     * e que ainda não receberam pagamentos)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Battle b WHERE b.id IN :ids AND b.creator = :player " +
+           "AND NOT EXISTS (SELECT p.id FROM BattlePayment p WHERE p.battleId = b.id)")
+    int deleteAllCreatedBy(@Param("ids") Collection<UUID> ids, @Param("player") Player player);
+
+    /**
+     * Categoria de cada batalha informada: (battleId, categoryId)
+     */
+    @Query("SELECT b.id, b.category.id FROM Battle b WHERE b.id IN :ids")
+    List<Object[]> findCategoryIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * IDs (dentre os informados) que ainda existem
+     */
+    @Query("SELECT b.id FROM Battle b WHERE b.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    // ========== ACERTO DE CONTAS EM GRUPO ==========
+
+    /**
+     * Batalhas PENDENTES do player com outros membros do grupo
+     * (batalhas entre dois amigos dele ficam de fora: não são dele para acertar)
+     */
+    @Query("SELECT new com.grapes.infrastructure.persistence.BattleDebt(b.id, c.id, o.id, b.creatorIsCreditor, b.remainingAmount) " +
+           "FROM Battle b JOIN b.creator c JOIN b.opponent o " +
+           "WHERE (c.id = :playerId OR o.id = :playerId) " +
+           "AND c.id IN :playerIds AND o.id IN :playerIds AND b.status = 'PENDING'")
+    List<BattleDebt> findPendingAmong(@Param("playerId") UUID playerId, @Param("playerIds") Collection<UUID> playerIds);
+
+    /**
+     * Quita as batalhas do plano de acerto em um único UPDATE
+     * (só as do player: batalha de terceiros não conta nas linhas afetadas)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Battle b SET b.status = com.grapes.domain.model.BattleStatus.PAID, b.paidAt = :paidAt, " +
+           "b.remainingAmount = 0, b.version = b.version + 1 " +
+           "WHERE b.id IN :ids AND b.status = com.grapes.domain.model.BattleStatus.PENDING " +
+           "AND (b.creator = :player OR b.opponent = :player)")
+    int settleAll(@Param("ids") Collection<UUID> ids, @Param("player") Player player, @Param("paidAt") LocalDateTime paidAt);
+
+    // ========== PAGAMENTOS PARCIAIS ==========
+
+    /**
+     * Abate um pagamento do saldo em um único UPDATE atômico.
+     * Se o saldo chegar a zero, a batalha vira PAID no mesmo comando.
+     *
+     * Retorna 0 se a batalha não está pendente ou se o valor passa do saldo
+     * (as expressões do SET usam os valores de ANTES do UPDATE).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Battle b SET " +
+           "b.remainingAmount = b.remainingAmount - :amount, " +
+           "b.status = CASE WHEN b.remainingAmount = :amount " +
+           "THEN com.grapes.domain.model.BattleStatus.PAID ELSE com.grapes.domain.model.BattleStatus.PENDING END, " +
+           "b.paidAt = CASE WHEN b.remainingAmount = :amount THEN :paidAt ELSE b.paidAt END, " +
+           "b.version = b.version + 1 " +
+           "WHERE b.id = :id AND b.status = com.grapes.domain.model.BattleStatus.PENDING " +
+           "AND b.remainingAmount >= :amount")
+    int applyPayment(@Param("id") UUID id, @Param("amount") BigDecimal amount, @Param("paidAt") LocalDateTime paidAt);
+
+    // ========== LEMBRETES DE VENCIMENTO ==========
+
+    /**
+     * Lembretes ainda não emitidos (batalhas pendentes com vencimento): (id, dueDate).
+     * Lido uma vez na inicialização para montar a roda de tempo.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT b.id, b.dueDate FROM Battle b WHERE b.status = com.grapes.domain.model.BattleStatus.PENDING " +
+           "AND b.reminderSentAt IS NULL AND b.dueDate IS NOT NULL")
+    Stream<Object[]> streamUnsentReminders();
+
+    /**
+     * Marca o lembrete como emitido, só nas batalhas ainda pendentes e sem lembrete.
+     * Duas instâncias (ou um reinício) disparando o mesmo lembrete: a segunda atualiza 0 linhas.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Battle b SET b.reminderSentAt = :sentAt, b.version = b.version + 1 " +
+           "WHERE b.id IN :ids AND b.status = com.grapes.domain.model.BattleStatus.PENDING " +
+           "AND b.reminderSentAt IS NULL AND b.dueDate IS NOT NULL AND b.dueDate <= :today")
+    int markReminded(@Param("ids") Collection<UUID> ids, @Param("today") LocalDate today, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Dados dos lembretes marcados exatamente no instante informado
+     * (ou seja, os que ESTE markReminded emitiu)
+     */
+    @Query("SELECT new com.grapes.infrastructure.persistence.BattleReminder(" +
+           "b.id, c.id, c.nickname, o.id, COALESCE(o.nickname, b.externalName), b.creatorIsCreditor, b.remainingAmount, b.dueDate) " +
+           "FROM Battle b JOIN b.creator c LEFT JOIN b.opponent o " +
+           "WHERE b.id IN :ids AND b.reminderSentAt = :sentAt")
+    List<BattleReminder> findRemindedAt(@Param("ids") Collection<UUID> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    // ========== RELATÓRIO DE ENVELHECIMENTO ==========
+
+    /**
+     * Saldo pendente do player por contraparte, em faixas de idade, numa
+     * única passada SQL (sem carregar entidades).
+     *
+     * 📚 COMO FUNCIONA:
+     * - O UNION ALL lê os dois lados (criador / oponente), cada um no seu
+     *   índice (jogador, status, created_at), e já calcula o valor com sinal:
+     *   positivo = a contraparte me deve, negativo = eu devo
+     * - A idade conta a partir do vencimento (dueDate) ou, sem vencimento,
+     *   da criação; batalha que ainda não venceu cai na faixa 0-30
+     * - O GROUP BY soma cada faixa com CASE (0-30, 31-60, 61-90, 90+ dias)
+     * - SUM(SUM(...)) OVER () repete em toda linha o total geral da faixa
+     *
+     * Colunas: counterparty_id, counterparty_name, battles, oldest,
+     * d0_30, d31_60, d61_90, d90_plus, total,
+     * all_0_30, all_31_60, all_61_90, all_90_plus, all_total
+     *
+     * @param cut30 início do dia de 30 dias atrás (idade <= 30 dias: aged_from >= cut30)
+     */
+    @Query(value = "SELECT t.counterparty_id, t.counterparty_name, COUNT(*) AS battles, MIN(t.aged_from) AS oldest, " +
+                   "SUM(CASE WHEN t.aged_from >= :cut30 THEN t.signed ELSE 0 END) AS d0_30, " +
+                   "SUM(CASE WHEN t.aged_from < :cut30 AND t.aged_from >= :cut60 THEN t.signed ELSE 0 END) AS d31_60, " +
+                   "SUM(CASE WHEN t.aged_from < :cut60 AND t.aged_from >= :cut90 THEN t.signed ELSE 0 END) AS d61_90, " +
+                   "SUM(CASE WHEN t.aged_from < :cut90 THEN t.signed ELSE 0 END) AS d90_plus, " +
+                   "SUM(t.signed) AS total, " +
+                   "SUM(SUM(CASE WHEN t.aged_from >= :cut30 THEN t.signed ELSE 0 END)) OVER () AS all_0_30, " +
+                   "SUM(SUM(CASE WHEN t.aged_from < :cut30 AND t.aged_from >= :cut60 THEN t.signed ELSE 0 END)) OVER () AS all_31_60, " +
+                   "SUM(SUM(CASE WHEN t.aged_from < :cut60 AND t.aged_from >= :cut90 THEN t.signed ELSE 0 END)) OVER () AS all_61_90, " +
+                   "SUM(SUM(CASE WHEN t.aged_from < :cut90 THEN t.signed ELSE 0 END)) OVER () AS all_90_plus, " +
+                   "SUM(SUM(t.signed)) OVER () AS all_total " +
+                   "FROM (" +
+                   "  SELECT b.opponent_id AS counterparty_id, COALESCE(o.nickname, b.external_name) AS counterparty_name, " +
+                   "  CASE WHEN b.creator_is_creditor THEN b.remaining_amount ELSE -b.remaining_amount END AS signed, " +
+                   "  COALESCE(CAST(b.due_date AS TIMESTAMP), b.created_at) AS aged_from " +
+                   "  FROM battles b LEFT JOIN players o ON o.id = b.opponent_id " +
+                   "  WHERE b.creator_id = :playerId AND b.status = 'PENDING' " +
+                   "  UNION ALL " +
+                   "  SELECT b.creator_id, c.nickname, " +
+                   "  CASE WHEN b.creator_is_creditor THEN -b.remaining_amount ELSE b.remaining_amount END, " +
+                   "  COALESCE(CAST(b.due_date AS TIMESTAMP), b.created_at) " +
+                   "  FROM battles b JOIN players c ON c.id = b.creator_id " +
+                   "  WHERE b.opponent_id = :playerId AND b.status = 'PENDING'" +
+                   ") t " +
+                   "GROUP BY t.counterparty_id, t.counterparty_name " +
+                   "ORDER BY MIN(t.aged_from), t.counterparty_name",
+           nativeQuery = true)
+    List<Object[]> agingByCounterparty(
+            @Param("playerId") UUID playerId,
+            @Param("cut30") LocalDateTime cut30,
+            @Param("cut60") LocalDateTime cut60,
+            @Param("cut90") LocalDateTime cut90);
+
+    // ========== ARQUIVAMENTO ==========
+
+    /**
+     * Próximo lote de batalhas pagas antes do corte (as mais antigas primeiro)
+     */
+    @Query("SELECT new com.grapes.infrastructure.persistence.BattleParties(b.id, c.id, o.id) " +
+           "FROM Battle b JOIN b.creator c LEFT JOIN b.opponent o " +
+           "WHERE b.status = com.grapes.domain.model.BattleStatus.PAID AND b.paidAt < :cutoff " +
+           "ORDER BY b.paidAt")
+    List<BattleParties> findArchivable(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    /**
+     * Remove da tabela principal as batalhas já copiadas para o arquivo
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Battle b WHERE b.id IN :ids AND b.status = com.grapes.domain.model.BattleStatus.PAID")
+    int deleteArchived(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Contagem por status (usada para medir a tabela quente)
+     */
+    long countByStatus(BattleStatus status);
 }
@@ -0,0 +1,101 @@
+package com.grapes.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.BattleStatus;
+
+import jakarta.persistence.criteria.JoinType;
+
+/**
+ * Filtros de batalha como Specifications (Criteria API), para combinar à vontade.
+ *
+ * 📚 POR QUE "LADO"?
+ * "creator = :player OR opponent = :player" não usa bem nenhum índice.
+ * Então cada consulta roda duas vezes, uma por lado (criador / oponente),
+ * cada uma com o seu índice composto, e o service junta os resultados.
+ *
+ * Todas as consultas ordenam por createdAt DESC, id DESC (KEYSET_ORDER),
+ * a mesma ordem dos índices: a paginação por cursor não precisa de OFFSET.
+ */
+public final class BattleSpecifications {
+
+    public static final Sort KEYSET_ORDER = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    private BattleSpecifications() {
+    }
+
+    /**
+     * Batalhas criadas pelo player
+     */
+    public static Specification<Battle> createdBy(UUID playerId) {
+        return (root, query, cb) -> cb.equal(root.get("creator").get("id"), playerId);
+    }
+
+    /**
+     * Batalhas em que o player é o oponente
+     */
+    public static Specification<Battle> opponentIs(UUID playerId) {
+        return (root, query, cb) -> cb.equal(root.get("opponent").get("id"), playerId);
+    }
+
+    public static Specification<Battle> hasStatus(BattleStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Battle> hasCategory(Integer categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    /**
+     * createdAt >= from (inclusive)
+     */
+    public static Specification<Battle> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    /**
+     * createdAt < to (exclusive)
+     */
+    public static Specification<Battle> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("createdAt"), to);
+    }
+
+    public static Specification<Battle> amountAtLeast(BigDecimal min) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("amount"), min);
+    }
+
+    public static Specification<Battle> amountAtMost(BigDecimal max) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("amount"), max);
+    }
+
+    /**
+     * Keyset: batalhas que vêm DEPOIS do cursor na ordem (createdAt DESC, id DESC)
+     */
+    public static Specification<Battle> after(BattleCursor cursor) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                cb.and(
+                        cb.equal(root.get("createdAt"), cursor.createdAt()),
+                        cb.lessThan(root.get("id"), cursor.battleId())));
+    }
+
+    /**
+     * Carrega criador, oponente e categoria no mesmo SELECT (sem N+1)
+     */
+    public static Specification<Battle> fetchDetails() {
+        return (root, query, cb) -> {
+            if (Battle.class.equals(query.getResultType())) {
+                root.fetch("creator");
+                root.fetch("opponent", JoinType.LEFT);
+                root.fetch("category");
+            }
+            return cb.conjunction();
+        };
+    }
+}
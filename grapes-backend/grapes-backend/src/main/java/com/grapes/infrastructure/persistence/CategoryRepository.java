@@ -0,0 +1,14 @@
+package com.grapes.infrastructure.persistence;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.grapes.domain.model.Category;
+
+@Repository
+public interface CategoryRepository extends JpaRepository<Category, Integer> {
+
+    Optional<Category> findByNormalizedName(String normalizedName);
+}
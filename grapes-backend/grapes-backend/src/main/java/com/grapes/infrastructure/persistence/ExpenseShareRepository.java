@@ -0,0 +1,41 @@
+package com.grapes.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.grapes.domain.model.ExpenseShare;
+import com.grapes.domain.model.GroupExpense;
+
+@Repository
+public interface ExpenseShareRepository extends JpaRepository<ExpenseShare, UUID> {
+
+    /**
+     * Partes de uma despesa, na ordem da divisão
+     */
+    List<ExpenseShare> findByExpenseOrderByPositionAsc(GroupExpense expense);
+
+    /**
+     * Resumo das despesas calculado direto nas partes (COUNT/SUM por status),
+     * sem carregar nenhuma ExpenseShare
+     */
+    @Query("SELECT new com.grapes.infrastructure.persistence.ShareAggregate(s.expense.id, s.status, COUNT(s), SUM(s.amount)) " +
+           "FROM ExpenseShare s WHERE s.expense.id IN :expenseIds GROUP BY s.expense.id, s.status")
+    List<ShareAggregate> aggregateByExpense(@Param("expenseIds") Collection<UUID> expenseIds);
+
+    /**
+     * Quita UMA parte só se ela ainda estiver pendente.
+     * Duas requisições simultâneas: a segunda atualiza 0 linhas.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ExpenseShare s SET s.status = com.grapes.domain.model.ShareStatus.PAID, s.paidAt = :paidAt " +
+           "WHERE s.id = :id AND s.status = com.grapes.domain.model.ShareStatus.PENDING")
+    int markPaidIfPending(@Param("id") UUID id, @Param("paidAt") LocalDateTime paidAt);
+}
@@ -1,10 +1,12 @@
 package com.grapes.infrastructure.persistence;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,6 +23,14 @@ public interface FriendshipRepository extends JpaRepository<Friendship, UUID> {
     @Query("SELECT f FROM Friendship f WHERE (f.requester = :player OR f.addressee = :player) AND f.status = 'ACCEPTED'")
     List<Friendship> findAcceptedFriendships(@Param("player") Player player);
 
+    /**
+     * IDs dos amigos do player (sem carregar Friendship nem Player)
+     */
+    @Query("SELECT CASE WHEN f.requester.id = :playerId THEN f.addressee.id ELSE f.requester.id END " +
+           "FROM Friendship f WHERE (f.requester.id = :playerId OR f.addressee.id = :playerId) " +
+           "AND f.status = com.grapes.domain.model.FriendshipStatus.ACCEPTED")
+    List<UUID> findFriendIds(@Param("playerId") UUID playerId);
+
     /**
      * Busca convites de amizade pendentes recebidos pelo player
      */
@@ -49,4 +59,22 @@ public interface FriendshipRepository extends JpaRepository<Friendship, UUID> {
            "(f.requester = :player2 AND f.addressee = :player1)) " +
            "AND f.status = 'ACCEPTED'")
     boolean areFriends(@Param("player1") Player player1, @Param("player2") Player player2);
+
+    // ========== TRANSIÇÕES CONDICIONAIS ==========
+    // Só o destinatário responde, e só enquanto o convite está PENDING:
+    // duas respostas simultâneas → a segunda atualiza 0 linhas.
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Friendship f SET f.status = com.grapes.domain.model.FriendshipStatus.ACCEPTED, " +
+           "f.acceptedAt = :acceptedAt, f.version = f.version + 1 " +
+           "WHERE f.id = :id AND f.addressee = :addressee " +
+           "AND f.status = com.grapes.domain.model.FriendshipStatus.PENDING")
+    int acceptIfPending(@Param("id") UUID id, @Param("addressee") Player addressee, @Param("acceptedAt") LocalDateTime acceptedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Friendship f SET f.status = com.grapes.domain.model.FriendshipStatus.REJECTED, " +
+           "f.version = f.version + 1 " +
+           "WHERE f.id = :id AND f.addressee = :addressee " +
+           "AND f.status = com.grapes.domain.model.FriendshipStatus.PENDING")
+    int rejectIfPending(@Param("id") UUID id, @Param("addressee") Player addressee);
 }
@@ -0,0 +1,24 @@
+package com.grapes.infrastructure.persistence;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.grapes.domain.model.GroupExpense;
+import com.grapes.domain.model.Player;
+
+@Repository
+public interface GroupExpenseRepository extends JpaRepository<GroupExpense, UUID> {
+
+    /**
+     * Busca despesas em grupo que o player criou ou das quais participa
+     */
+    @Query("SELECT e FROM GroupExpense e WHERE e.creator = :player " +
+           "OR e.id IN (SELECT s.expense.id FROM ExpenseShare s WHERE s.participant = :player) " +
+           "ORDER BY e.createdAt DESC")
+    List<GroupExpense> findByPlayer(@Param("player") Player player);
+}
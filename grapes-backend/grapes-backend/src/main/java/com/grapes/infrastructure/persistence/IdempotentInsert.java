@@ -0,0 +1,54 @@
+package com.grapes.infrastructure.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+
+import org.hibernate.Session;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Utilitário para criar uma linha que outra transação pode estar criando
+ * ao mesmo tempo (contadores, versões), sem derrubar a transação atual.
+ *
+ * 📚 COMO FUNCIONA:
+ * - O INSERT roda dentro de um savepoint da transação atual
+ * - Violação da chave única = a linha já existe (criada pela outra
+ *   transação): volta só até o savepoint e segue normalmente
+ * - Vai direto no JDBC: a falha esperada não passa pelo Hibernate, que
+ *   marcaria a transação inteira para rollback
+ *
+ * Quem chama faz em seguida o UPDATE da linha, que espera o commit da
+ * outra transação se ela ainda estiver aberta.
+ */
+public final class IdempotentInsert {
+
+    /** SQLState padrão de violação de chave única */
+    private static final String DUPLICATE_KEY = "23505";
+
+    private IdempotentInsert() {
+    }
+
+    /**
+     * @param sql    INSERT com parâmetros posicionais (?)
+     * @param params valores dos parâmetros, na ordem
+     */
+    public static void execute(EntityManager entityManager, String sql, Object... params) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement insert = connection.prepareStatement(sql)) {
+                for (int i = 0; i < params.length; i++) {
+                    insert.setObject(i + 1, params[i]);
+                }
+                insert.executeUpdate();
+                connection.releaseSavepoint(savepoint);
+            } catch (SQLException e) {
+                connection.rollback(savepoint);
+                if (!DUPLICATE_KEY.equals(e.getSQLState())) {
+                    throw e;
+                }
+            }
+        });
+    }
+}
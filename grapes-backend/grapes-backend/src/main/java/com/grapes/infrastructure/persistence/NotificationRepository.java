@@ -0,0 +1,48 @@
+package com.grapes.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.grapes.domain.model.Notification;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    /**
+     * Página da caixa de entrada: notificações com id menor que o cursor, mais novas primeiro
+     */
+    @Query("SELECT n FROM Notification n WHERE n.recipientId = :recipientId AND n.id < :beforeId ORDER BY n.id DESC")
+    List<Notification> findPage(@Param("recipientId") UUID recipientId, @Param("beforeId") long beforeId, Limit limit);
+
+    /**
+     * Não lidas de um jogador (só na primeira leitura do contador, depois ele é incremental)
+     */
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.recipientId = :recipientId AND n.readAt IS NULL")
+    long countUnread(@Param("recipientId") UUID recipientId);
+
+    /**
+     * Não lidas de vários jogadores de uma vez (reconciliação): (recipientId, count).
+     * Quem não tem nenhuma não aparece.
+     */
+    @Query("SELECT n.recipientId, COUNT(n) FROM Notification n " +
+           "WHERE n.recipientId IN :recipientIds AND n.readAt IS NULL GROUP BY n.recipientId")
+    List<Object[]> countUnreadByRecipients(@Param("recipientIds") Collection<UUID> recipientIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.readAt = :now " +
+           "WHERE n.id = :id AND n.recipientId = :recipientId AND n.readAt IS NULL")
+    int markRead(@Param("id") long id, @Param("recipientId") UUID recipientId, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.readAt = :now WHERE n.recipientId = :recipientId AND n.readAt IS NULL")
+    int markAllRead(@Param("recipientId") UUID recipientId, @Param("now") LocalDateTime now);
+}
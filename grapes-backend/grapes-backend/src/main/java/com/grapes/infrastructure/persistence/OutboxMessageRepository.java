@@ -0,0 +1,47 @@
+package com.grapes.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.grapes.domain.model.OutboxMessage;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, UUID> {
+
+    /**
+     * Mensagens prontas para entrega, na ordem em que foram gravadas.
+     * Destinatário com alguma mensagem esperando o backoff fica de fora
+     * inteiro: as mensagens seguintes dele não passam na frente.
+     */
+    @Query("SELECT m FROM OutboxMessage m WHERE m.dispatchedAt IS NULL AND m.attempts < :maxAttempts " +
+           "AND m.nextAttemptAt <= :now AND NOT EXISTS (" +
+           "  SELECT 1 FROM OutboxMessage w WHERE w.recipientId = m.recipientId AND w.dispatchedAt IS NULL " +
+           "  AND w.attempts < :maxAttempts AND w.nextAttemptAt > :now) " +
+           "ORDER BY m.createdAt, m.id")
+    List<OutboxMessage> findReady(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts, Limit limit);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxMessage m SET m.dispatchedAt = :now WHERE m.id IN :ids AND m.dispatchedAt IS NULL")
+    int markDispatched(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxMessage m SET m.attempts = m.attempts + 1, m.nextAttemptAt = :retryAt, m.lastError = :error " +
+           "WHERE m.id IN :ids AND m.dispatchedAt IS NULL")
+    int markFailed(@Param("ids") Collection<UUID> ids, @Param("retryAt") LocalDateTime retryAt, @Param("error") String error);
+
+    /**
+     * Limpeza das mensagens já entregues
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxMessage m WHERE m.dispatchedAt < :cutoff")
+    int deleteDispatchedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,46 @@
+package com.grapes.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.grapes.domain.model.PlayerCategoryStat;
+
+@Repository
+public interface PlayerCategoryStatRepository extends JpaRepository<PlayerCategoryStat, UUID> {
+
+    /**
+     * Categorias usadas pelo player, das mais usadas para as menos
+     */
+    @Query("SELECT s FROM PlayerCategoryStat s WHERE s.playerId = :playerId AND s.battleCount > 0 " +
+           "ORDER BY s.battleCount DESC, s.lastUsedAt DESC")
+    List<PlayerCategoryStat> findUsedByPlayer(@Param("playerId") UUID playerId);
+
+    /**
+     * Soma o mesmo valor nos contadores de várias categorias do player (um único UPDATE atômico).
+     * Com delta positivo, também atualiza lastUsedAt.
+     * Categorias que ainda não têm linha não são afetadas.
+     */
+    @Modifying
+    @Query("UPDATE PlayerCategoryStat s SET s.battleCount = s.battleCount + :delta, " +
+           "s.lastUsedAt = CASE WHEN :delta > 0 THEN :now ELSE s.lastUsedAt END " +
+           "WHERE s.playerId = :playerId AND s.categoryId IN :categoryIds")
+    int incrementAll(
+            @Param("playerId") UUID playerId,
+            @Param("categoryIds") Collection<Integer> categoryIds,
+            @Param("delta") long delta,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Categorias (dentre as informadas) que já têm linha para o player
+     */
+    @Query("SELECT s.categoryId FROM PlayerCategoryStat s WHERE s.playerId = :playerId AND s.categoryId IN :categoryIds")
+    List<Integer> findExistingCategoryIds(@Param("playerId") UUID playerId, @Param("categoryIds") Collection<Integer> categoryIds);
+}
@@ -1,5 +1,7 @@
 package com.grapes.infrastructure.persistence;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -17,6 +19,11 @@ public interface PlayerRepository extends JpaRepository<Player, UUID> {
 
     Optional<Player> findByNickname(String nickname);
 
+    /**
+     * Busca vários players pelo nickname em uma única consulta (IN)
+     */
+    List<Player> findByNicknameIn(Collection<String> nicknames);
+
     /**
      * Busca Player pelo email do User associado.
      * Spring Data JPA resolve automaticamente: player.user.email
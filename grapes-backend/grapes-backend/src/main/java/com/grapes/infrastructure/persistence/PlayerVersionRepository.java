@@ -0,0 +1,38 @@
+package com.grapes.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.grapes.domain.model.PlayerVersion;
+
+@Repository
+public interface PlayerVersionRepository extends JpaRepository<PlayerVersion, UUID> {
+
+    /**
+     * Incrementa a versão do player (UPDATE atômico que trava a linha até o commit).
+     * Retorna 0 se o player ainda não tem linha de versão.
+     */
+    @Modifying
+    @Query("UPDATE PlayerVersion v SET v.version = v.version + :delta WHERE v.playerId = :playerId")
+    int increment(@Param("playerId") UUID playerId, @Param("delta") long delta);
+
+    /**
+     * Lê as versões atuais (playerId, version) direto do banco
+     */
+    @Query("SELECT v.playerId, v.version FROM PlayerVersion v WHERE v.playerId IN :playerIds")
+    List<Object[]> findVersions(@Param("playerIds") Collection<UUID> playerIds);
+
+    /**
+     * Lê a versão atual direto do banco (sem passar pelo cache da sessão)
+     */
+    @Query("SELECT v.version FROM PlayerVersion v WHERE v.playerId = :playerId")
+    Optional<Long> findVersion(@Param("playerId") UUID playerId);
+}
@@ -0,0 +1,34 @@
+package com.grapes.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.RecurringBattle;
+
+@Repository
+public interface RecurringBattleRepository extends JpaRepository<RecurringBattle, UUID> {
+
+    /**
+     * Modelos ativos com ocorrência vencida, da mais antiga para a mais nova.
+     * Lê só o começo do índice (active, next_run_at): o custo depende de
+     * quantos venceram, não de quantos modelos existem.
+     */
+    @Query("SELECT r FROM RecurringBattle r JOIN FETCH r.creator JOIN FETCH r.category LEFT JOIN FETCH r.opponent " +
+           "WHERE r.active = true AND r.nextRunAt <= :now ORDER BY r.nextRunAt")
+    List<RecurringBattle> findDue(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * Modelos ativos do player (criados por ele ou com ele de oponente)
+     */
+    @Query("SELECT r FROM RecurringBattle r JOIN FETCH r.creator JOIN FETCH r.category LEFT JOIN FETCH r.opponent " +
+           "WHERE r.active = true AND (r.creator = :player OR r.opponent = :player) ORDER BY r.nextRunAt")
+    List<RecurringBattle> findActiveByPlayer(@Param("player") Player player);
+}
@@ -0,0 +1,16 @@
+package com.grapes.infrastructure.persistence;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import com.grapes.domain.model.ShareStatus;
+
+/**
+ * Agregado das partes de uma despesa por status (resultado de GROUP BY).
+ */
+public record ShareAggregate(
+        UUID expenseId,
+        ShareStatus status,
+        Long shares,        // Quantidade de partes nesse status
+        BigDecimal amount   // Soma dos valores dessas partes
+) {}
@@ -0,0 +1,19 @@
+package com.grapes.infrastructure.persistence;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.grapes.domain.model.SyncChange;
+
+@Repository
+public interface SyncChangeRepository extends JpaRepository<SyncChange, UUID> {
+
+    /**
+     * Busca as mudanças do player depois de uma versão (usa o índice player_id, version)
+     */
+    List<SyncChange> findByPlayerIdAndVersionGreaterThanOrderByVersionAsc(UUID playerId, long version, Limit limit);
+}
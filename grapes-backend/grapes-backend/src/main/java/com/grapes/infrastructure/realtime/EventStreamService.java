@@ -0,0 +1,105 @@
+package com.grapes.infrastructure.realtime;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.grapes.infrastructure.persistence.AfterCommit;
+
+/**
+ * Service que mantém as conexões SSE abertas e distribui eventos.
+ *
+ * 📚 FLUXO:
+ * 1. Cliente abre GET /events/stream → subscribe() registra a conexão
+ * 2. BattleService/FriendshipService chamam publishAfterCommit()
+ * 3. Após o commit, o evento vai para o buffer de cada conexão do jogador
+ * 4. A virtual thread da conexão escreve o evento no socket
+ *
+ * Um heartbeat periódico mantém proxies/load balancers sem derrubar
+ * conexões ociosas e detecta sockets mortos.
+ */
+@Service
+public class EventStreamService {
+
+    private final Map<UUID, Set<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Value("${grapes.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${grapes.sse.buffer-size:64}")
+    private int bufferSize;
+
+    /**
+     * Abre uma nova conexão SSE para o jogador.
+     */
+    public SseEmitter subscribe(UUID playerId) {
+        SseConnection connection = new SseConnection(playerId, timeoutMs, bufferSize);
+
+        connections.computeIfAbsent(playerId, id -> ConcurrentHashMap.newKeySet()).add(connection);
+        connection.start(() -> unregister(connection));
+
+        // Primeiro evento: confirma a conexão para o cliente
+        connection.offer(SseEmitter.event().comment("connected"));
+        return connection.getEmitter();
+    }
+
+    /**
+     * Publica um evento para os jogadores APÓS o commit da transação atual.
+     * Se a transação fizer rollback, nada é enviado.
+     */
+    public void publishAfterCommit(StreamEventType type, UUID entityId, String actorNickname, Collection<UUID> playerIds) {
+        StreamEvent event = new StreamEvent(type, entityId, actorNickname, LocalDateTime.now().toString());
+        AfterCommit.run(() -> playerIds.forEach(playerId -> publish(playerId, event)));
+    }
+
+    /**
+     * Envia um evento para todas as conexões abertas do jogador.
+     */
+    public void publish(UUID playerId, StreamEvent event) {
+        Set<SseConnection> playerConnections = connections.get(playerId);
+        if (playerConnections == null) {
+            return;
+        }
+
+        // O builder acumula estado ao ser serializado: um por conexão
+        String id = Long.toString(sequence.incrementAndGet());
+        playerConnections.forEach(connection -> connection.offer(SseEmitter.event()
+                .id(id)
+                .name(event.type().name())
+                .data(event, MediaType.APPLICATION_JSON)));
+    }
+
+    /**
+     * Heartbeat: um comentário SSE (": ping") para todas as conexões.
+     */
+    @Scheduled(fixedRateString = "${grapes.sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        connections.values().forEach(playerConnections ->
+                playerConnections.forEach(connection -> connection.offer(SseEmitter.event().comment("ping"))));
+    }
+
+    /**
+     * Quantidade de conexões abertas (útil para monitoramento).
+     */
+    public int openConnections() {
+        return connections.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void unregister(SseConnection connection) {
+        connections.computeIfPresent(connection.getPlayerId(), (id, playerConnections) -> {
+            playerConnections.remove(connection);
+            return playerConnections.isEmpty() ? null : playerConnections;
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package com.grapes.infrastructure.realtime;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Uma conexão SSE aberta por um jogador.
+ *
+ * 📚 COMO FUNCIONA:
+ * - Cada conexão tem um buffer LIMITADO de eventos
+ * - Uma virtual thread fica bloqueada no buffer e escreve no socket
+ * - Conexão ociosa = virtual thread estacionada (custa poucos bytes)
+ *
+ * Se o cliente for lento e o buffer encher, a conexão é encerrada.
+ * O cliente reconecta e se atualiza, em vez de segurar memória no servidor.
+ */
+class SseConnection {
+
+    private final UUID playerId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+    private volatile boolean closed = false;
+    private Thread writer;
+
+    SseConnection(UUID playerId, long timeoutMs, int bufferSize) {
+        this.playerId = playerId;
+        this.emitter = new SseEmitter(timeoutMs);
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    /**
+     * Inicia a virtual thread de escrita.
+     *
+     * @param onClose chamado uma única vez quando a conexão termina
+     */
+    void start(Runnable onClose) {
+        emitter.onCompletion(() -> terminate(onClose));
+        emitter.onTimeout(() -> terminate(onClose));
+        emitter.onError(e -> terminate(onClose));
+
+        writer = Thread.ofVirtual()
+                .name("sse-" + playerId)
+                .start(() -> drain(onClose));
+    }
+
+    /**
+     * Enfileira um evento sem bloquear quem publicou.
+     *
+     * @return false se a conexão foi encerrada (fechada ou buffer cheio)
+     */
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        if (closed) {
+            return false;
+        }
+        if (!buffer.offer(event)) {
+            // Cliente lento: encerra em vez de crescer sem limite
+            emitter.complete();
+            return false;
+        }
+        return true;
+    }
+
+    UUID getPlayerId() {
+        return playerId;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    private void drain(Runnable onClose) {
+        try {
+            while (!closed) {
+                SseEmitter.SseEventBuilder event = buffer.take();
+                emitter.send(event);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // Socket fechado pelo cliente
+            emitter.completeWithError(e);
+        } finally {
+            terminate(onClose);
+        }
+    }
+
+    private synchronized void terminate(Runnable onClose) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        buffer.clear();
+        if (writer != null && writer != Thread.currentThread()) {
+            writer.interrupt();
+        }
+        onClose.run();
+    }
+}
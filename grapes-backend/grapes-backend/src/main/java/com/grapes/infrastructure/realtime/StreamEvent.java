@@ -0,0 +1,16 @@
+package com.grapes.infrastructure.realtime;
+
+import java.util.UUID;
+
+/**
+ * Payload de um evento SSE.
+ *
+ * Leve de propósito: carrega apenas o ID da entidade e quem agiu.
+ * O cliente decide se busca os detalhes (ex: GET /battles).
+ */
+public record StreamEvent(
+        StreamEventType type,
+        UUID entityId,          // ID da batalha ou da amizade
+        String actorNickname,   // Quem causou o evento
+        String occurredAt
+) {}
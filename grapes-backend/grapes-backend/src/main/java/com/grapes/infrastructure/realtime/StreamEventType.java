@@ -0,0 +1,13 @@
+package com.grapes.infrastructure.realtime;
+
+/**
+ * Tipos de evento enviados pelo stream SSE (/events/stream).
+ */
+public enum StreamEventType {
+    BATTLE_CREATED,           // Nova batalha envolvendo o jogador
+    BATTLE_PAID,              // Batalha marcada como paga
+    BATTLE_PAYMENT_RECEIVED,  // Pagamento parcial registrado (ainda falta)
+    BATTLE_DELETED,           // Batalha removida pelo criador
+    FRIEND_REQUEST_RECEIVED,  // Convite de amizade recebido
+    FRIEND_REQUEST_ACCEPTED   // Convite de amizade aceito
+}
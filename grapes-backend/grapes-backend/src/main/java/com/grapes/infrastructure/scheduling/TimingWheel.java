@@ -0,0 +1,158 @@
+package com.grapes.infrastructure.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Roda de tempo hierárquica (hierarchical timing wheel) para milhões de
+ * lembretes agendados.
+ *
+ * 📚 COMO FUNCIONA:
+ * - O tempo anda em "ticks" (ex: 1 segundo). O nível 0 tem wheelSize
+ *   baldes de 1 tick; o nível 1, wheelSize baldes de wheelSize ticks; etc.
+ *   Com 512 baldes: nível 0 cobre 8,5 min, nível 1 cobre 72 h, nível 2 ~4 anos
+ * - Agendar: escolhe o nível pela distância até o vencimento e o balde
+ *   pelo tick do vencimento. O(1), sem ordenar nada
+ * - Cada tick: se o tick inicia um balde de nível superior, esse balde
+ *   desce para os níveis de baixo; depois o balde do nível 0 vence inteiro.
+ *   O custo do tick não depende de quantos itens estão agendados
+ *   (cada item desce no máximo um nível por vez)
+ *
+ * Thread-safe (métodos sincronizados).
+ */
+public final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<List<Entry<T>>[]> levels = new ArrayList<>();
+
+    // Tick atual (tempo / tickMillis): tudo até ele já venceu
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis < 1 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis >= 1 e wheelSize >= 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Agenda o item para o instante informado
+     *
+     * @return false se o instante já passou (o item NÃO é guardado: trate como vencido)
+     */
+    public synchronized boolean schedule(long dueMillis, T item) {
+        // Arredonda para cima: nunca vence antes da hora
+        long dueTick = Math.ceilDiv(dueMillis, tickMillis);
+        if (dueTick <= currentTick) {
+            return false;
+        }
+        place(new Entry<>(dueTick, item));
+        size++;
+        return true;
+    }
+
+    /**
+     * Avança o relógio até o instante informado, tick a tick
+     *
+     * @return os itens que venceram no caminho (na ordem em que venceram)
+     */
+    public synchronized List<T> advanceTo(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade(expired);
+            List<Entry<T>> bucket = takeBucket(0, currentTick);
+            if (bucket != null) {
+                bucket.forEach(entry -> expired.add(entry.item()));
+            }
+        }
+        size -= expired.size();
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Desce para os níveis de baixo os baldes superiores que começam neste tick
+     * (do mais alto para o mais baixo, para um item poder descer vários níveis)
+     */
+    private void cascade(List<T> expired) {
+        for (int level = levels.size() - 1; level >= 1; level--) {
+            if (currentTick % span(level) != 0) {
+                continue;
+            }
+            List<Entry<T>> bucket = takeBucket(level, currentTick);
+            if (bucket == null) {
+                continue;
+            }
+            for (Entry<T> entry : bucket) {
+                if (entry.dueTick() <= currentTick) {
+                    expired.add(entry.item());
+                } else {
+                    place(entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Menor nível cujo alcance cobre a distância até o vencimento
+     */
+    private void place(Entry<T> entry) {
+        long delta = entry.dueTick() - currentTick;
+        int level = 0;
+        while (delta >= span(level + 1)) {
+            level++;
+        }
+        while (levels.size() <= level) {
+            @SuppressWarnings("unchecked")
+            List<Entry<T>>[] buckets = new List[wheelSize];
+            levels.add(buckets);
+        }
+
+        List<Entry<T>>[] buckets = levels.get(level);
+        int index = index(level, entry.dueTick());
+        if (buckets[index] == null) {
+            buckets[index] = new ArrayList<>();
+        }
+        buckets[index].add(entry);
+    }
+
+    private List<Entry<T>> takeBucket(int level, long tick) {
+        if (level >= levels.size()) {
+            return null;
+        }
+        List<Entry<T>>[] buckets = levels.get(level);
+        int index = index(level, tick);
+        List<Entry<T>> bucket = buckets[index];
+        buckets[index] = null;
+        return bucket;
+    }
+
+    private int index(int level, long tick) {
+        return (int) ((tick / span(level)) % wheelSize);
+    }
+
+    /**
+     * Ticks cobertos por UM balde do nível (wheelSize ^ level), saturando em Long.MAX_VALUE
+     */
+    private long span(int level) {
+        long span = 1;
+        for (int i = 0; i < level; i++) {
+            if (span > Long.MAX_VALUE / wheelSize) {
+                return Long.MAX_VALUE;
+            }
+            span *= wheelSize;
+        }
+        return span;
+    }
+
+    private record Entry<T>(long dueTick, T item) {}
+}
@@ -0,0 +1,377 @@
+package com.grapes.infrastructure.search;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.BattleStatus;
+import com.grapes.infrastructure.persistence.AfterCommit;
+import com.grapes.infrastructure.persistence.BattleParties;
+
+/**
+ * Índice invertido em memória para busca textual nas batalhas de cada jogador.
+ *
+ * 📚 COMO FUNCIONA:
+ * - Cada jogador tem seu próprio índice: termo → (batalha → peso)
+ * - Os textos (descrição, categoria, nomes, mês de criação) são quebrados
+ *   em termos sem acento e em minúsculas: "Pizza de Março" → pizza, de, marco
+ * - Busca por PREFIXO: "piz" encontra "pizza" (termo exato vale mais)
+ * - Relevância TF-IDF: termos raros nas batalhas do jogador pesam mais
+ *
+ * 📚 ATUALIZAÇÃO:
+ * - O índice de um jogador é montado do banco na primeira busca
+ *   e depois mantido incrementalmente pelo BattleService (após o commit)
+ * - Só os jogadores buscados recentemente ficam na memória (LRU)
+ */
+@Component
+public class BattleSearchIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+
+    private static final String[] MONTHS = {
+            "janeiro", "fevereiro", "marco", "abril", "maio", "junho",
+            "julho", "agosto", "setembro", "outubro", "novembro", "dezembro"
+    };
+
+    // Pesos por campo (quanto um termo vale em cada lugar)
+    private static final int CATEGORY_WEIGHT = 3;
+    private static final int NAME_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 2;
+    private static final int MONTH_WEIGHT = 1;
+
+    // Termo só por prefixo vale menos que o termo exato
+    private static final double PREFIX_FACTOR = 0.6;
+
+    private final Map<UUID, PlayerIndex> indexes;
+
+    public BattleSearchIndex(@Value("${grapes.search.max-players:10000}") int maxPlayers) {
+        this.indexes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, PlayerIndex> eldest) {
+                return size() > maxPlayers;
+            }
+        };
+    }
+
+    // ========== ATUALIZAÇÃO INCREMENTAL (após o commit) ==========
+
+    /**
+     * Indexa (ou reindexa) uma batalha nos jogadores envolvidos.
+     * O documento é montado agora, dentro da transação; aplicado após o commit.
+     */
+    public void index(Battle battle) {
+        Doc doc = toDoc(battle);
+        List<UUID> playerIds = BattleParties.of(battle).playerIds();
+        AfterCommit.run(() -> playerIds.forEach(playerId -> {
+            PlayerIndex index = loaded(playerId);
+            if (index != null) {
+                index.put(doc);
+            }
+        }));
+    }
+
+    /**
+     * Marca a batalha como paga (operações em massa, sem a entidade)
+     */
+    public void markPaid(BattleParties battle) {
+        AfterCommit.run(() -> battle.playerIds().forEach(playerId -> {
+            PlayerIndex index = loaded(playerId);
+            if (index != null) {
+                index.markPaid(battle.battleId());
+            }
+        }));
+    }
+
+    /**
+     * Tira a batalha do índice (removida ou arquivada)
+     */
+    public void remove(BattleParties battle) {
+        AfterCommit.run(() -> battle.playerIds().forEach(playerId -> {
+            PlayerIndex index = loaded(playerId);
+            if (index != null) {
+                index.remove(battle.battleId());
+            }
+        }));
+    }
+
+    // ========== BUSCA ==========
+
+    /**
+     * Busca nas batalhas do jogador
+     *
+     * @param loader carrega as batalhas do jogador (só na primeira busca)
+     * @param status filtro opcional
+     * @param from   filtro opcional (createdAt >= from)
+     * @param to     filtro opcional (createdAt < to)
+     * @return IDs das batalhas, da mais relevante para a menos
+     */
+    public List<Hit> search(
+            UUID playerId,
+            String query,
+            BattleStatus status,
+            LocalDateTime from,
+            LocalDateTime to,
+            int limit,
+            Supplier<List<Battle>> loader
+    ) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        return indexFor(playerId, loader).search(tokens, status, from, to, limit);
+    }
+
+    /**
+     * Texto → termos sem acento, em minúsculas
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Índice do jogador: da memória ou montado do banco.
+     *
+     * Durante a montagem o índice já fica visível (vazio) para receber as
+     * atualizações que chegarem; elas valem mais que a leitura do banco,
+     * que pode ser anterior a elas.
+     */
+    private PlayerIndex indexFor(UUID playerId, Supplier<List<Battle>> loader) {
+        PlayerIndex index;
+        boolean mustLoad = false;
+        synchronized (indexes) {
+            index = indexes.get(playerId);
+            if (index == null) {
+                index = new PlayerIndex();
+                indexes.put(playerId, index);
+                mustLoad = true;
+            }
+        }
+
+        if (mustLoad) {
+            try {
+                index.fill(loader.get().stream().map(BattleSearchIndex::toDoc).toList());
+            } catch (RuntimeException e) {
+                synchronized (indexes) {
+                    indexes.remove(playerId, index);
+                }
+                index.abort();
+                throw e;
+            }
+        }
+        index.awaitReady();
+        return index;
+    }
+
+    private PlayerIndex loaded(UUID playerId) {
+        synchronized (indexes) {
+            return indexes.get(playerId);
+        }
+    }
+
+    private static Doc toDoc(Battle battle) {
+        Map<String, Integer> weights = new HashMap<>();
+        addTerms(weights, battle.getCategory().getName(), CATEGORY_WEIGHT);
+        addTerms(weights, battle.getDescription(), DESCRIPTION_WEIGHT);
+        addTerms(weights, battle.getExternalName(), NAME_WEIGHT);
+        addTerms(weights, battle.getCreator().getNickname(), NAME_WEIGHT);
+        if (battle.getOpponent() != null) {
+            addTerms(weights, battle.getOpponent().getNickname(), NAME_WEIGHT);
+        }
+        weights.merge(MONTHS[battle.getCreatedAt().getMonthValue() - 1], MONTH_WEIGHT, Integer::sum);
+        return new Doc(battle.getId(), battle.getStatus(), battle.getCreatedAt(), weights);
+    }
+
+    private static void addTerms(Map<String, Integer> weights, String text, int weight) {
+        for (String token : tokenize(text)) {
+            weights.merge(token, weight, Integer::sum);
+        }
+    }
+
+    /**
+     * Resultado da busca
+     */
+    public record Hit(UUID battleId, double score) {}
+
+    /**
+     * Uma batalha já tokenizada
+     */
+    private record Doc(UUID battleId, BattleStatus status, LocalDateTime createdAt, Map<String, Integer> weights) {}
+
+    /**
+     * Índice invertido de UM jogador (todas as operações sincronizadas)
+     */
+    private static final class PlayerIndex {
+
+        private final TreeMap<String, Map<UUID, Integer>> postings = new TreeMap<>();
+        private final Map<UUID, Doc> docs = new HashMap<>();
+        private final CountDownLatch ready = new CountDownLatch(1);
+
+        // Mudanças que chegaram durante a montagem (null = índice pronto).
+        // Batalha que já está em docs veio de um put e vale mais que a leitura
+        // do banco; as removidas e as pagas ajustam o que a leitura trouxer.
+        private Set<UUID> removedWhileLoading = new HashSet<>();
+        private Set<UUID> paidWhileLoading = new HashSet<>();
+        private boolean failed;
+
+        synchronized void fill(List<Doc> loadedDocs) {
+            for (Doc doc : loadedDocs) {
+                UUID battleId = doc.battleId();
+                if (docs.containsKey(battleId) || removedWhileLoading.contains(battleId)) {
+                    continue;
+                }
+                add(paidWhileLoading.contains(battleId)
+                        ? new Doc(battleId, BattleStatus.PAID, doc.createdAt(), doc.weights())
+                        : doc);
+            }
+            removedWhileLoading = null;
+            paidWhileLoading = null;
+            ready.countDown();
+        }
+
+        synchronized void abort() {
+            failed = true;
+            ready.countDown();
+        }
+
+        void awaitReady() {
+            try {
+                ready.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Busca interrompida", e);
+            }
+            synchronized (this) {
+                if (failed) {
+                    throw new IllegalStateException("Falha ao montar o índice de busca");
+                }
+            }
+        }
+
+        synchronized void put(Doc doc) {
+            remove(doc.battleId());
+            if (removedWhileLoading != null) {
+                removedWhileLoading.remove(doc.battleId());
+            }
+            add(doc);
+        }
+
+        synchronized void markPaid(UUID battleId) {
+            Doc doc = docs.get(battleId);
+            if (doc != null) {
+                docs.put(battleId, new Doc(battleId, BattleStatus.PAID, doc.createdAt(), doc.weights()));
+            } else if (paidWhileLoading != null) {
+                // Ainda não carregada: o fill() aplica quando ela chegar do banco
+                paidWhileLoading.add(battleId);
+            }
+        }
+
+        synchronized void remove(UUID battleId) {
+            if (removedWhileLoading != null) {
+                removedWhileLoading.add(battleId);
+            }
+            Doc doc = docs.remove(battleId);
+            if (doc == null) {
+                return;
+            }
+            for (String term : doc.weights().keySet()) {
+                Map<UUID, Integer> posting = postings.get(term);
+                if (posting != null) {
+                    posting.remove(battleId);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+
+        synchronized List<Hit> search(
+                List<String> tokens,
+                BattleStatus status,
+                LocalDateTime from,
+                LocalDateTime to,
+                int limit
+        ) {
+            int total = docs.size();
+            Map<UUID, Double> scores = null;
+
+            for (String token : tokens) {
+                // Melhor pontuação deste token em cada batalha (exato ou prefixo)
+                Map<UUID, Double> tokenScores = new HashMap<>();
+                for (Map.Entry<String, Map<UUID, Integer>> entry
+                        : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+                    double factor = entry.getKey().equals(token) ? 1.0 : PREFIX_FACTOR;
+                    double idf = Math.log(1.0 + (double) total / entry.getValue().size());
+                    entry.getValue().forEach((battleId, weight) ->
+                            tokenScores.merge(battleId, weight * idf * factor, Math::max));
+                }
+
+                // Todos os tokens precisam aparecer (E lógico)
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    Map<UUID, Double> previous = scores;
+                    scores = new HashMap<>();
+                    for (Map.Entry<UUID, Double> entry : tokenScores.entrySet()) {
+                        Double before = previous.get(entry.getKey());
+                        if (before != null) {
+                            scores.put(entry.getKey(), before + entry.getValue());
+                        }
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            return scores.entrySet().stream()
+                    .map(e -> docs.get(e.getKey()) == null ? null : Map.entry(docs.get(e.getKey()), e.getValue()))
+                    .filter(e -> e != null && matches(e.getKey(), status, from, to))
+                    .sorted(Comparator.<Map.Entry<Doc, Double>>comparingDouble(Map.Entry::getValue).reversed()
+                            .thenComparing(e -> e.getKey().createdAt(), Comparator.reverseOrder()))
+                    .limit(limit)
+                    .map(e -> new Hit(e.getKey().battleId(), e.getValue()))
+                    .toList();
+        }
+
+        private static boolean matches(Doc doc, BattleStatus status, LocalDateTime from, LocalDateTime to) {
+            return (status == null || doc.status() == status)
+                    && (from == null || !doc.createdAt().isBefore(from))
+                    && (to == null || doc.createdAt().isBefore(to));
+        }
+
+        private void add(Doc doc) {
+            docs.put(doc.battleId(), doc);
+            doc.weights().forEach((term, weight) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(doc.battleId(), weight));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.grapes.application.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.grapes.application.dto.AgingBuckets;
+import com.grapes.application.dto.AgingReportResponse;
+import com.grapes.application.dto.CounterpartyAgingResponse;
+import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.Friendship;
+import com.grapes.domain.model.Player;
+import com.grapes.infrastructure.persistence.PlayerRepository;
+
+/**
+ * Relatório de envelhecimento (consulta agregada no H2): faixas por
+ * contraparte, totais gerais e saldo restante das batalhas pagas em parte.
+ */
+@SpringBootTest
+class AgingReportServiceTest {
+
+    @Autowired
+    private AgingReportService agingReportService;
+
+    @Autowired
+    private BattleService battleService;
+
+    @Autowired
+    private FriendshipService friendshipService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Test
+    void bucketsAndTotalsUseRemainingAmounts() {
+        LocalDate today = LocalDate.now();
+        Player player = newPlayer();
+        Player ana = newPlayer();
+        Player bruno = newPlayer();
+        befriend(player, ana);
+        befriend(player, bruno);
+
+        // Ana me deve 100 (venceu há 10 dias) e 25 (ainda não venceu); eu devo 40 a ela (há 45 dias)
+        battleService.createWithFriend(player, ana.getNickname(), amount("100.00"), "Comida", null, true, today.minusDays(10));
+        battleService.createWithFriend(player, ana.getNickname(), amount("25.00"), "Comida", null, true, today.plusDays(10));
+        battleService.createWithFriend(player, ana.getNickname(), amount("40.00"), "Comida", null, false, today.minusDays(45));
+        Battle paid = battleService.createWithFriend(
+                player, ana.getNickname(), amount("70.00"), "Comida", null, true, today.minusDays(200));
+        battleService.markAsPaid(paid.getId(), player);
+
+        // Devo 50 a Bruno (há 75 dias), já paguei 20
+        Battle partial = battleService.createWithFriend(
+                bruno, player.getNickname(), amount("50.00"), "Comida", null, true, today.minusDays(75));
+        battleService.addPayment(partial.getId(), player, amount("20.00"), null);
+
+        // Carla (externa) me deve 80 (há 120 dias), já pagou 30
+        Battle external = battleService.createWithExternal(
+                player, "Carla", amount("80.00"), "Comida", null, true, today.minusDays(120));
+        battleService.addPayment(external.getId(), player, amount("30.00"), null);
+
+        AgingReportResponse report = agingReportService.getReport(player);
+
+        List<CounterpartyAgingResponse> rows = report.counterparties();
+        assertEquals(List.of("Carla", bruno.getNickname(), ana.getNickname()),
+                rows.stream().map(CounterpartyAgingResponse::name).toList());
+
+        CounterpartyAgingResponse carla = rows.get(0);
+        assertNull(carla.playerId());
+        assertEquals(1, carla.pendingBattles());
+        assertEquals(buckets("0.00", "0.00", "0.00", "50.00", "50.00"), carla.buckets());
+
+        CounterpartyAgingResponse brunoRow = rows.get(1);
+        assertEquals(bruno.getId(), brunoRow.playerId());
+        assertEquals(buckets("0.00", "0.00", "-30.00", "0.00", "-30.00"), brunoRow.buckets());
+
+        CounterpartyAgingResponse anaRow = rows.get(2);
+        assertEquals(3, anaRow.pendingBattles());
+        assertEquals(today.minusDays(45).atStartOfDay(), anaRow.oldestSince());
+        assertEquals(buckets("125.00", "-40.00", "0.00", "0.00", "85.00"), anaRow.buckets());
+
+        assertEquals(buckets("125.00", "-40.00", "-30.00", "50.00", "105.00"), report.totals());
+    }
+
+    @Test
+    void playerWithoutPendingBattlesHasEmptyReport() {
+        AgingReportResponse report = agingReportService.getReport(newPlayer());
+        assertEquals(List.of(), report.counterparties());
+        assertEquals(AgingBuckets.EMPTY, report.totals());
+    }
+
+    private static AgingBuckets buckets(String d0To30, String d31To60, String d61To90, String over90, String total) {
+        return new AgingBuckets(amount(d0To30), amount(d31To60), amount(d61To90), amount(over90), amount(total));
+    }
+
+    private static BigDecimal amount(String value) {
+        return new BigDecimal(value);
+    }
+
+    private void befriend(Player requester, Player addressee) {
+        Friendship friendship = friendshipService.sendRequest(requester, addressee.getNickname());
+        friendshipService.acceptRequest(friendship.getId(), addressee);
+    }
+
+    private Player newPlayer() {
+        String nickname = "p" + UUID.randomUUID().toString().substring(0, 8);
+        return playerRepository.save(new Player(nickname, BigDecimal.ZERO, "default"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.grapes.application.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.BattlePayment;
+import com.grapes.domain.model.Friendship;
+import com.grapes.domain.model.Player;
+import com.grapes.infrastructure.persistence.BattleRepository;
+import com.grapes.infrastructure.persistence.PlayerRepository;
+
+/**
+ * Arquivamento: a batalha sai da tabela quente, mas o livro-caixa dela
+ * continua acessível.
+ */
+@SpringBootTest
+class BattleArchiveServiceTest {
+
+    @Autowired
+    private BattleArchiveService battleArchiveService;
+
+    @Autowired
+    private BattleService battleService;
+
+    @Autowired
+    private FriendshipService friendshipService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private BattleRepository battleRepository;
+
+    @Test
+    void archivedBattleKeepsItsPayments() {
+        Player creator = newPlayer();
+        Player opponent = newPlayer();
+        befriend(creator, opponent);
+
+        Battle battle = battleService.createWithFriend(
+                creator, opponent.getNickname(), new BigDecimal("50.00"), "Comida", null, true, null);
+        battleService.addPayment(battle.getId(), opponent, new BigDecimal("20.00"), null);
+        battleService.addPayment(battle.getId(), opponent, new BigDecimal("30.00"), null);
+
+        battleArchiveService.archive(LocalDateTime.now().plusSeconds(1));
+        assertFalse(battleRepository.existsById(battle.getId()));
+
+        List<BattlePayment> payments = battleService.getPayments(battle.getId(), opponent);
+        assertEquals(2, payments.size());
+        assertEquals(0, BigDecimal.ZERO.compareTo(payments.get(1).getRemainingAfter()));
+
+        Player stranger = newPlayer();
+        assertThrows(IllegalArgumentException.class, () -> battleService.getPayments(battle.getId(), stranger));
+    }
+
+    private void befriend(Player requester, Player addressee) {
+        Friendship friendship = friendshipService.sendRequest(requester, addressee.getNickname());
+        friendshipService.acceptRequest(friendship.getId(), addressee);
+    }
+
+    private Player newPlayer() {
+        String nickname = "p" + UUID.randomUUID().toString().substring(0, 8);
+        return playerRepository.save(new Player(nickname, BigDecimal.ZERO, "default"));
+    }
+}
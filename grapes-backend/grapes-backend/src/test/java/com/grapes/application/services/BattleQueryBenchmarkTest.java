@@ -0,0 +1,263 @@
+package com.grapes.application.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.grapes.application.dto.BattleFilter;
+import com.grapes.application.dto.BattlePageResponse;
+import com.grapes.application.dto.BattleResponse;
+import com.grapes.domain.model.BattleStatus;
+import com.grapes.domain.model.Player;
+import com.grapes.infrastructure.persistence.PlayerRepository;
+
+/**
+ * Benchmark de GET /battles/query (filtros + paginação por cursor).
+ *
+ * Popula a tabela battles direto por JDBC (padrão: 200 mil linhas, 5% delas
+ * do jogador medido) e mede p50/p95 de cada combinação de filtros.
+ * Fica fora do mvn test (tag "benchmark"); para rodar:
+ *
+ *   mvn test -Pbenchmark
+ *
+ * As metas de latência são para 10 milhões de linhas:
+ *
+ *   mvn test -Pbenchmark -Dtest=BattleQueryBenchmarkTest \
+ *       -Dgrapes.bench.battle-rows=10000000 -Dgrapes.bench.enforce-targets=true
+ *
+ * Sem enforce-targets o teste só imprime a tabela (máquinas de CI variam);
+ * a corretude da paginação é sempre verificada.
+ *
+ * Usa um banco H2 próprio (grapes-bench), descartado junto com o contexto
+ * no fim da classe: as linhas geradas não ficam no banco dos outros testes.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:grapes-bench"
+})
+@DirtiesContext
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BattleQueryBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("grapes.bench.battle-rows", 200_000);
+    private static final boolean ENFORCE_TARGETS = Boolean.getBoolean("grapes.bench.enforce-targets");
+    private static final double TARGET_PLAYER_SHARE = 0.05;
+    private static final int OTHER_PLAYERS = 1_000;
+    private static final int CATEGORIES = 20;
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP = 5;
+    private static final int ROUNDS = 30;
+    private static final LocalDateTime START = LocalDate.of(2024, 1, 1).atStartOfDay();
+
+    @Autowired
+    private BattleService battleService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Player player;
+    private Player counterparty;
+
+    @BeforeAll
+    void seed() {
+        player = newPlayer();
+        List<Player> others = new ArrayList<>();
+        for (int i = 0; i < OTHER_PLAYERS; i++) {
+            others.add(newPlayer());
+        }
+        counterparty = others.get(0);
+
+        Integer[] categoryIds = new Integer[CATEGORIES];
+        for (int i = 0; i < CATEGORIES; i++) {
+            categoryIds[i] = categoryService.resolve("Bench " + i).getId();
+        }
+
+        Random random = new Random(42);
+        long spanMinutes = 2L * 365 * 24 * 60;
+        List<Object[]> batch = new ArrayList<>();
+        for (int row = 0; row < ROWS; row++) {
+            UUID creator;
+            UUID opponent;
+            if (random.nextDouble() < TARGET_PLAYER_SHARE) {
+                // Metade criada pelo jogador medido, metade contra ele; 10% com o mesmo amigo
+                UUID friend = random.nextInt(10) == 0 ? counterparty.getId() : pick(others, random);
+                boolean created = random.nextBoolean();
+                creator = created ? player.getId() : friend;
+                opponent = created ? friend : player.getId();
+            } else {
+                creator = pick(others, random);
+                opponent = pick(others, random);
+            }
+
+            BigDecimal amount = BigDecimal.valueOf(100 + random.nextInt(50_000), 2);
+            boolean pending = random.nextInt(10) < 3;
+            LocalDateTime createdAt = START.plusMinutes((long) (random.nextDouble() * spanMinutes));
+            batch.add(new Object[] {
+                    UUID.randomUUID(), creator, opponent, random.nextBoolean(), amount,
+                    pending ? amount : BigDecimal.ZERO, categoryIds[random.nextInt(CATEGORIES)],
+                    "bench", pending ? "PENDING" : "PAID", Timestamp.valueOf(createdAt),
+                    pending ? null : Timestamp.valueOf(createdAt.plusDays(1))
+            });
+
+            if (batch.size() == 10_000) {
+                insert(batch);
+            }
+        }
+        insert(batch);
+    }
+
+    @Test
+    void latencyPerFilterCombination() {
+        LocalDateTime from = START.plusMonths(6);
+        LocalDateTime to = START.plusMonths(9);
+        BigDecimal min = new BigDecimal("50.00");
+        BigDecimal max = new BigDecimal("150.00");
+        String nickname = counterparty.getNickname();
+
+        // Metas de p95 (ms) para 10 milhões de linhas
+        List<Scenario> scenarios = List.of(
+                new Scenario("sem filtro", filter(null, null, null, null, null, null, null), 20),
+                new Scenario("status", filter(null, null, BattleStatus.PENDING, null, null, null, null), 20),
+                new Scenario("categoria", filter(null, "Bench 3", null, null, null, null, null), 25),
+                new Scenario("contraparte", filter(nickname, null, null, null, null, null, null), 15),
+                new Scenario("período", filter(null, null, null, from, to, null, null), 25),
+                new Scenario("faixa de valor", filter(null, null, null, null, null, min, max), 60),
+                new Scenario("status + período", filter(null, null, BattleStatus.PENDING, from, to, null, null), 25),
+                new Scenario("contraparte + status", filter(nickname, null, BattleStatus.PENDING, null, null, null, null), 15),
+                new Scenario("categoria + valor", filter(null, "Bench 3", null, null, null, min, max), 60),
+                new Scenario("todos", filter(nickname, "Bench 3", BattleStatus.PAID, START, to.plusYears(1), min, max), 60));
+
+        System.out.printf("%nGET /battles/query — %,d linhas, página de %d%n", ROWS, PAGE_SIZE);
+        System.out.printf("%-24s %10s %10s %10s%n", "filtros", "p50 (ms)", "p95 (ms)", "meta p95");
+        List<String> missed = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            double[] millis = measure(() -> battleService.query(player, scenario.filter(), null, PAGE_SIZE));
+            report(scenario, millis, missed);
+        }
+
+        // Página profunda: 20 páginas adiante, o custo deve ser o mesmo da primeira
+        BattleFilter all = filter(null, null, null, null, null, null, null);
+        String cursor = null;
+        for (int page = 0; page < 20 && (page == 0 || cursor != null); page++) {
+            cursor = battleService.query(player, all, cursor, PAGE_SIZE).nextCursor();
+        }
+        String deepCursor = cursor;
+        report(new Scenario("página 21 (cursor)", all, 20),
+                measure(() -> battleService.query(player, all, deepCursor, PAGE_SIZE)), missed);
+
+        if (ENFORCE_TARGETS) {
+            assertTrue(missed.isEmpty(), "Metas de latência não atingidas: " + missed);
+        }
+    }
+
+    @Test
+    void cursorPagesAreOrderedAndComplete() {
+        BattleFilter pendingWithFriend = filter(counterparty.getNickname(), null, BattleStatus.PENDING, null, null, null, null);
+
+        Set<UUID> seen = new HashSet<>();
+        LocalDateTime previous = LocalDateTime.MAX;
+        String cursor = null;
+        do {
+            BattlePageResponse page = battleService.query(player, pendingWithFriend, cursor, PAGE_SIZE);
+            for (BattleResponse battle : page.battles()) {
+                assertTrue(seen.add(battle.id()), "batalha repetida entre páginas");
+                assertEquals("PENDING", battle.status());
+                assertEquals(counterparty.getNickname(), battle.opponentNickname());
+                LocalDateTime createdAt = LocalDateTime.parse(battle.createdAt());
+                assertFalse(createdAt.isAfter(previous), "páginas fora de ordem");
+                previous = createdAt;
+            }
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        Long expected = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM battles WHERE status = 'PENDING' AND "
+                        + "((creator_id = ? AND opponent_id = ?) OR (creator_id = ? AND opponent_id = ?))",
+                Long.class, player.getId(), counterparty.getId(), counterparty.getId(), player.getId());
+        assertEquals(expected, (long) seen.size());
+    }
+
+    private double[] measure(Runnable query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.run();
+        }
+        double[] millis = new double[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            query.run();
+            millis[i] = (System.nanoTime() - start) / 1_000_000.0;
+        }
+        Arrays.sort(millis);
+        return millis;
+    }
+
+    private void report(Scenario scenario, double[] millis, List<String> missed) {
+        double p50 = millis[millis.length / 2];
+        double p95 = millis[(int) Math.ceil(millis.length * 0.95) - 1];
+        System.out.printf("%-24s %10.2f %10.2f %10d%s%n",
+                scenario.name(), p50, p95, scenario.targetP95Millis(), p95 > scenario.targetP95Millis() ? "  ✗" : "");
+        if (p95 > scenario.targetP95Millis()) {
+            missed.add(scenario.name());
+        }
+    }
+
+    private void insert(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO battles (id, creator_id, opponent_id, creator_is_creditor, amount, remaining_amount, "
+                        + "category_id, description, status, created_at, paid_at, version) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)",
+                batch);
+        batch.clear();
+    }
+
+    private static BattleFilter filter(
+            String counterparty,
+            String category,
+            BattleStatus status,
+            LocalDateTime from,
+            LocalDateTime to,
+            BigDecimal min,
+            BigDecimal max
+    ) {
+        return new BattleFilter(counterparty, category, status, from, to, min, max);
+    }
+
+    private static UUID pick(List<Player> players, Random random) {
+        return players.get(random.nextInt(players.size())).getId();
+    }
+
+    private Player newPlayer() {
+        String nickname = "q" + UUID.randomUUID().toString().substring(0, 8);
+        return playerRepository.save(new Player(nickname, BigDecimal.ZERO, "default"));
+    }
+
+    private record Scenario(String name, BattleFilter filter, long targetP95Millis) {}
+}
@@ -0,0 +1,91 @@
+package com.grapes.application.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.grapes.domain.model.Friendship;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.PlayerCategoryStat;
+import com.grapes.infrastructure.persistence.PlayerCategoryStatRepository;
+import com.grapes.infrastructure.persistence.PlayerRepository;
+
+/**
+ * Contadores por categoria: várias primeiras batalhas do jogador na mesma
+ * categoria, ao mesmo tempo, criam uma única linha e somam todas.
+ */
+@SpringBootTest
+class CategoryServiceTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private BattleService battleService;
+
+    @Autowired
+    private FriendshipService friendshipService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private PlayerCategoryStatRepository statRepository;
+
+    @Test
+    void concurrentFirstBattlesInCategoryAllCount() throws InterruptedException {
+        Player creator = newPlayer();
+        List<Player> opponents = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Player opponent = newPlayer();
+            befriend(creator, opponent);
+            opponents.add(opponent);
+        }
+        String category = "cat-" + UUID.randomUUID().toString().substring(0, 8);
+
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (Player opponent : opponents) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    battleService.createWithFriend(
+                            creator, opponent.getNickname(), new BigDecimal("10.00"), category, null, true, null);
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        assertEquals(0, errors.get());
+        List<PlayerCategoryStat> stats = statRepository.findUsedByPlayer(creator.getId());
+        assertEquals(1, stats.size());
+        assertEquals(THREADS, stats.get(0).getBattleCount());
+    }
+
+    private void befriend(Player requester, Player addressee) {
+        Friendship friendship = friendshipService.sendRequest(requester, addressee.getNickname());
+        friendshipService.acceptRequest(friendship.getId(), addressee);
+    }
+
+    private Player newPlayer() {
+        String nickname = "p" + UUID.randomUUID().toString().substring(0, 8);
+        return playerRepository.save(new Player(nickname, BigDecimal.ZERO, "default"));
+    }
+}
@@ -0,0 +1,140 @@
+package com.grapes.application.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.grapes.application.dto.CreateRecurringBattleRequest;
+import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.RecurringBattle;
+import com.grapes.infrastructure.persistence.BattleRepository;
+import com.grapes.infrastructure.persistence.PlayerRepository;
+import com.grapes.infrastructure.persistence.RecurringBattleRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Batalhas recorrentes: depois de uma parada, cada ocorrência atrasada é
+ * gerada exatamente uma vez, e um modelo quebrado não trava os outros.
+ */
+@SpringBootTest
+class RecurringBattleServiceTest {
+
+    private static final String HOURLY = "0 0 * * * *";
+
+    @Autowired
+    private RecurringBattleService recurringBattleService;
+
+    @Autowired
+    private RecurringBattleRepository recurringBattleRepository;
+
+    @Autowired
+    private BattleService battleService;
+
+    @Autowired
+    private BattleRepository battleRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Value("${grapes.recurring.max-catch-up}")
+    private int maxCatchUp;
+
+    @Test
+    void catchUpAfterDowntimeIsCappedPerRun() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusMinutes(30);
+        LocalDateTime stoppedAt = now.truncatedTo(ChronoUnit.HOURS).minusHours(30);
+        RecurringBattle recurring = hourly(stoppedAt);
+
+        recurringBattleService.generate(now);
+        assertEquals(maxCatchUp, occurrences(recurring).size());
+
+        // A próxima execução continua de onde parou até alcançar o presente
+        recurringBattleService.generate(now);
+        List<LocalDateTime> occurrences = occurrences(recurring);
+        assertEquals(31, occurrences.size());
+        assertEquals(31, new HashSet<>(occurrences).size());
+        assertEquals(stoppedAt.plusHours(31), recurringBattleRepository.findById(recurring.getId()).orElseThrow().getNextRunAt());
+    }
+
+    @Test
+    void concurrentRunsGenerateEachOccurrenceOnce() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusMinutes(30);
+        RecurringBattle recurring = hourly(now.truncatedTo(ChronoUnit.HOURS).minusHours(2));
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        for (int i = 0; i < 2; i++) {
+            executor.submit(() -> {
+                start.await();
+                return recurringBattleService.generate(now);
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        recurringBattleService.generate(now);
+        assertEquals(3, occurrences(recurring).size());
+        assertTrue(recurringBattleRepository.findById(recurring.getId()).orElseThrow().isActive());
+    }
+
+    @Test
+    void failingTemplateIsDeactivatedWithoutBlockingOthers() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusMinutes(30);
+        RecurringBattle broken = hourly(now.truncatedTo(ChronoUnit.HOURS).minusHours(3));
+        RecurringBattle healthy = hourly(now.truncatedTo(ChronoUnit.HOURS).minusHours(1));
+
+        // Ocorrência já gravada sem o modelo ter avançado: o índice único derruba toda geração dele
+        Battle stale = battleService.createWithExternal(
+                broken.getCreator(), "Bruno", new BigDecimal("10.00"), "Aluguel", null, true, null);
+        stale.setRecurringId(broken.getId());
+        stale.setOccurrence(broken.getNextRunAt());
+        battleRepository.save(stale);
+
+        recurringBattleService.generate(now);
+
+        assertEquals(2, occurrences(healthy).size());
+        assertEquals(1, occurrences(broken).size());
+        assertFalse(recurringBattleRepository.findById(broken.getId()).orElseThrow().isActive());
+    }
+
+    private RecurringBattle hourly(LocalDateTime nextRunAt) {
+        RecurringBattle recurring = recurringBattleService.create(newPlayer(), new CreateRecurringBattleRequest(
+                null, "Bruno", new BigDecimal("10.00"), "Aluguel", null, true, HOURLY, null));
+        recurring.setNextRunAt(nextRunAt);
+        return recurringBattleRepository.save(recurring);
+    }
+
+    private List<LocalDateTime> occurrences(RecurringBattle recurring) {
+        return entityManager.createQuery(
+                        "SELECT b.occurrence FROM Battle b WHERE b.recurringId = :id", LocalDateTime.class)
+                .setParameter("id", recurring.getId())
+                .getResultList();
+    }
+
+    private Player newPlayer() {
+        String nickname = "p" + UUID.randomUUID().toString().substring(0, 8);
+        return playerRepository.save(new Player(nickname, BigDecimal.ZERO, "default"));
+    }
+}
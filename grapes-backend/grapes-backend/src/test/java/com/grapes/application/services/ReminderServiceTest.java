@@ -0,0 +1,101 @@
+package com.grapes.application.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.grapes.domain.events.BattleCreated;
+import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.Friendship;
+import com.grapes.domain.model.Player;
+import com.grapes.infrastructure.persistence.BattleRepository;
+import com.grapes.infrastructure.persistence.PlayerRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Lembretes de vencimento: entradas repetidas na roda e ticks ao mesmo
+ * tempo emitem o lembrete de cada batalha uma única vez.
+ */
+@SpringBootTest
+class ReminderServiceTest {
+
+    private static final int THREADS = 4;
+
+    @Autowired
+    private ReminderService reminderService;
+
+    @Autowired
+    private BattleService battleService;
+
+    @Autowired
+    private FriendshipService friendshipService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private BattleRepository battleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void overdueReminderFiresOncePerBattle() throws InterruptedException {
+        Player creator = newPlayer();
+        Player opponent = newPlayer();
+        befriend(creator, opponent);
+        Battle battle = battleService.createWithFriend(
+                creator, opponent.getNickname(), new BigDecimal("25.00"), "Comida", null, true,
+                LocalDate.now().minusDays(1));
+
+        // Entradas repetidas (ex: reinício + evento) e vários ticks concorrentes
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                start.await();
+                reminderService.handle(BattleCreated.of(List.of(battle)));
+                reminderService.tick();
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+        reminderService.tick();
+
+        // Um lembrete para cada lado da batalha
+        assertEquals(2, dueMessages(battle));
+        assertNotNull(battleRepository.findById(battle.getId()).orElseThrow().getReminderSentAt());
+    }
+
+    private long dueMessages(Battle battle) {
+        return entityManager.createQuery(
+                        "SELECT COUNT(m) FROM OutboxMessage m WHERE m.dedupKey LIKE :key", Long.class)
+                .setParameter("key", "battle-due:" + battle.getId() + ":%")
+                .getSingleResult();
+    }
+
+    private void befriend(Player requester, Player addressee) {
+        Friendship friendship = friendshipService.sendRequest(requester, addressee.getNickname());
+        friendshipService.acceptRequest(friendship.getId(), addressee);
+    }
+
+    private Player newPlayer() {
+        String nickname = "p" + UUID.randomUUID().toString().substring(0, 8);
+        return playerRepository.save(new Player(nickname, BigDecimal.ZERO, "default"));
+    }
+}
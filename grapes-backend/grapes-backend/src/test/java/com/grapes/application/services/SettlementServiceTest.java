@@ -0,0 +1,123 @@
+package com.grapes.application.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.grapes.application.dto.SettlementPlanResponse;
+import com.grapes.application.dto.SettlementRequest;
+import com.grapes.application.dto.SettlementTransferResponse;
+import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.BattleStatus;
+import com.grapes.domain.model.Friendship;
+import com.grapes.domain.model.Player;
+import com.grapes.infrastructure.persistence.BattleRepository;
+import com.grapes.infrastructure.persistence.PlayerRepository;
+
+/**
+ * Acerto de contas em grupo: quem acerta só mexe nas próprias batalhas.
+ */
+@SpringBootTest
+class SettlementServiceTest {
+
+    @Autowired
+    private SettlementService settlementService;
+
+    @Autowired
+    private BattleService battleService;
+
+    @Autowired
+    private FriendshipService friendshipService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private BattleRepository battleRepository;
+
+    @Test
+    void cannotSettleBattleBetweenTwoFriends() {
+        Player a = newPlayer();
+        Player b = newPlayer();
+        Player c = newPlayer();
+        befriend(a, b);
+        befriend(a, c);
+        befriend(b, c);
+
+        // B deve 30 para C: batalha que não é de A
+        Battle betweenFriends = battleService.createWithFriend(
+                c, b.getNickname(), new BigDecimal("30.00"), "Comida", null, true, null);
+        // B deve 10 para A
+        Battle own = battleService.createWithFriend(
+                a, b.getNickname(), new BigDecimal("10.00"), "Comida", null, true, null);
+
+        SettlementPlanResponse result = settlementService.apply(a, request(b, c));
+
+        assertEquals(1, result.pendingBattles());
+        assertEquals(BattleStatus.PENDING, battleRepository.findById(betweenFriends.getId()).orElseThrow().getStatus());
+        assertEquals(BattleStatus.PAID, battleRepository.findById(own.getId()).orElseThrow().getStatus());
+
+        SettlementTransferResponse transfer = result.transfers().get(0);
+        assertEquals(1, result.transfers().size());
+        assertEquals(b.getNickname(), transfer.fromNickname());
+        assertEquals(a.getNickname(), transfer.toNickname());
+        assertEquals(0, new BigDecimal("10.00").compareTo(transfer.amount()));
+    }
+
+    @Test
+    void everyTransferInvolvesTheRequester() {
+        Player a = newPlayer();
+        Player b = newPlayer();
+        Player c = newPlayer();
+        befriend(a, b);
+        befriend(a, c);
+
+        // B deve 10 para A, A deve 10 para C: o atalho seria B pagar C direto
+        battleService.createWithFriend(a, b.getNickname(), new BigDecimal("10.00"), "Comida", null, true, null);
+        battleService.createWithFriend(a, c.getNickname(), new BigDecimal("10.00"), "Comida", null, false, null);
+
+        SettlementPlanResponse plan = settlementService.plan(a, request(b, c));
+
+        assertEquals(2, plan.transfers().size());
+        plan.transfers().forEach(t -> assertTrue(
+                t.fromNickname().equals(a.getNickname()) || t.toNickname().equals(a.getNickname())));
+    }
+
+    @Test
+    void planUsesRemainingAmountOfPartlyPaidBattles() {
+        Player a = newPlayer();
+        Player b = newPlayer();
+        befriend(a, b);
+
+        // B deve 100 para A, mas já pagou 40
+        Battle battle = battleService.createWithFriend(
+                a, b.getNickname(), new BigDecimal("100.00"), "Comida", null, true, null);
+        battleService.addPayment(battle.getId(), b, new BigDecimal("40.00"), null);
+
+        SettlementPlanResponse plan = settlementService.plan(a, request(b));
+
+        assertEquals(1, plan.transfers().size());
+        assertEquals(0, new BigDecimal("60.00").compareTo(plan.transfers().get(0).amount()));
+    }
+
+    private void befriend(Player requester, Player addressee) {
+        Friendship friendship = friendshipService.sendRequest(requester, addressee.getNickname());
+        friendshipService.acceptRequest(friendship.getId(), addressee);
+    }
+
+    private static SettlementRequest request(Player... friends) {
+        return new SettlementRequest(Stream.of(friends).map(Player::getNickname).toList());
+    }
+
+    private Player newPlayer() {
+        String nickname = "p" + UUID.randomUUID().toString().substring(0, 8);
+        return playerRepository.save(new Player(nickname, BigDecimal.ZERO, "default"));
+    }
+}
@@ -0,0 +1,201 @@
+package com.grapes.application.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.grapes.application.exceptions.ConflictException;
+import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.BattleStatus;
+import com.grapes.domain.model.Friendship;
+import com.grapes.domain.model.FriendshipStatus;
+import com.grapes.domain.model.Player;
+import com.grapes.infrastructure.persistence.BattlePaymentRepository;
+import com.grapes.infrastructure.persistence.BattleRepository;
+import com.grapes.infrastructure.persistence.FriendshipRepository;
+import com.grapes.infrastructure.persistence.PlayerRepository;
+
+/**
+ * Teste de estresse das transições de estado concorrentes.
+ *
+ * Várias threads disputam a MESMA transição (pagar a batalha, responder o
+ * convite). Com os UPDATEs condicionais, exatamente uma vence e as outras
+ * recebem ConflictException — sem nenhum lock pessimista.
+ */
+@SpringBootTest
+class StateTransitionConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private BattleService battleService;
+
+    @Autowired
+    private FriendshipService friendshipService;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private BattleRepository battleRepository;
+
+    @Autowired
+    private BattlePaymentRepository battlePaymentRepository;
+
+    @Autowired
+    private FriendshipRepository friendshipRepository;
+
+    @Test
+    void concurrentPayHasExactlyOneWinner() throws InterruptedException {
+        Player creator = newPlayer();
+        Player opponent = newPlayer();
+        Battle battle = battleService.createWithFriend(
+                creator, opponent.getNickname(), new BigDecimal("50.00"), "Comida", null, true, null);
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> battleService.markAsPaid(battle.getId(), opponent));
+        }
+        Outcome outcome = race(tasks);
+
+        assertEquals(1, outcome.successes());
+        assertEquals(THREADS - 1, outcome.conflicts());
+        assertEquals(0, outcome.errors());
+
+        Battle paid = battleRepository.findById(battle.getId()).orElseThrow();
+        assertEquals(BattleStatus.PAID, paid.getStatus());
+        assertEquals(1, paid.getVersion(), "a transição deve ter sido aplicada uma única vez");
+    }
+
+    @Test
+    void concurrentAcceptAndRejectHaveExactlyOneWinner() throws InterruptedException {
+        Player requester = newPlayer();
+        Player addressee = newPlayer();
+        Friendship friendship = friendshipService.sendRequest(requester, addressee.getNickname());
+
+        AtomicInteger accepted = new AtomicInteger();
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            if (i % 2 == 0) {
+                tasks.add(() -> {
+                    friendshipService.acceptRequest(friendship.getId(), addressee);
+                    accepted.incrementAndGet();
+                });
+            } else {
+                tasks.add(() -> friendshipService.rejectRequest(friendship.getId(), addressee));
+            }
+        }
+        Outcome outcome = race(tasks);
+
+        assertEquals(1, outcome.successes());
+        assertEquals(THREADS - 1, outcome.conflicts());
+        assertEquals(0, outcome.errors());
+
+        Friendship answered = friendshipRepository.findById(friendship.getId()).orElseThrow();
+        assertEquals(accepted.get() == 1 ? FriendshipStatus.ACCEPTED : FriendshipStatus.REJECTED, answered.getStatus());
+        assertEquals(1, answered.getVersion());
+    }
+
+    @Test
+    void concurrentPartialPaymentsNeverOverpay() throws InterruptedException {
+        Player creator = newPlayer();
+        Player opponent = newPlayer();
+        Battle battle = battleService.createWithFriend(
+                creator, opponent.getNickname(), new BigDecimal("100.00"), "Comida", null, true, null);
+
+        // 40 pagamentos de 5,00 contra um saldo de 100,00: só 20 cabem,
+        // os outros encontram a batalha já quitada
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            tasks.add(() -> battleService.addPayment(battle.getId(), opponent, new BigDecimal("5.00"), null));
+        }
+        Outcome outcome = race(tasks);
+
+        assertEquals(20, outcome.successes());
+        assertEquals(20, outcome.conflicts());
+        assertEquals(0, outcome.rejected());
+        assertEquals(0, outcome.errors());
+
+        Battle paid = battleRepository.findById(battle.getId()).orElseThrow();
+        assertEquals(BattleStatus.PAID, paid.getStatus());
+        assertEquals(0, paid.getRemainingAmount().signum());
+        assertEquals(20, battlePaymentRepository.findByBattleIdOrderByPaidAtAsc(battle.getId()).size());
+    }
+
+    @Test
+    void manyBattlesUnderContentionArePaidOnce() throws InterruptedException {
+        int battles = 200;
+        int contendersPerBattle = 4;
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < battles; i++) {
+            Player creator = newPlayer();
+            Player opponent = newPlayer();
+            UUID battleId = battleService.createWithFriend(
+                    creator, opponent.getNickname(), new BigDecimal("10.00"), "Comida", null, true, null).getId();
+            for (int c = 0; c < contendersPerBattle; c++) {
+                tasks.add(() -> battleService.markAsPaid(battleId, opponent));
+            }
+        }
+        Collections.shuffle(tasks);
+
+        Outcome outcome = race(tasks);
+
+        assertEquals(battles, outcome.successes());
+        assertEquals(battles * (contendersPerBattle - 1), outcome.conflicts());
+        assertEquals(0, outcome.errors());
+    }
+
+    /**
+     * Dispara todas as tarefas ao mesmo tempo (THREADS por vez) e conta os resultados
+     */
+    private Outcome race(List<Runnable> tasks) throws InterruptedException {
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (Runnable task : tasks) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    task.run();
+                    successes.incrementAndGet();
+                } catch (ConflictException e) {
+                    conflicts.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    rejected.incrementAndGet();
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(2, TimeUnit.MINUTES);
+        return new Outcome(successes.get(), conflicts.get(), rejected.get(), errors.get());
+    }
+
+    private Player newPlayer() {
+        String nickname = "p" + UUID.randomUUID().toString().substring(0, 8);
+        return playerRepository.save(new Player(nickname, BigDecimal.ZERO, "default"));
+    }
+
+    private record Outcome(int successes, int conflicts, int rejected, int errors) {}
+}
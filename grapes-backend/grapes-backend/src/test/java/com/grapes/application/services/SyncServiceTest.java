@@ -0,0 +1,60 @@
+package com.grapes.application.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.grapes.domain.model.SyncEntityType;
+import com.grapes.infrastructure.persistence.PlayerVersionRepository;
+
+/**
+ * Versões de sync: a primeira mudança de um player cria a linha de versão,
+ * e várias primeiras mudanças ao mesmo tempo não podem derrubar nenhuma.
+ */
+@SpringBootTest
+class SyncServiceTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private PlayerVersionRepository playerVersionRepository;
+
+    @Test
+    void concurrentFirstChangesAllSucceed() throws InterruptedException {
+        UUID playerId = UUID.randomUUID();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    syncService.recordChange(List.of(playerId), SyncEntityType.BATTLE, UUID.randomUUID(), false);
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.MINUTES);
+
+        assertEquals(0, errors.get());
+        assertEquals(THREADS, playerVersionRepository.findVersion(playerId).orElseThrow());
+    }
+}
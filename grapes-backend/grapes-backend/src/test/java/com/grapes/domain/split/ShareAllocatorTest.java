@@ -0,0 +1,107 @@
+package com.grapes.domain.split;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.grapes.domain.model.SplitMode;
+
+/**
+ * Divisão em centavos pelo método do maior resto: a soma das partes é
+ * sempre o total e os centavos que sobram têm destino determinístico.
+ */
+class ShareAllocatorTest {
+
+    @Test
+    void equalSplitGivesLeftoverCentsToFirstParts() {
+        assertEquals(amounts("33.34", "33.33", "33.33"),
+                ShareAllocator.allocate(SplitMode.EQUAL, new BigDecimal("100.00"), null, 3));
+        assertEquals(amounts("0.02", "0.02", "0.01", "0.01"),
+                ShareAllocator.allocate(SplitMode.EQUAL, new BigDecimal("0.06"), null, 4));
+    }
+
+    @Test
+    void percentageSplitGivesLeftoverCentToLargestRemainder() {
+        // Exatos: 30,2 / 30,3 / 39,5 centavos → o centavo que sobra vai para o último
+        assertEquals(amounts("0.30", "0.30", "0.40"), ShareAllocator.allocate(
+                SplitMode.PERCENTAGE, new BigDecimal("1.00"), amounts("30.2", "30.3", "39.5"), 3));
+
+        // Exatos: 333,3 / 333,3 / 333,4 centavos
+        assertEquals(amounts("3.33", "3.33", "3.34"), ShareAllocator.allocate(
+                SplitMode.PERCENTAGE, new BigDecimal("10.00"), amounts("33.33", "33.33", "33.34"), 3));
+    }
+
+    @Test
+    void percentageTiesGoToFirstPosition() {
+        // Exatos: 1,5 / 1,5 / 7 centavos → empate entre os dois primeiros
+        assertEquals(amounts("0.02", "0.01", "0.07"), ShareAllocator.allocate(
+                SplitMode.PERCENTAGE, new BigDecimal("0.10"), amounts("15", "15", "70"), 3));
+
+        // Exatos: 2,5 centavos cada → os dois centavos que sobram vão para os dois primeiros
+        assertEquals(amounts("0.03", "0.03", "0.02", "0.02"), ShareAllocator.allocate(
+                SplitMode.PERCENTAGE, new BigDecimal("0.10"), amounts("25", "25", "25", "25"), 4));
+    }
+
+    @Test
+    void partsAlwaysAddUpToTotal() {
+        Random random = new Random(42);
+        for (int round = 0; round < 1_000; round++) {
+            BigDecimal total = BigDecimal.valueOf(1 + random.nextInt(1_000_000), 2);
+            int parts = 1 + random.nextInt(12);
+
+            assertEquals(total, sum(ShareAllocator.allocate(SplitMode.EQUAL, total, null, parts)));
+            assertEquals(total, sum(ShareAllocator.allocate(
+                    SplitMode.PERCENTAGE, total, randomPercentages(random, parts), parts)));
+        }
+    }
+
+    @Test
+    void exactSplitKeepsInformedAmounts() {
+        assertEquals(amounts("10.00", "15.50", "4.50"), ShareAllocator.allocate(
+                SplitMode.EXACT, new BigDecimal("30.00"), amounts("10", "15.5", "4.50"), 3));
+    }
+
+    @Test
+    void rejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> ShareAllocator.allocate(
+                SplitMode.PERCENTAGE, new BigDecimal("10.00"), amounts("50", "49.99"), 2));
+        assertThrows(IllegalArgumentException.class, () -> ShareAllocator.allocate(
+                SplitMode.EXACT, new BigDecimal("10.00"), amounts("5.00", "4.99"), 2));
+        assertThrows(IllegalArgumentException.class, () -> ShareAllocator.allocate(
+                SplitMode.EQUAL, new BigDecimal("10.001"), null, 2));
+        assertThrows(IllegalArgumentException.class, () -> ShareAllocator.allocate(
+                SplitMode.EQUAL, BigDecimal.ZERO, null, 2));
+        assertThrows(IllegalArgumentException.class, () -> ShareAllocator.allocate(
+                SplitMode.PERCENTAGE, new BigDecimal("10.00"), amounts("100"), 2));
+    }
+
+    /**
+     * Porcentagens com 2 casas que somam exatamente 100
+     */
+    private static List<BigDecimal> randomPercentages(Random random, int parts) {
+        List<BigDecimal> percentages = new ArrayList<>(parts);
+        int left = 10_000;
+        for (int i = 0; i < parts - 1; i++) {
+            int share = random.nextInt(left + 1);
+            percentages.add(BigDecimal.valueOf(share, 2));
+            left -= share;
+        }
+        percentages.add(BigDecimal.valueOf(left, 2));
+        return percentages;
+    }
+
+    private static BigDecimal sum(List<BigDecimal> values) {
+        return values.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static List<BigDecimal> amounts(String... values) {
+        return Stream.of(values).map(BigDecimal::new).toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.grapes.infrastructure.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.grapes.application.dto.BatchRequest;
+import com.grapes.application.dto.BatchResponse;
+import com.grapes.domain.model.Player;
+import com.grapes.domain.model.User;
+import com.grapes.infrastructure.persistence.FriendshipRepository;
+import com.grapes.infrastructure.persistence.PlayerRepository;
+import com.grapes.infrastructure.persistence.UserRepository;
+
+/**
+ * Lote atômico: quando um item falha, o que os itens anteriores gravaram
+ * é desfeito junto.
+ */
+@SpringBootTest
+class BatchControllerTest {
+
+    @Autowired
+    private BatchController batchController;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private FriendshipRepository friendshipRepository;
+
+    @Test
+    void failedItemRollsBackPreviousItems() {
+        Player player = newPlayer();
+        Player friend = newPlayer();
+
+        BatchResponse response = batch(player.getUser(),
+                new BatchRequest.Operation("POST", "/friends/request/" + friend.getNickname(), null),
+                new BatchRequest.Operation("POST", "/friends/request/ninguem-" + UUID.randomUUID(), null));
+
+        assertFalse(response.committed());
+        assertEquals(201, response.results().get(0).status());
+        assertTrue(response.results().get(1).status() >= 400);
+        assertTrue(friendshipRepository.findBetween(player, friend).isEmpty());
+    }
+
+    @Test
+    void successfulBatchCommitsEveryItem() {
+        Player player = newPlayer();
+        Player first = newPlayer();
+        Player second = newPlayer();
+
+        BatchResponse response = batch(player.getUser(),
+                new BatchRequest.Operation("POST", "/friends/request/" + first.getNickname(), null),
+                new BatchRequest.Operation("POST", "/friends/request/" + second.getNickname(), null));
+
+        assertTrue(response.committed());
+        assertTrue(friendshipRepository.findBetween(player, first).isPresent());
+        assertTrue(friendshipRepository.findBetween(player, second).isPresent());
+    }
+
+    private BatchResponse batch(User user, BatchRequest.Operation... operations) {
+        BatchRequest request = new BatchRequest(true, List.of(operations));
+        return (BatchResponse) batchController.batch(user, request, new MockHttpServletRequest()).getBody();
+    }
+
+    private Player newPlayer() {
+        String nickname = "p" + UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(new User(nickname + "@grapes.test", "x"));
+        Player player = new Player(nickname, BigDecimal.ZERO, "default");
+        player.setUser(user);
+        return playerRepository.save(player);
+    }
+}
@@ -0,0 +1,177 @@
+package com.grapes.infrastructure.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Diário de auditoria em disco: reabertura, registro cortado no fim,
+ * rotação de segmentos e compactação.
+ */
+class AuditJournalTest {
+
+    // Registros que cabem num segmento de 1 MB
+    private static final int CAPACITY = 1024 * 1024 / AuditRecord.SIZE;
+
+    private static final UUID CREATOR = UUID.randomUUID();
+
+    @TempDir
+    private Path dir;
+
+    private final List<AuditJournal> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeJournals() {
+        opened.forEach(AuditJournal::shutdown);
+    }
+
+    @Test
+    void reopenRebuildsSequenceAndIndex() {
+        UUID battleId = UUID.randomUUID();
+        UUID creatorId = UUID.randomUUID();
+        AuditJournal journal = open(1);
+        journal.appendAfterCommit(entry(AuditAction.CREATED, battleId, creatorId));
+        journal.appendAfterCommit(entry(AuditAction.PAID, battleId, creatorId));
+        journal.appendAfterCommit(entry(AuditAction.CREATED, UUID.randomUUID(), creatorId));
+        close(journal);
+
+        AuditJournal reopened = open(1);
+        assertEquals(List.of(1L, 2L), sequences(reopened.history(battleId)));
+        assertEquals(List.of(3L, 2L, 1L), sequences(reopened.historyOfPlayer(creatorId, 10)));
+
+        reopened.appendAfterCommit(entry(AuditAction.DELETED, battleId, creatorId));
+        assertEquals(List.of(1L, 2L, 4L), sequences(reopened.history(battleId)));
+    }
+
+    @Test
+    void corruptedTrailingRecordIsTruncatedAndItsSlotReused() throws IOException {
+        UUID battleId = UUID.randomUUID();
+        AuditJournal journal = open(1);
+        for (int i = 0; i < 3; i++) {
+            journal.appendAfterCommit(entry(AuditAction.PAYMENT, battleId, UUID.randomUUID()));
+        }
+        close(journal);
+
+        // Queda no meio da escrita do 3º registro
+        try (FileChannel file = FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+            file.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}), 2L * AuditRecord.SIZE + 40);
+        }
+
+        AuditJournal reopened = open(1);
+        assertEquals(List.of(1L, 2L), sequences(reopened.history(battleId)));
+
+        reopened.appendAfterCommit(entry(AuditAction.PAID, battleId, UUID.randomUUID()));
+        assertEquals(List.of(1L, 2L, 3L), sequences(reopened.history(battleId)));
+        close(reopened);
+
+        List<AuditRecord> history = open(1).history(battleId);
+        assertEquals(List.of(1L, 2L, 3L), sequences(history));
+        assertEquals(AuditAction.PAID, history.get(2).entry().action());
+    }
+
+    @Test
+    void fullSegmentRotatesToNextFile() throws IOException {
+        UUID battleId = UUID.randomUUID();
+        AuditJournal journal = open(1);
+        appendMany(journal, CAPACITY - 1);
+        journal.appendAfterCommit(entry(AuditAction.CREATED, battleId, UUID.randomUUID()));
+        journal.appendAfterCommit(entry(AuditAction.PAID, battleId, UUID.randomUUID()));
+
+        List<Path> files = segmentFiles();
+        assertEquals(2, files.size());
+        assertEquals(String.format("audit-%020d.log", CAPACITY + 1), files.get(1).getFileName().toString());
+        assertEquals(List.of((long) CAPACITY, CAPACITY + 1L), sequences(journal.history(battleId)));
+    }
+
+    @Test
+    void compactTrimsSealedSegments() throws IOException {
+        AuditJournal journal = open(1);
+        appendMany(journal, 10);
+        close(journal);
+
+        // Segmento maior na nova configuração: o antigo, pela metade, fica selado
+        AuditJournal reopened = open(2);
+        reopened.appendAfterCommit(entry(AuditAction.CREATED, UUID.randomUUID(), UUID.randomUUID()));
+        reopened.compact();
+
+        List<Path> files = segmentFiles();
+        assertEquals(2, files.size());
+        assertEquals(10L * AuditRecord.SIZE, Files.size(files.get(0)));
+        assertEquals(10, reopened.historyOfPlayer(CREATOR, 100).size());
+    }
+
+    @Test
+    void compactDropsExpiredSegmentsAndPrunesIndex() throws Exception {
+        UUID oldBattle = UUID.randomUUID();
+        UUID newBattle = UUID.randomUUID();
+        AuditJournal journal = open(1);
+        journal.appendAfterCommit(entry(AuditAction.CREATED, oldBattle, CREATOR));
+        appendMany(journal, CAPACITY - 1);
+        journal.appendAfterCommit(entry(AuditAction.CREATED, newBattle, CREATOR));
+
+        Thread.sleep(5);
+        ReflectionTestUtils.setField(journal, "retentionDays", 0L);
+        journal.compact();
+
+        assertEquals(1, segmentFiles().size());
+        assertTrue(journal.history(oldBattle).isEmpty());
+        assertEquals(1, journal.history(newBattle).size());
+        assertEquals(1, journal.historyOfPlayer(CREATOR, 100).size());
+
+        Map<?, ?> byBattle = (Map<?, ?>) ReflectionTestUtils.getField(journal, "byBattle");
+        assertFalse(byBattle.containsKey(oldBattle));
+        assertTrue(byBattle.containsKey(newBattle));
+    }
+
+    private AuditJournal open(int segmentSizeMb) {
+        AuditJournal journal = new AuditJournal(dir, segmentSizeMb, 10);
+        ReflectionTestUtils.setField(journal, "retentionDays", 1825L);
+        opened.add(journal);
+        return journal;
+    }
+
+    private void close(AuditJournal journal) {
+        journal.shutdown();
+        opened.remove(journal);
+    }
+
+    private static void appendMany(AuditJournal journal, int count) {
+        List<AuditEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(entry(AuditAction.CREATED, UUID.randomUUID(), CREATOR));
+        }
+        journal.appendAfterCommit(entries);
+    }
+
+    private static AuditEntry entry(AuditAction action, UUID battleId, UUID creatorId) {
+        return new AuditEntry(action, battleId, creatorId, creatorId, null, new BigDecimal("10.00"));
+    }
+
+    private static List<Long> sequences(List<AuditRecord> records) {
+        return records.stream().map(AuditRecord::sequence).toList();
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.grapes.infrastructure.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Formato binário do registro de auditoria: o que é gravado volta igual,
+ * e um registro corrompido ou fora de sequência não é lido.
+ */
+class AuditRecordTest {
+
+    @Test
+    void encodeDecodeRoundTrip() {
+        AuditEntry entry = new AuditEntry(AuditAction.PAYMENT, UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("12.34"));
+        byte[] bytes = new byte[AuditRecord.SIZE];
+        AuditRecord.encode(7, 1_700_000_000_123L, entry, bytes);
+
+        assertEquals(new AuditRecord(7, Instant.ofEpochMilli(1_700_000_000_123L), entry),
+                AuditRecord.decode(ByteBuffer.wrap(bytes), 0, 7));
+    }
+
+    @Test
+    void missingOpponentAndAmountRoundTrip() {
+        AuditEntry entry = new AuditEntry(AuditAction.DELETED, UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), null, null);
+        byte[] bytes = new byte[2 * AuditRecord.SIZE];
+        byte[] record = new byte[AuditRecord.SIZE];
+        AuditRecord.encode(42, 0, entry, record);
+        System.arraycopy(record, 0, bytes, AuditRecord.SIZE, AuditRecord.SIZE);
+
+        assertEquals(entry, AuditRecord.decode(ByteBuffer.wrap(bytes), AuditRecord.SIZE, 42).entry());
+    }
+
+    @Test
+    void corruptedOrUnexpectedRecordIsNotRead() {
+        AuditEntry entry = new AuditEntry(AuditAction.CREATED, UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), null, new BigDecimal("5.00"));
+        byte[] bytes = new byte[AuditRecord.SIZE];
+        AuditRecord.encode(3, 1000, entry, bytes);
+
+        assertNull(AuditRecord.decode(ByteBuffer.wrap(bytes), 0, 4));
+
+        bytes[30] ^= 1;
+        assertNull(AuditRecord.decode(ByteBuffer.wrap(bytes), 0, 3));
+
+        // Área zerada (fim dos dados do segmento)
+        assertNull(AuditRecord.decode(ByteBuffer.wrap(new byte[AuditRecord.SIZE]), 0, 1));
+    }
+}
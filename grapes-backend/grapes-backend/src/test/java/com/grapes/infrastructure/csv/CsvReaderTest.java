@@ -0,0 +1,88 @@
+package com.grapes.infrastructure.csv;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Leitor de CSV: aspas, quebras de linha dentro de campos, CRLF,
+ * separador ";" e BOM do Excel.
+ */
+class CsvReaderTest {
+
+    @Test
+    void quotedFieldsKeepSeparatorsAndEscapedQuotes() throws IOException {
+        try (CsvReader csv = reader("a,b,c\n\"Pizza, cerveja\",\"diz \"\"oi\"\"\",\"\"\n")) {
+            assertEquals(List.of("a", "b", "c"), csv.readHeader());
+            assertEquals(List.of("Pizza, cerveja", "diz \"oi\"", ""), csv.readRecord());
+            assertNull(csv.readRecord());
+        }
+    }
+
+    @Test
+    void embeddedNewlinesAdvanceRecordLine() throws IOException {
+        try (CsvReader csv = reader("a,b\n1,\"linha 1\nlinha 2\nlinha 3\"\n2,x\n")) {
+            csv.readHeader();
+            assertEquals(1, csv.recordLine());
+
+            assertEquals(List.of("1", "linha 1\nlinha 2\nlinha 3"), csv.readRecord());
+            assertEquals(2, csv.recordLine());
+
+            assertEquals(List.of("2", "x"), csv.readRecord());
+            assertEquals(5, csv.recordLine());
+        }
+    }
+
+    @Test
+    void crlfLineEndings() throws IOException {
+        try (CsvReader csv = reader("a,b\r\n1,2\r\n\"3\",4\r\n")) {
+            assertEquals(List.of("a", "b"), csv.readHeader());
+            assertEquals(List.of("1", "2"), csv.readRecord());
+            assertEquals(List.of("3", "4"), csv.readRecord());
+            assertNull(csv.readRecord());
+        }
+    }
+
+    @Test
+    void semicolonHeaderSwitchesSeparator() throws IOException {
+        try (CsvReader csv = reader("amount;description\n10,50;\"a;b\"\n")) {
+            assertEquals(List.of("amount", "description"), csv.readHeader());
+            assertEquals(List.of("10,50", "a;b"), csv.readRecord());
+        }
+    }
+
+    @Test
+    void lastLineWithoutNewline() throws IOException {
+        try (CsvReader csv = reader("a,b\n1,2\n3,\"4\"")) {
+            csv.readHeader();
+            assertEquals(List.of("1", "2"), csv.readRecord());
+            assertEquals(List.of("3", "4"), csv.readRecord());
+            assertEquals(3, csv.recordLine());
+            assertNull(csv.readRecord());
+        }
+    }
+
+    @Test
+    void bomIsDroppedFromHeader() throws IOException {
+        try (CsvReader csv = reader("\uFEFF\"amount\";description\n1;x\n")) {
+            assertEquals(List.of("amount", "description"), csv.readHeader());
+            assertEquals(List.of("1", "x"), csv.readRecord());
+        }
+    }
+
+    @Test
+    void emptyFileHasNoHeader() throws IOException {
+        try (CsvReader csv = reader("")) {
+            assertNull(csv.readHeader());
+        }
+    }
+
+    private static CsvReader reader(String content) {
+        return new CsvReader(new StringReader(content));
+    }
+}
@@ -0,0 +1,202 @@
+package com.grapes.infrastructure.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.grapes.domain.events.DomainEvent;
+import com.grapes.domain.events.XpGained;
+
+/**
+ * Barramento de eventos: entrega só depois do commit, fila cheia conforme
+ * o Overflow do handler e um handler que falha não afeta os outros.
+ */
+class DomainEventBusTest {
+
+    private DomainEventBus bus;
+
+    @AfterEach
+    void stopBus() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (bus != null) {
+            bus.shutdown();
+        }
+    }
+
+    @Test
+    void deliversOnlyAfterCommit() throws InterruptedException {
+        Recorder recorder = new Recorder("recorder", DomainEventHandler.Overflow.DROP);
+        bus = new DomainEventBus(List.of(recorder), 10);
+
+        // Rollback: as sincronizações são descartadas sem afterCommit
+        TransactionSynchronizationManager.initSynchronization();
+        bus.publish(event(1));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.initSynchronization();
+        bus.publish(event(2));
+        assertTrue(recorder.received.isEmpty());
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertEquals(2, recorder.next().amount());
+        await(() -> stats("recorder").handled() == 1);
+        assertTrue(recorder.received.isEmpty());
+    }
+
+    @Test
+    void fullQueueDropsEvents() throws InterruptedException {
+        Recorder blocked = new Recorder("drop", DomainEventHandler.Overflow.DROP);
+        bus = new DomainEventBus(List.of(blocked), 1);
+
+        fillQueue(blocked);
+        bus.publish(event(3));
+
+        HandlerStats stats = stats("drop");
+        assertEquals(1, stats.dropped());
+        assertEquals(0, stats.inline());
+
+        blocked.release.countDown();
+        await(() -> stats("drop").handled() == 2);
+        assertEquals(List.of(1L, 2L), List.of(blocked.next().amount(), blocked.next().amount()));
+    }
+
+    @Test
+    void fullQueueRunsInlineOnPublisherThread() throws InterruptedException {
+        Recorder blocked = new Recorder("inline", DomainEventHandler.Overflow.RUN_INLINE);
+        bus = new DomainEventBus(List.of(blocked), 1);
+
+        fillQueue(blocked);
+        bus.publish(event(3));
+
+        HandlerStats stats = stats("inline");
+        assertEquals(0, stats.dropped());
+        assertEquals(1, stats.inline());
+        assertEquals(1, stats.handled());
+        assertTrue(blocked.threads.contains(Thread.currentThread().getName()));
+
+        blocked.release.countDown();
+        await(() -> stats("inline").handled() == 3);
+    }
+
+    @Test
+    void throwingHandlerDoesNotAffectOthers() throws InterruptedException {
+        Recorder healthy = new Recorder("healthy", DomainEventHandler.Overflow.DROP);
+        Recorder failing = new Recorder("failing", DomainEventHandler.Overflow.DROP) {
+            @Override
+            public void handle(DomainEvent event) {
+                super.handle(event);
+                if (((XpGained) event).amount() == 1) {
+                    throw new IllegalStateException("falha simulada");
+                }
+            }
+        };
+        bus = new DomainEventBus(List.of(failing, healthy), 10);
+
+        bus.publish(event(1));
+        bus.publish(event(2));
+
+        await(() -> stats("failing").handled() + stats("failing").failed() == 2 && stats("healthy").handled() == 2);
+        assertEquals(1, stats("failing").failed());
+        assertEquals(1, stats("failing").handled());
+        assertEquals(0, stats("healthy").failed());
+    }
+
+    /**
+     * Trava o worker no evento 1 e deixa o evento 2 ocupando a única vaga da fila
+     */
+    private void fillQueue(Recorder blocked) throws InterruptedException {
+        blocked.block = true;
+        bus.publish(event(1));
+        assertTrue(blocked.started.await(5, TimeUnit.SECONDS));
+        bus.publish(event(2));
+    }
+
+    private HandlerStats stats(String handler) {
+        return bus.stats().stream().filter(s -> s.handler().equals(handler)).findFirst().orElseThrow();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condição não atingida a tempo");
+            Thread.sleep(5);
+        }
+    }
+
+    private static XpGained event(long amount) {
+        return new XpGained(UUID.randomUUID(), "ana", amount, 0, 1);
+    }
+
+    /**
+     * Guarda os eventos recebidos e a thread que rodou cada um
+     */
+    private static class Recorder implements DomainEventHandler {
+
+        final BlockingQueue<XpGained> received = new LinkedBlockingQueue<>();
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile boolean block;
+
+        private final String name;
+        private final Overflow overflow;
+
+        Recorder(String name, Overflow overflow) {
+            this.name = name;
+            this.overflow = overflow;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public Set<Class<? extends DomainEvent>> eventTypes() {
+            return Set.of(XpGained.class);
+        }
+
+        @Override
+        public Overflow overflow() {
+            return overflow;
+        }
+
+        @Override
+        public void handle(DomainEvent event) {
+            threads.add(Thread.currentThread().getName());
+            received.add((XpGained) event);
+            if (block) {
+                block = false;
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        XpGained next() throws InterruptedException {
+            XpGained event = received.poll(5, TimeUnit.SECONDS);
+            assertTrue(event != null, "evento não entregue");
+            return event;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.grapes.infrastructure.feed;
+
+import static com.grapes.infrastructure.feed.FeedRingTest.ids;
+import static com.grapes.infrastructure.feed.FeedRingTest.item;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Feed em memória: quando a página vem da memória, quando precisa ir ao
+ * banco (null) e como os rings das celebridades entram na leitura.
+ */
+class ActivityFeedTest {
+
+    private static final int RING_SIZE = 3;
+    private static final int CELEBRITY_THRESHOLD = 3;
+
+    private final ActivityFeed activityFeed = new ActivityFeed(100, RING_SIZE, CELEBRITY_THRESHOLD);
+
+    @Test
+    void feedNotFilledYetGoesToDatabase() {
+        ActivityFeed.Feed feed = activityFeed.register(UUID.randomUUID(), Set.of());
+        assertNull(activityFeed.page(feed, Long.MAX_VALUE, 10));
+
+        activityFeed.fill(feed, List.of(item(2), item(1)));
+        assertEquals(List.of(2L, 1L), ids(activityFeed.page(feed, Long.MAX_VALUE, 10)));
+    }
+
+    @Test
+    void pageBelowWhatWasLoadedGoesToDatabase() {
+        ActivityFeed.Feed feed = activityFeed.register(UUID.randomUUID(), Set.of());
+        // O banco devolveu ringSize atividades: pode haver mais antigas lá
+        activityFeed.fill(feed, List.of(item(10), item(9), item(8)));
+
+        assertEquals(List.of(10L, 9L, 8L), ids(activityFeed.page(feed, Long.MAX_VALUE, 3)));
+        assertEquals(List.of(10L, 9L), ids(activityFeed.page(feed, Long.MAX_VALUE, 2)));
+        assertNull(activityFeed.page(feed, Long.MAX_VALUE, 4));
+        assertNull(activityFeed.page(feed, 9, 2));
+    }
+
+    @Test
+    void celebrityRingIsMergedIntoFriendsPages() {
+        UUID celebrity = UUID.randomUUID();
+        UUID friend = UUID.randomUUID();
+        UUID reader = UUID.randomUUID();
+        UUID stranger = UUID.randomUUID();
+
+        ActivityFeed.Feed readerFeed = activityFeed.register(reader, Set.of(celebrity, friend));
+        ActivityFeed.Feed strangerFeed = activityFeed.register(stranger, Set.of(friend));
+        activityFeed.fill(readerFeed, List.of());
+        activityFeed.fill(strangerFeed, List.of());
+
+        Set<UUID> celebrityFriends = Set.of(reader, UUID.randomUUID(), UUID.randomUUID());
+        activityFeed.fanOut(item(1, celebrity), celebrityFriends);
+        activityFeed.fanOut(item(2, friend), Set.of(reader, stranger));
+        activityFeed.fanOut(item(3, celebrity), celebrityFriends);
+
+        assertEquals(List.of(3L, 2L, 1L), ids(activityFeed.page(readerFeed, Long.MAX_VALUE, 10)));
+        assertEquals(List.of(3L, 2L), ids(activityFeed.page(readerFeed, Long.MAX_VALUE, 2)));
+        assertEquals(List.of(2L), ids(activityFeed.page(strangerFeed, Long.MAX_VALUE, 10)));
+    }
+}
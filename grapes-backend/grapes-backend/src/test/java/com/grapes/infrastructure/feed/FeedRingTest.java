@@ -0,0 +1,64 @@
+package com.grapes.infrastructure.feed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.grapes.domain.model.ActivityType;
+
+/**
+ * Buffer circular do feed: ordem por id mesmo com chegadas trocadas, e
+ * evictedUpTo marcando o que já saiu.
+ */
+class FeedRingTest {
+
+    @Test
+    void outOfOrderItemsAreKeptInIdOrder() {
+        FeedRing ring = new FeedRing(5);
+        for (long id : new long[] {1, 3, 2, 5, 4, 3}) {
+            ring.add(item(id));
+        }
+
+        assertEquals(5, ring.size());
+        assertEquals(List.of(5L, 4L, 3L, 2L, 1L), ids(ring.page(Long.MAX_VALUE, 10)));
+        assertEquals(List.of(3L, 2L), ids(ring.page(4, 2)));
+        assertEquals(0, ring.evictedUpTo());
+    }
+
+    @Test
+    void fullRingEvictsOldestAndRecordsIt() {
+        FeedRing ring = new FeedRing(3);
+        for (long id = 1; id <= 5; id++) {
+            ring.add(item(id));
+        }
+        assertEquals(List.of(5L, 4L, 3L), ids(ring.page(Long.MAX_VALUE, 10)));
+        assertEquals(2, ring.evictedUpTo());
+
+        // Fora de ordem num ring cheio: entra no meio e tira a mais antiga
+        ring.add(item(7));
+        ring.add(item(6));
+        assertEquals(List.of(7L, 6L, 5L), ids(ring.page(Long.MAX_VALUE, 10)));
+        assertEquals(4, ring.evictedUpTo());
+
+        // Mais antiga que tudo: não entra
+        ring.add(item(1));
+        assertEquals(List.of(7L, 6L, 5L), ids(ring.page(Long.MAX_VALUE, 10)));
+        assertEquals(4, ring.evictedUpTo());
+    }
+
+    static FeedItem item(long id) {
+        return item(id, UUID.randomUUID());
+    }
+
+    static FeedItem item(long id, UUID actorId) {
+        return new FeedItem(id, actorId, "ana", ActivityType.LEVEL_UP, null, 2, LocalDateTime.now());
+    }
+
+    static List<Long> ids(List<FeedItem> items) {
+        return items.stream().map(FeedItem::id).toList();
+    }
+}
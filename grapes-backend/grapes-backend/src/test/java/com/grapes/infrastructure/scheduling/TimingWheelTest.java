@@ -0,0 +1,96 @@
+package com.grapes.infrastructure.scheduling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Roda de tempo com relógio controlado pelo teste: cada item vence
+ * exatamente no seu tick, em qualquer nível da roda.
+ */
+class TimingWheelTest {
+
+    @Test
+    void itemsDueInsideLevelZero() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 8, 0);
+        assertTrue(wheel.schedule(2000, "a"));
+        assertTrue(wheel.schedule(2500, "b"));   // Arredonda para cima: tick 3
+
+        assertEquals(List.of(), wheel.advanceTo(1999));
+        assertEquals(List.of("a"), wheel.advanceTo(2999));
+        assertEquals(List.of("b"), wheel.advanceTo(3000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void itemsCrossLevelOneAndTwoBoundaries() {
+        // 4 baldes: nível 0 cobre 4 ticks, nível 1 cobre 16, nível 2 cobre 64
+        TimingWheel<Long> wheel = new TimingWheel<>(1, 4, 3);
+        long[] dues = {4, 5, 7, 8, 15, 16, 17, 19, 20, 31, 64, 67, 68, 70, 100, 200};
+        for (long due : dues) {
+            assertTrue(wheel.schedule(due, due));
+        }
+
+        for (long now = 4; now <= 200; now++) {
+            List<Long> expired = wheel.advanceTo(now);
+            for (Long due : expired) {
+                assertEquals(due, now, "venceu fora do tick");
+            }
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void everyItemFiresAtItsOwnTick() {
+        Random random = new Random(7);
+        long start = random.nextInt(1_000);
+        TimingWheel<Integer> wheel = new TimingWheel<>(1, 8, start);
+        Map<Integer, Long> dueById = new HashMap<>();
+        for (int id = 0; id < 2_000; id++) {
+            long due = start + 1 + random.nextInt(5_000);
+            dueById.put(id, due);
+            wheel.schedule(due, id);
+        }
+
+        Map<Integer, Long> firedAt = new HashMap<>();
+        for (long now = start + 1; now <= start + 5_000; now++) {
+            for (Integer id : wheel.advanceTo(now)) {
+                firedAt.put(id, now);
+            }
+        }
+        assertEquals(dueById, firedAt);
+    }
+
+    @Test
+    void pastItemsAreRejected() {
+        TimingWheel<String> wheel = new TimingWheel<>(1000, 8, 10_000);
+        assertFalse(wheel.schedule(10_000, "agora"));
+        assertFalse(wheel.schedule(5_000, "passado"));
+        assertTrue(wheel.schedule(10_001, "futuro"));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void largeJumpReturnsEverythingInDueOrder() {
+        TimingWheel<Long> wheel = new TimingWheel<>(1, 4, 0);
+        List<Long> dues = new ArrayList<>();
+        for (long due = 1; due <= 10_000; due += 37) {
+            dues.add(due);
+        }
+        for (int i = dues.size() - 1; i >= 0; i--) {
+            wheel.schedule(dues.get(i), dues.get(i));
+        }
+
+        assertEquals(dues, wheel.advanceTo(1_000_000));
+        assertEquals(0, wheel.size());
+        assertEquals(List.of(), wheel.advanceTo(2_000_000));
+    }
+}
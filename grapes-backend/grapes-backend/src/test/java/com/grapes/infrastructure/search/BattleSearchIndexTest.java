@@ -0,0 +1,66 @@
+package com.grapes.infrastructure.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.grapes.domain.model.Battle;
+import com.grapes.domain.model.BattleStatus;
+import com.grapes.domain.model.Category;
+import com.grapes.domain.model.Player;
+import com.grapes.infrastructure.persistence.BattleParties;
+
+/**
+ * Índice de busca: mudanças que chegam enquanto o índice do jogador está
+ * sendo montado do banco não podem se perder.
+ */
+class BattleSearchIndexTest {
+
+    private final BattleSearchIndex index = new BattleSearchIndex(100);
+    private final UUID playerId = UUID.randomUUID();
+
+    @Test
+    void battlePaidWhileLoadingIsIndexedAsPaid() {
+        Battle battle = battle("Pizza de sexta");
+
+        List<BattleSearchIndex.Hit> hits = index.search(playerId, "pizza", BattleStatus.PAID, null, null, 10, () -> {
+            // Índice já registrado, leitura do banco (anterior ao pagamento) ainda não aplicada
+            index.markPaid(new BattleParties(battle.getId(), playerId, null));
+            return List.of(battle);
+        });
+
+        assertEquals(List.of(battle.getId()), hits.stream().map(BattleSearchIndex.Hit::battleId).toList());
+        assertTrue(index.search(playerId, "pizza", BattleStatus.PENDING, null, null, 10, List::of).isEmpty());
+    }
+
+    @Test
+    void battleRemovedWhileLoadingStaysOut() {
+        Battle removed = battle("Pizza de sexta");
+        Battle kept = battle("Pizza de sábado");
+
+        List<BattleSearchIndex.Hit> hits = index.search(playerId, "pizza", null, null, null, 10, () -> {
+            index.remove(new BattleParties(removed.getId(), playerId, null));
+            return List.of(removed, kept);
+        });
+
+        assertEquals(List.of(kept.getId()), hits.stream().map(BattleSearchIndex.Hit::battleId).toList());
+    }
+
+    private static Battle battle(String description) {
+        Battle battle = new Battle();
+        battle.setId(UUID.randomUUID());
+        battle.setCreator(new Player("ana", BigDecimal.ZERO, "default"));
+        battle.setExternalName("Bruno");
+        battle.setAmount(new BigDecimal("10.00"));
+        battle.setRemainingAmount(new BigDecimal("10.00"));
+        battle.setCategory(new Category("Comida"));
+        battle.setDescription(description);
+        battle.setStatus(BattleStatus.PENDING);
+        return battle;
+    }
+}